@@ -29,6 +29,10 @@ import org.vosao.entity.MessageEntity;
 
 public interface MessageBusiness {
 	
+	/**
+	 * Get messages for language merged with default language messages.
+	 * @return immutable bundle shared by requests.
+	 */
 	Map<String, String> getBundle(final String languageCode);
 	
 	List<String> validateBeforeUpdate(final MessageEntity entity);
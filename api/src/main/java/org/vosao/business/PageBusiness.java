@@ -22,6 +22,8 @@
 
 package org.vosao.business;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Date;
 import java.util.List;
 
@@ -113,6 +115,16 @@ public interface PageBusiness {
 	 * @return rendered html.
 	 */
 	String render(final PageEntity page, final String languageCode);
+
+	/**
+	 * Render page with page bound template directly to writer. With applied 
+	 * postProcessing and using PageRenderDecorator.
+	 * @param page - page to render.
+	 * @param languageCode - language code.
+	 * @param out - writer to render to.
+	 */
+	void render(final PageEntity page, final String languageCode, 
+			final Writer out) throws IOException;
 	
 	/**
 	 * Render page using provided template. With applied postProcessing and 
@@ -125,6 +137,10 @@ public interface PageBusiness {
 	String render(final PageEntity page, final String tempate, 
 			final String languageCode);
 
+	/**
+	 * Create rendering context chained to shared velocity tools, services 
+	 * and plugins. Values put to created context are not shared.
+	 */
 	VelocityContext createContext(final String languageCode, PageEntity page);
 	
 	PageRenderDecorator createPageRenderDecorator(final PageEntity page,
@@ -71,6 +71,16 @@ public enum Topic {
 
 	PAGE_CACHE_CLEAR,
 	
+	/**
+	 * PageCacheMessage
+	 */
+	PAGE_CACHE_REFRESH,
+	
+	/**
+	 * PageCacheWarmMessage
+	 */
+	PAGE_CACHE_WARM,
+	
 	PAGE_PUBLISH_CRON,
 	
 	/**
@@ -78,6 +88,11 @@ public enum Topic {
 	 */
 	REINDEX,
 	
+	/**
+	 * SimpleMessage: message -> language code. Search index compaction.
+	 */
+	INDEX_COMPACT,
+	
 	/**
 	 * SimpleMessage: message -> entity name
 	 */
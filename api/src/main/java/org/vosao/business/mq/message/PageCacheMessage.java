@@ -0,0 +1,51 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.mq.message;
+
+import org.vosao.business.mq.QueueSpeed;
+import org.vosao.business.mq.Topic;
+
+/**
+ * Request for background rendering of stale cached page.
+ */
+public class PageCacheMessage extends SimpleMessage {
+
+	private String url;
+	private String language;
+
+	public PageCacheMessage(String url, String language) {
+		super(Topic.PAGE_CACHE_REFRESH);
+		setSpeed(QueueSpeed.HIGH);
+		this.url = url;
+		this.language = language;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public String getLanguage() {
+		return language;
+	}
+	
+}
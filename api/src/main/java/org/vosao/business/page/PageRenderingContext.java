@@ -9,6 +9,7 @@ public class PageRenderingContext {
 
 	private PageEntity page;
 	private Set<String> headContents = new HashSet<String>();
+	private boolean userSpecific;
 	
 	public PageEntity getPage() {
 		return page;
@@ -22,9 +23,22 @@ public class PageRenderingContext {
 		return headContents;
 	}
 	
+	/**
+	 * Rendered content depends on current user and can't be shared by 
+	 * users of the same permission class.
+	 */
+	public boolean isUserSpecific() {
+		return userSpecific;
+	}
+
+	public void setUserSpecific(boolean userSpecific) {
+		this.userSpecific = userSpecific;
+	}
+
 	public void clear() {
 		page = null;
 		headContents.clear();
+		userSpecific = false;
 	}
 	
 }
@@ -0,0 +1,130 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.common;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Request scoped cache state. Keeps values read from or written to cache 
+ * during request, keys waiting for next batch read and writes deferred till 
+ * request end. Lives in VosaoContext so it is not thread safe.
+ */
+public class RequestCache {
+
+	private boolean active;
+	private Map<Object, Object> values = new HashMap<Object, Object>();
+	private Set<Object> prefetchKeys = new LinkedHashSet<Object>();
+	private Map<Object, Object> writes = new LinkedHashMap<Object, Object>();
+
+	/**
+	 * Start request scope. Cache is used as request scoped only between 
+	 * begin() and end() calls.
+	 */
+	public void begin() {
+		clear();
+		active = true;
+	}
+
+	public void end() {
+		clear();
+		active = false;
+	}
+	
+	public boolean isActive() {
+		return active;
+	}
+	
+	public void clear() {
+		values.clear();
+		prefetchKeys.clear();
+		writes.clear();
+	}
+	
+	public boolean contains(Object key) {
+		return values.containsKey(key);
+	}
+	
+	public Object get(Object key) {
+		return values.get(key);
+	}
+	
+	public void remember(Object key, Object value) {
+		values.put(key, value);
+	}
+
+	/**
+	 * Forget value and pending write for key.
+	 */
+	public void forget(Object key) {
+		values.remove(key);
+		writes.remove(key);
+		prefetchKeys.remove(key);
+	}
+	
+	/**
+	 * Register keys to be read with next batch read.
+	 */
+	public void prefetch(Collection keys) {
+		for (Object key : keys) {
+			if (!values.containsKey(key)) {
+				prefetchKeys.add(key);
+			}
+		}
+	}
+	
+	/**
+	 * Get and clear registered keys.
+	 */
+	public List<Object> takePrefetchKeys() {
+		List<Object> result = new ArrayList<Object>(prefetchKeys);
+		prefetchKeys.clear();
+		return result;
+	}
+
+	/**
+	 * Remember value and defer its write till flush.
+	 */
+	public void write(Object key, Object value) {
+		values.put(key, value);
+		writes.put(key, value);
+		prefetchKeys.remove(key);
+	}
+	
+	/**
+	 * Get and clear deferred writes.
+	 */
+	public Map<Object, Object> takeWrites() {
+		Map<Object, Object> result = new LinkedHashMap<Object, Object>(
+				writes);
+		writes.clear();
+		return result;
+	}
+	
+}
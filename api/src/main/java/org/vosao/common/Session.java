@@ -34,13 +34,23 @@ public class Session {
 	// Session lifetime 24 hours
 	private static final Long SESSION_LIFETIME = 24 * 60 * 60 * 1000L;
 
+	// Unchanged session cookie is re-issued only once per 3 minutes 
+	private static final Long ACCESS_REFRESH = SESSION_TIMEOUT / 10;
+
 	private Map<String, String> map;
+	
+	private boolean hasCookie;
+	
+	private boolean dirty;
+	
+	private long accessed;
 
 	public Session(HttpServletRequest request) {
 		map = new HashMap<String, String>();
 		if (request.getCookies() != null) {
 			for (Cookie cookie : request.getCookies()) {
 				if (SESSION_COOKIE.equals(cookie.getName())) {
+					hasCookie = true;
 					parseSessionData(decrypt(cookie.getValue()));
 				}
 			}
@@ -49,6 +59,9 @@ public class Session {
 			map.clear();
 			map.put(SESSION_CREATED, String.valueOf(new Date().getTime()));
 		}
+		else {
+			accessed = Long.valueOf(map.get(SESSION_ACCESSED));
+		}
 		map.put(SESSION_ACCESSED, String.valueOf(new Date().getTime()));
 	}
 
@@ -87,7 +100,10 @@ public class Session {
 	}
 
 	public void set(String name, String value) {
-		map.put(name, value);
+		String old = map.put(name, value);
+		if (old == null ? value != null : !old.equals(value)) {
+			dirty = true;
+		}
 	}
 
 	public void set(String name, Long value) {
@@ -97,10 +113,43 @@ public class Session {
 	}
 
 	public void remove(String key) {
-		map.remove(key);
+		if (map.containsKey(key)) {
+			map.remove(key);
+			dirty = true;
+		}
 	}
 
+	/**
+	 * Session cookie must be issued if session data was changed or when 
+	 * it's access time has to be refreshed. Empty anonymous session doesn't 
+	 * need cookie at all.
+	 */
+	public boolean isModified() {
+		if (dirty) {
+			return true;
+		}
+		if (!hasCookie || isEmpty()) {
+			return false;
+		}
+		return new Date().getTime() - accessed >= ACCESS_REFRESH;
+	}
+	
+	private boolean isEmpty() {
+		for (String key : map.keySet()) {
+			if (!SESSION_CREATED.equals(key) && !SESSION_ACCESSED.equals(key)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Issue session cookie if it was modified.
+	 */
 	public void save(HttpServletResponse response) {
+		if (!isModified()) {
+			return;
+		}
 		Cookie cookie = new Cookie(SESSION_COOKIE, encrypt(
 				new JSONObject(map).toString()));
 		cookie.setPath("/");
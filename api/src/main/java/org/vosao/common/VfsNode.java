@@ -184,6 +184,7 @@ public class VfsNode implements Serializable {
 	public static void reset() {
 		getSystemService().getCache().put(VFS_TIMESTAMP, 
 				System.currentTimeMillis());
+		getSystemService().getCache().flush();
 	}
 	
 	private static long getVfsTimestamp() {
@@ -58,6 +58,7 @@ public class VosaoContext {
 	private MessageQueue messageQueue;
 	private List<String> skipURLs;
 	private PageRenderingContext pageRenderingContext;
+	private RequestCache requestCache;
 	
 	private VosaoContext() {
 		requestCount = 0;
@@ -197,6 +198,13 @@ public class VosaoContext {
 		return pageRenderingContext;
 	}
 
+	public RequestCache getRequestCache() {
+		if (requestCache == null) {
+			requestCache = new RequestCache();
+		}
+		return requestCache;
+	}
+
 	public Session getSession() {
 		return session;
 	}
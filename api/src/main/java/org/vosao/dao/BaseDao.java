@@ -56,4 +56,21 @@ public interface BaseDao<T extends BaseEntity>
 	void clearCache();
 
 	int count();
+
+	/**
+	 * Time of last change of entities. Only maintained by daos of entities 
+	 * kept in memory as a whole, for others it doesn't change.
+	 */
+	long getTimestamp();
+
+	/**
+	 * Register entity to be read with the next batch cache read.
+	 */
+	void prefetchById(final Long id);
+
+	/**
+	 * Register cached select() result to be read with the next batch cache 
+	 * read. Second call after batch read registers result entities.
+	 */
+	void prefetchSelect();
 }
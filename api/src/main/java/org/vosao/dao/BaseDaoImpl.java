@@ -23,10 +23,15 @@
 package org.vosao.dao;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -54,6 +59,8 @@ public class BaseDaoImpl<T extends BaseEntity>
 	
 	private Class clazz;
 	private String kind;
+	private boolean timestamped;
+	private Set<String> queryProperties = Collections.emptySet();
 
 	public BaseDaoImpl(Class aClass) {
 		clazz = aClass;
@@ -69,10 +76,69 @@ public class BaseDaoImpl<T extends BaseEntity>
 		return getSystemService().getDatastore();
 	}
 
+	/**
+	 * Keep timestamp of last change of entities. Used for small entity sets 
+	 * which are kept in memory as a whole.
+	 */
+	protected void setTimestamped(boolean value) {
+		timestamped = value;
+	}
+	
+	/**
+	 * Properties which DAO queries filter on by equality. Cached queries 
+	 * depend on values of these properties, queries filtered by other 
+	 * properties are invalidated by any change of entity class.
+	 */
+	protected void setQueryProperties(String... properties) {
+		queryProperties = new HashSet<String>(Arrays.asList(properties));
+	}
+	
+	@Override
+	public long getTimestamp() {
+		Long timestamp = (Long)getSystemService().getCache().get(
+				getTimestampKey());
+		if (timestamp == null) {
+			timestamp = resetTimestamp();
+		}
+		return timestamp;
+	}
+	
+	/**
+	 * Timestamps are unique in instance even after cache reset.
+	 */
+	private static final AtomicLong lastTimestamp = new AtomicLong();
+	
+	private long resetTimestamp() {
+		Long old = (Long)getSystemService().getCache().get(getTimestampKey());
+		long timestamp = System.currentTimeMillis();
+		if (old != null && old >= timestamp) {
+			timestamp = old + 1;
+		}
+		long last;
+		do {
+			last = lastTimestamp.get();
+			timestamp = Math.max(timestamp, last + 1);
+		} while (!lastTimestamp.compareAndSet(last, timestamp));
+		getSystemService().getCache().put(getTimestampKey(), timestamp);
+		getSystemService().getCache().flush();
+		return timestamp;
+	}
+	
+	private String getTimestampKey() {
+		return "timestamp:" + getKind();
+	}
+	
+	private void changed() {
+		if (timestamped) {
+			resetTimestamp();
+		}
+	}
+	
 	@Override
 	public void clearCache() {
 		try {
 			getQueryCache().removeQueries(clazz);
+			changed();
 		}
 		catch (Exception e) {
 			logger.error("clearCache " + clazz.getName() + " " + e.getMessage());
@@ -104,28 +170,45 @@ public class BaseDaoImpl<T extends BaseEntity>
 		if (ids == null) {
 			return Collections.EMPTY_LIST;
 		}
-		List<Key> keys = new ArrayList<Key>();
-		List<T> result = new ArrayList<T>();
+		List<Long> validIds = new ArrayList<Long>();
 		for (Long id : ids) {
 			if (id != null && id > 0) {
-				T model = (T) getEntityCache().getEntity(clazz, id);
-				if (model != null) {
-					result.add(model);
-				}
-				else {
-					keys.add(getKey(id));
-				}
+				validIds.add(id);
 			}
 		}
-		getDao().getDaoStat().incGetCalls();
-		List<T> models = createModels(getDatastore().get(keys).values());
-		for (T model : models) {
-			getEntityCache().putEntity(clazz, model.getId(), model);
+		Map<Long, BaseEntity> cached = getEntityCache().getEntities(clazz, 
+				validIds);
+		List<Key> keys = new ArrayList<Key>();
+		for (Long id : validIds) {
+			if (cached.get(id) == null) {
+				keys.add(getKey(id));
+			}
+		}
+		if (!keys.isEmpty()) {
+			getDao().getDaoStat().incGetCalls();
+			List<T> models = createModels(getDatastore().get(keys).values());
+			for (T model : models) {
+				getEntityCache().putEntity(clazz, model.getId(), model);
+				cached.put(model.getId(), model);
+			}
+		}
+		List<T> result = new ArrayList<T>();
+		for (Long id : validIds) {
+			if (cached.get(id) != null) {
+				result.add((T) cached.get(id));
+			}
 		}
-		result.addAll(models);
 		return result;
 	}
 
+	@Override
+	public void prefetchById(Long id) {
+		if (id != null) {
+			getEntityCache().prefetchEntities(clazz, 
+					Collections.singletonList(id));
+		}
+	}
+
 	private T createModel(Entity entity) {
 		try {
 			T model = (T)clazz.newInstance();
@@ -143,18 +226,28 @@ public class BaseDaoImpl<T extends BaseEntity>
 		if (id == null) {
 			return;
 		}
-		getEntityCache().removeEntity(clazz, id);
-		getQueryCache().removeQueries(clazz);
-		getDatastore().delete(getKey(id));
+		removeByIds(Collections.singletonList(id));
 	}
 
 	@Override
 	public void remove(List<Long> ids) {
+		removeByIds(ids);
+	}
+
+	/**
+	 * Not overridable so subclasses may call super.remove(id) from their own
+	 * remove(List) implementations.
+	 */
+	private void removeByIds(List<Long> ids) {
 		for (Long id : ids) {
 			getEntityCache().removeEntity(clazz, id);
 		}
-		getQueryCache().removeQueries(clazz);
-		getDatastore().delete(getKeys(ids));
+		List<Key> keys = getKeys(ids);
+		getDao().getDaoStat().incGetCalls();
+		Collection<Entity> removed = getDatastore().get(keys).values();
+		getDatastore().delete(keys);
+		getQueryCache().removeQueries(clazz, queryProperties, removed);
+		changed();
 	}
 
 	@Override
@@ -179,6 +272,7 @@ public class BaseDaoImpl<T extends BaseEntity>
 			}
 		}
 		getDatastore().delete(keys);
+		changed();
 	}
 	
 	@Override
@@ -192,12 +286,13 @@ public class BaseDaoImpl<T extends BaseEntity>
 	}
 		
 	private T save(T model, boolean audit) {
-		getQueryCache().removeQueries(clazz);
 		Entity entity = null;
+		Entity oldEntity = null;
 		if (model.getId() != null) {
 			try {
 				getDao().getDaoStat().incGetCalls();
 				entity = getDatastore().get(getKey(model.getId()));
+				oldEntity = entity.clone();
 				getEntityCache().removeEntity(clazz, model.getId());
 			}
 			catch (EntityNotFoundException e) {
@@ -216,18 +311,27 @@ public class BaseDaoImpl<T extends BaseEntity>
 		model.save(entity);
 		getDatastore().put(entity);
 		model.setKey(entity.getKey());
+		getQueryCache().removeQueries(clazz, queryProperties, 
+				oldEntity == null ? Arrays.asList(entity) 
+						: Arrays.asList(oldEntity, entity));
+		changed();
 		return model;
 	}
 
+	@Override
+	public void prefetchSelect() {
+		prefetch(newQuery(), clazz.getName(), null);
+	}
+
 	@Override
 	public List<T> select() {
+		Query q = newQuery();
 		List<T> result = (List<T>) getQueryCache().getQuery(clazz, 
-				clazz.getName(), null);
+				queryProperties, q, clazz.getName(), null);
 		if (result == null) {
-			Query q = newQuery();
 			result = selectNotCache(q);
-			getQueryCache().putQuery(clazz, clazz.getName(), null, 
-					(List<BaseEntity>)result);
+			getQueryCache().putQuery(clazz, queryProperties, q, 
+					clazz.getName(), null, (List<BaseEntity>)result);
 		}
 		return result;
 	}
@@ -260,13 +364,13 @@ public class BaseDaoImpl<T extends BaseEntity>
 
 	protected List<T> select(Query query, String queryId, int queryLimit, 
 			Object[] params) {
-		List<T> result = (List<T>) getQueryCache().getQuery(clazz, queryId, 
-				params);
+		List<T> result = (List<T>) getQueryCache().getQuery(clazz, 
+				queryProperties, query, queryId, params);
 		if (result == null) {
 			getDao().getDaoStat().incQueryCalls();
 			result = selectNotCache(query);
-			getQueryCache().putQuery(clazz, queryId, params, 
-					(List<BaseEntity>)result);			
+			getQueryCache().putQuery(clazz, queryProperties, query, 
+					queryId, params, (List<BaseEntity>)result);			
 		}
 		return result;
 	}
@@ -281,6 +385,15 @@ public class BaseDaoImpl<T extends BaseEntity>
 		return createModels(entities);
 	}
 
+	/**
+	 * Register cached query to be read with the next batch cache read. 
+	 * Second call after batch read registers query result entities.
+	 */
+	protected void prefetch(Query query, String queryId, Object[] params) {
+		getQueryCache().prefetchQuery(clazz, queryProperties, query, 
+				queryId, params);
+	}
+
 	protected T selectOne(Query query, String queryId, Object[] params) {
 		List<T> list = select(query, queryId, params);
 		if (list.isEmpty()) {
@@ -38,6 +38,11 @@ public interface CommentDao extends BaseDao<CommentEntity> {
 	 */
 	List<CommentEntity> getByPage(final String pageUrl);
 
+	/**
+	 * Register cached getByPage(pageUrl) result for the next batch cache read.
+	 */
+	void prefetchByPage(final String pageUrl);
+
 	/**
 	 * Get comments by page's friendlyURL and disabled flag value.
 	 * @param pageUrl - page friendlyURL.
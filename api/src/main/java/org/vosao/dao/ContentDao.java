@@ -31,6 +31,12 @@ public interface ContentDao extends BaseDao<ContentEntity> {
 	List<ContentEntity> select(final String parentClass, 
 			final Long parentKey);
 
+	/**
+	 * Register cached select(parentClass, parentKey) result for the next 
+	 * batch cache read.
+	 */
+	void prefetch(final String parentClass, final Long parentKey);
+
 	ContentEntity getByLanguage(final String parentClass, 
 			final Long parentKey, final String language);
 	
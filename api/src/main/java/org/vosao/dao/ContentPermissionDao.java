@@ -35,6 +35,11 @@ public interface ContentPermissionDao extends
 	ContentPermissionEntity getByUrlGroup(final String url, final Long groupId);
 
 	List<ContentPermissionEntity> selectByUrl(final String url);
+
+	/**
+	 * Register cached selectByUrl(url) result for the next batch cache read.
+	 */
+	void prefetchByUrl(final String url);
 	
 	void removeByGroup(final List<Long> groupIds);
 
@@ -22,39 +22,41 @@
 
 package org.vosao.dao;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 public class DaoStat {
 
-	private Long getCalls = 0L;
-	private Long queryCalls = 0L;
-	private Long entityCacheHits = 0L;
-	private Long queryCacheHits = 0L;
+	private AtomicLong getCalls = new AtomicLong();
+	private AtomicLong queryCalls = new AtomicLong();
+	private AtomicLong entityCacheHits = new AtomicLong();
+	private AtomicLong queryCacheHits = new AtomicLong();
 	
 	public DaoStat() {
 	}
 
 	public DaoStat clone() {
 		DaoStat result = new DaoStat();
-		result.getCalls = getCalls;
-		result.entityCacheHits = entityCacheHits;
-		result.queryCacheHits = queryCacheHits;
-		result.queryCalls = queryCalls;
+		result.getCalls.set(getCalls.get());
+		result.entityCacheHits.set(entityCacheHits.get());
+		result.queryCacheHits.set(queryCacheHits.get());
+		result.queryCalls.set(queryCalls.get());
 		return result;
 	}
 	
 	public Long getGetCalls() {
-		return getCalls;
+		return getCalls.get();
 	}
 	
 	public void incGetCalls() {
-		getCalls++;
+		getCalls.incrementAndGet();
 	}
 
 	public Long getQueryCalls() {
-		return queryCalls;
+		return queryCalls.get();
 	}
 	
 	public void incQueryCalls() {
-		queryCalls++;
+		queryCalls.incrementAndGet();
 	}
 
 	public String toString() {
@@ -62,18 +64,18 @@ public class DaoStat {
 	}
 
 	public Long getEntityCacheHits() {
-		return entityCacheHits;
+		return entityCacheHits.get();
 	}
 
 	public void incEntityCacheHits() {
-		entityCacheHits++;
+		entityCacheHits.incrementAndGet();
 	}
 
 	public Long getQueryCacheHits() {
-		return queryCacheHits;
+		return queryCacheHits.get();
 	}
 
 	public void incQueryCacheHits() {
-		queryCacheHits++;
+		queryCacheHits.incrementAndGet();
 	}
 }
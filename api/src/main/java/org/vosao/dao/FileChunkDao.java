@@ -22,6 +22,8 @@
 
 package org.vosao.dao;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 import org.vosao.entity.FileChunkEntity;
@@ -32,6 +34,13 @@ public interface FileChunkDao extends BaseDao<FileChunkEntity> {
 	void save(final FileEntity file, byte[] content);
 	
 	byte[] getFileContent(final FileEntity file);
+
+	/**
+	 * Write part of file content to stream reading only chunks covering 
+	 * requested bytes, one chunk at a time.
+	 */
+	void writeFileContent(final FileEntity file, OutputStream out, 
+			long start, long length) throws IOException;
 	
 	void removeByFile(final Long fileId);
 	
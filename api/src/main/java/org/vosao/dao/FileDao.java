@@ -22,6 +22,8 @@
 
 package org.vosao.dao;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 import org.vosao.entity.FileEntity;
@@ -36,6 +38,13 @@ public interface FileDao extends BaseDao<FileEntity> {
 	
 	byte[] getFileContent(final FileEntity file);
 	
+	/**
+	 * Write part of file content to stream reading only chunks covering 
+	 * requested bytes, one chunk at a time.
+	 */
+	void writeFileContent(final FileEntity file, OutputStream out, 
+			long start, long length) throws IOException;
+	
 	void removeByFolder(final Long folderId);
 
 }
@@ -36,6 +36,12 @@ public interface PageDao extends BaseDao<PageEntity> {
 	 * @return pages list.
 	 */
 	List<PageEntity> selectAllChildren(final String parentUrl);
+
+	/**
+	 * Register cached selectAllChildren(parentUrl) result for the next batch 
+	 * cache read.
+	 */
+	void prefetchAllChildren(final String parentUrl);
 	
 	/**
 	 * Select all children versions for parent page with publishDate in period
@@ -94,6 +100,11 @@ public interface PageDao extends BaseDao<PageEntity> {
 	 * @return - list of pages.
 	 */
 	List<PageEntity> selectByUrl(final String url);
+
+	/**
+	 * Register cached selectByUrl(url) result for the next batch cache read.
+	 */
+	void prefetchByUrl(final String url);
 	
 	List<PageEntity> selectByTemplate(Long templateId);
 	
@@ -106,5 +117,18 @@ public interface PageDao extends BaseDao<PageEntity> {
 	List<PageEntity> getCurrentHourPublishedPages();
 
 	List<PageEntity> getCurrentHourUnpublishedPages();
+
+	/**
+	 * Select all page versions saved with audit since date. Not cached.
+	 * @param date - modification date (inclusive).
+	 * @return pages list.
+	 */
+	List<PageEntity> selectModifiedSince(final Date date);
+
+	/**
+	 * Time of last page change which can't be found by modification date: 
+	 * version removal or save without audit. 0 if unknown.
+	 */
+	long getRemoveTimestamp();
 	
 }
@@ -37,6 +37,12 @@ public interface PageDependencyDao extends BaseDao<PageDependencyEntity> {
 	 * @return found PageDependencys.
 	 */
 	List<PageDependencyEntity> selectByPage(final String pageUrl);
+
+	/**
+	 * Register cached selectByPage(pageUrl) result for the next batch cache 
+	 * read.
+	 */
+	void prefetchByPage(final String pageUrl);
 	
 	/**
 	 * Get dependencies by dependency URL.
@@ -31,4 +31,9 @@ public interface PageTagDao extends BaseDao<PageTagEntity> {
 
 	PageTagEntity getByURL(final String url);
 
+	/**
+	 * Register cached getByURL(url) result for the next batch cache read.
+	 */
+	void prefetchByURL(final String url);
+
 }
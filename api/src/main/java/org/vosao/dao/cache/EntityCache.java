@@ -37,6 +37,11 @@ public interface EntityCache {
 	
 	Map<Long, BaseEntity> getEntities(Class clazz, List<Long> ids);
 
+	/**
+	 * Register entities to be read with the next batch cache read.
+	 */
+	void prefetchEntities(Class clazz, List<Long> ids);
+
 	void removeEntity(Class clazz, Object id);
 	
 }
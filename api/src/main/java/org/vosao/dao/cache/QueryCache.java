@@ -22,10 +22,15 @@
 
 package org.vosao.dao.cache;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import org.vosao.entity.BaseEntity;
 
+import com.google.appengine.api.datastore.Entity;
+import com.google.appengine.api.datastore.Query;
+
 /**
  * 
  * @author Alexander Oleynik
@@ -33,11 +38,39 @@ import org.vosao.entity.BaseEntity;
  */
 public interface QueryCache {
 
-	void putQuery(Class clazz, String query, Object[] params, 
-			List<BaseEntity> list);
+	/**
+	 * Cache query result. Query filters are used to find out which entity 
+	 * changes make cached result invalid.
+	 * @param queryProperties - properties which DAO queries filter on by 
+	 * equality.
+	 */
+	void putQuery(Class clazz, Set<String> queryProperties, Query query, 
+			String queryId, Object[] params, List<BaseEntity> list);
+
+	List<BaseEntity> getQuery(Class clazz, Set<String> queryProperties, 
+			Query query, String queryId, Object[] params);
 
-	List<BaseEntity> getQuery(Class clazz, String query, Object[] params);
+	/**
+	 * Register cached query to be read with the next batch cache read. If 
+	 * cached query was already read then its result entities are registered.
+	 */
+	void prefetchQuery(Class clazz, Set<String> queryProperties, 
+			Query query, String queryId, Object[] params);
 	
+	/**
+	 * Invalidate all cached queries of entity class.
+	 */
 	void removeQueries(Class clazz);
+
+	/**
+	 * Invalidate cached queries of entity class which filters could match 
+	 * any of given entities.
+	 * @param clazz - entity class.
+	 * @param queryProperties - properties which DAO queries filter on by 
+	 * equality. Only values of these properties are tracked.
+	 * @param entities - old and new states of changed entities.
+	 */
+	void removeQueries(Class clazz, Set<String> queryProperties, 
+			Collection<Entity> entities);
 	
 }
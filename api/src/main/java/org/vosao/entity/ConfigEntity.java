@@ -84,6 +84,7 @@ public class ConfigEntity extends BaseEntityImpl {
 		picasaPassword = getStringProperty(entity, "picasaPassword");
 		enableCkeditor = getBooleanProperty(entity, "enableCkeditor", true);
 		attributesJSON = getStringProperty(entity, "attributesJSON");
+		attributes = null;
 		defaultTimezone = getStringProperty(entity, "defaultTimezone");
 		defaultLanguage = getStringProperty(entity, "defaultLanguage", "en");
 		site404Url = getStringProperty(entity, "site404Url");
@@ -241,32 +242,35 @@ public class ConfigEntity extends BaseEntityImpl {
 
     public void setAttributesJSON(String value) {
     	attributesJSON = value;
+    	attributes = null;
     }
 
-    private Map<String, String> attributes;
+    // not persisted, parsed from attributesJSON on first access
+    private transient Map<String, String> attributes;
 	
     public Map<String, String> getAttributes() {
     	if (attributes == null) {
-    		attributes = new HashMap<String, String>();
-    		parseAttributes();
+    		attributes = parseAttributes();
     	}
     	return attributes;
     }
 
-    private void parseAttributes() {
+    private Map<String, String> parseAttributes() {
+    	Map<String, String> result = new HashMap<String, String>();
 		if (StringUtils.isEmpty(attributesJSON)) {
-			return;
+			return result;
 		}
 		try {
 			JSONObject obj = new JSONObject(attributesJSON);
 			Iterator<String> attributeIter = obj.keys();
 			while (attributeIter.hasNext()) {
 				String attrName = attributeIter.next();
-				getAttributes().put(attrName, obj.getString(attrName));
+				result.put(attrName, obj.getString(attrName));
 			}
 		} catch (org.json.JSONException e) {
-			logger.error("Config atributes parsing problem: " + attributes);
+			logger.error("Config atributes parsing problem: " + attributesJSON);
 		}
+		return result;
     }
 
     private void updateAttributes() {
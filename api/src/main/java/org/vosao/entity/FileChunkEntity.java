@@ -56,7 +56,7 @@ public class FileChunkEntity extends BaseEntityImpl {
     public void save(Entity entity) {
     	super.save(entity);
     	setProperty(entity, "content", content);
-    	setProperty(entity, "index", index, false);
+    	setProperty(entity, "index", index, true);
     	setProperty(entity, "fileId", fileId, true);
     }
 
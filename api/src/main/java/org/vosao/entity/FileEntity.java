@@ -42,6 +42,7 @@ public class FileEntity extends BaseEntityImpl {
 	private String mimeType;
 	private Date lastModifiedTime;
 	private Integer size;
+	private String hash;
 
 	public FileEntity() {
 	}
@@ -55,6 +56,7 @@ public class FileEntity extends BaseEntityImpl {
 		mimeType = getStringProperty(entity, "mimeType");
 		lastModifiedTime = getDateProperty(entity, "lastModifiedTime");
 		size = getIntegerProperty(entity, "size", 0);
+		hash = getStringProperty(entity, "hash");
 	}
 	
 	@Override
@@ -66,6 +68,7 @@ public class FileEntity extends BaseEntityImpl {
 		setProperty(entity, "mimeType", mimeType, false);
 		setProperty(entity, "lastModifiedTime", lastModifiedTime, false);
 		setProperty(entity, "size", size, false);
+		setProperty(entity, "hash", hash, false);
 	}
 
 	public FileEntity(String aTitle, String aName, Long aFolderId,
@@ -127,6 +130,17 @@ public class FileEntity extends BaseEntityImpl {
 		this.size = size;
 	}
 
+	/**
+	 * MD5 hash of file content. Null for files saved before content hashing.
+	 */
+	public String getHash() {
+		return hash;
+	}
+
+	public void setHash(String hash) {
+		this.hash = hash;
+	}
+
 	public boolean isImage() {
 		for (String ext : IMAGE_EXTENSIONS) {
 			if (FolderUtil.getFileExt(getFilename()).equals(ext)) {
@@ -83,13 +83,14 @@ public class PageEntity extends BaseEntityImpl {
 	private String headHtml;
 	private boolean skipPostProcessing;
 	private boolean cached;
+	private boolean userCached;
 	private String contentType;
 	private boolean enableCkeditor;
 	private String attributes;
 	private boolean restful;
 
-	// not persisted
-	private Map<String, String> titles;
+	// not persisted, parsed from title on first access
+	private transient Map<String, String> titles;
 	
 	public PageEntity() {
 		publishDate = new Date();
@@ -107,6 +108,7 @@ public class PageEntity extends BaseEntityImpl {
 		wikiProcessing = false;
 		skipPostProcessing = false;
 		cached = true;
+		userCached = false;
 		enableCkeditor = true;
 	}
 	
@@ -134,11 +136,14 @@ public class PageEntity extends BaseEntityImpl {
 		headHtml = getTextProperty(entity, "headHtml");
 		skipPostProcessing = getBooleanProperty(entity, "skipPostProcessing", false);
 		cached = getBooleanProperty(entity, "cached", true);
+		userCached = getBooleanProperty(entity, "userCached", false);
 		contentType = getStringProperty(entity, "contentType");
 		wikiProcessing = getBooleanProperty(entity, "wikiProcessing", false);
 		enableCkeditor = getBooleanProperty(entity, "enableCkeditor", true);
 		attributes = getStringProperty(entity, "attributes");
 		restful = getBooleanProperty(entity, "restful", false);
+		titles = null;
+		attribute = null;
 	}
 	
 	@Override
@@ -165,6 +170,7 @@ public class PageEntity extends BaseEntityImpl {
 		setTextProperty(entity, "headHtml", headHtml);
 		setProperty(entity, "skipPostProcessing", skipPostProcessing, false);
 		setProperty(entity, "cached", cached, false);
+		setProperty(entity, "userCached", userCached, false);
 		setProperty(entity, "contentType", contentType, false);
 		setProperty(entity, "wikiProcessing", wikiProcessing, false);
 		setProperty(entity, "enableCkeditor", enableCkeditor, false);
@@ -378,7 +384,7 @@ public class PageEntity extends BaseEntityImpl {
 
 	public void setTitleValue(String t) {
 		title = t;
-		parseTitle();
+		titles = null;
 	}
 
 	public String getTitle() {
@@ -392,7 +398,7 @@ public class PageEntity extends BaseEntityImpl {
 	}
 
 	public String getLocalTitle(String lang) {
-		parseTitle();
+		Map<String, String> titles = parseTitle();
 		if (!VosaoContext.getInstance().getConfig()
 				.getDefaultLanguage().equals(lang)) {
 			if (StringUtils.isEmpty(titles.get(lang))) {
@@ -408,42 +414,49 @@ public class PageEntity extends BaseEntityImpl {
 	}
 	
 	public void setLocalTitle(String title, String lang) {
-		parseTitle();
-		titles.put(lang, title);
-		packTitle();
+		Map<String, String> map = new HashMap<String, String>(parseTitle());
+		map.put(lang, title);
+		packTitle(map);
 	}
 	
-	private void parseTitle() {
-		titles = new HashMap<String, String>();
+	/**
+	 * Title JSON is parsed once and kept till title change.
+	 */
+	private Map<String, String> parseTitle() {
+		Map<String, String> result = titles;
+		if (result != null) {
+			return result;
+		}
+		result = new HashMap<String, String>();
 		if (title != null) {
 			try {
 				JSONObject obj = new JSONObject(getTitleValue());
 				Iterator<String> it = obj.keys();
 				while (it.hasNext()) {
 					String key = it.next();
-					titles.put(key, obj.getString(key));
+					result.put(key, obj.getString(key));
 				}
 			} catch (org.json.JSONException e) {
 				logger.error("Page title parsing problem: " + getTitleValue());
 			}
 		}
+		titles = result;
+		return result;
 	}
 	
-	private void packTitle() {
-		if (titles != null) {
-			JSONObject obj = new JSONObject(titles);
-			setTitleValue(obj.toString());
-		}
+	private void packTitle(Map<String, String> map) {
+		title = new JSONObject(map).toString();
+		titles = map;
 	}
 
 	public Map<String, String> getTitles() {
-		parseTitle();
-		return titles;
+		return new HashMap<String, String>(parseTitle());
 	}
 
 	public void setTitles(Map<String, String> titles) {
-		this.titles = titles;
-		packTitle();
+		if (titles != null) {
+			packTitle(new HashMap<String, String>(titles));
+		}
 	}
 
 	public boolean isSearchable() {
@@ -512,6 +525,18 @@ public class PageEntity extends BaseEntityImpl {
 		this.cached = cached;
 	}
 
+	/**
+	 * Page content doesn't depend on current user so cached page can be 
+	 * shared by logged in users of the same groups.
+	 */
+	public boolean isUserCached() {
+		return userCached;
+	}
+
+	public void setUserCached(boolean userCached) {
+		this.userCached = userCached;
+	}
+
 	public String getContentType() {
 		return contentType;
 	}
@@ -557,9 +582,11 @@ public class PageEntity extends BaseEntityImpl {
 
 	public void setAttributes(String attributes) {
 		this.attributes = attributes;
+		attribute = null;
 	}
 	
-	private PageAttributesField attribute;
+	// not persisted, parsed from attributes on first access
+	private transient PageAttributesField attribute;
 	
 	public PageAttributesField getAttribute() {
 		if (attribute == null) {
@@ -569,8 +596,9 @@ public class PageEntity extends BaseEntityImpl {
 	}
 	
 	public void setAttribute(String name, String language, String value) {
-		getAttribute().set(name, language, value);
-		setAttributes(getAttribute().asJSON());
+		PageAttributesField field = getAttribute();
+		field.set(name, language, value);
+		attributes = field.asJSON();
 	}
 	
 	public boolean isRestful() {
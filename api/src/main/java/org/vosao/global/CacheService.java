@@ -22,7 +22,9 @@
 
 package org.vosao.global;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.Map;
 
 import javax.cache.Cache;
 
@@ -61,4 +63,37 @@ public interface CacheService extends Cache {
 	byte[] getBlob(String key);
 	
 	Date getResetDate();
+	
+	/**
+	 * Put values only for keys absent in memcache with one memcache call.
+	 */
+	void addAll(Map map);
+	
+	/**
+	 * Remove all keys from local cache and memcache with one memcache call.
+	 */
+	void removeAll(Collection keys);
+
+	/**
+	 * Register keys to be read with the next batch memcache call of current 
+	 * request.
+	 */
+	void prefetch(Collection keys);
+
+	/**
+	 * Read all keys registered for prefetch with one memcache call.
+	 */
+	void fetch();
+
+	/**
+	 * Get value already read in current request or kept in local cache 
+	 * without memcache call.
+	 */
+	Object peek(Object key);
+
+	/**
+	 * Write all memcache puts deferred in current request with one 
+	 * memcache call.
+	 */
+	void flush();
 }
@@ -22,6 +22,7 @@
 
 package org.vosao.global;
 
+import java.util.Collection;
 
 /**
  * 
@@ -34,8 +35,53 @@ public interface PageCache {
 	
 	PageCacheItem get(String url, String language);
 	
+	/**
+	 * Put page rendered for logged in users of given permission class. 
+	 * Users of the same permission class share cached pages.
+	 */
+	void put(String url, String language, String permissionClass, 
+			String content, String contentType);
+	
+	/**
+	 * Get page rendered for logged in users of given permission class.
+	 */
+	PageCacheItem get(String url, String language, String permissionClass);
+	
+	/**
+	 * Remove page from cache in all languages. Used when page must not be 
+	 * served any more: deleted, unpublished or its permissions changed.
+	 */
 	void remove(String url);
 	
+	/**
+	 * Remove pages from cache in all languages with one cache call.
+	 */
+	void remove(Collection<String> urls);
+	
+	/**
+	 * Mark page stale in all languages after its content was edited. Stale 
+	 * page is served until it is rendered again.
+	 */
+	void markStale(String url);
+	
+	/**
+	 * Mark pages stale in all languages with one cache call.
+	 */
+	void markStale(Collection<String> urls);
+	
+	/**
+	 * Remove page from cache.
+	 */
+	void evict(String url, String language);
+	
+	/**
+	 * Only one caller gets lock for background rendering of stale page.
+	 * @return true if lock was acquired.
+	 */
+	boolean lockRefresh(String url, String language);
+	
+	void unlockRefresh(String url, String language);
+	
 	boolean contains(String url);
 	
 }
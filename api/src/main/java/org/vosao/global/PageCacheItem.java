@@ -22,8 +22,14 @@
 
 package org.vosao.global;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.Serializable;
+import java.nio.charset.Charset;
 import java.util.Date;
+import java.util.zip.GZIPOutputStream;
+
+import org.vosao.utils.HashUtil;
 
 /**
  * 
@@ -32,21 +38,106 @@ import java.util.Date;
  */
 public class PageCacheItem implements Serializable {
 	
-	private String content;
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	
+	/**
+	 * Smaller pages are not gzipped.
+	 */
+	private static final int GZIP_THRESHOLD = 200;
+	
+	/**
+	 * After soft TTL page is still served but rendered again in background. 
+	 */
+	public static final long SOFT_TTL = 60 * 60 * 1000L;
+	
+	private byte[] content;
+	private byte[] gzipContent;
+	private String hash;
 	private String contentType;
 	private Date timestamp;
+	private long softExpires;
+	private boolean stale;
 	
 	public PageCacheItem(String content, String contentType) {
 		super();
 		timestamp = new Date();
-		this.content = content;
+		softExpires = timestamp.getTime() + SOFT_TTL;
+		this.content = content.getBytes(UTF8);
 		this.contentType = contentType;
+		hash = HashUtil.getMD5(this.content);
+		if (this.content.length > GZIP_THRESHOLD) {
+			byte[] gzipped = gzip(this.content);
+			if (gzipped != null && gzipped.length < this.content.length) {
+				gzipContent = gzipped;
+			}
+		}
 	}
 
+	private PageCacheItem(PageCacheItem item) {
+		super();
+		content = item.content;
+		gzipContent = item.gzipContent;
+		hash = item.hash;
+		contentType = item.contentType;
+		timestamp = item.timestamp;
+		softExpires = item.softExpires;
+		stale = true;
+	}
+	
+	/**
+	 * @return copy of this item marked as stale.
+	 */
+	public PageCacheItem toStale() {
+		return stale ? this : new PageCacheItem(this);
+	}
+	
+	private static byte[] gzip(byte[] data) {
+		try {
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			GZIPOutputStream out = new GZIPOutputStream(bos);
+			out.write(data);
+			out.close();
+			return bos.toByteArray();
+		}
+		catch (IOException e) {
+			return null;
+		}
+	}
+	
 	public String getContent() {
+		return new String(content, UTF8);
+	}
+
+	/**
+	 * @return UTF-8 encoded content.
+	 */
+	public byte[] getBytes() {
 		return content;
 	}
 
+	/**
+	 * @return gzipped UTF-8 encoded content or null if gzip doesn't make 
+	 * content smaller.
+	 */
+	public byte[] getGzipBytes() {
+		return gzipContent;
+	}
+
+	/**
+	 * @return approximate item size in bytes.
+	 */
+	public int getSize() {
+		return content.length + (gzipContent == null ? 0 : gzipContent.length)
+				+ 2 * (hash.length() + contentType.length()) + 64;
+	}
+
+	/**
+	 * @return MD5 hash of content.
+	 */
+	public String getHash() {
+		return hash;
+	}
+
 	public String getContentType() {
 		return contentType;
 	}
@@ -55,4 +146,18 @@ public class PageCacheItem implements Serializable {
 		return timestamp;
 	}
 
+	/**
+	 * Page was invalidated but can be served until it is rendered again.
+	 */
+	public boolean isStale() {
+		return stale;
+	}
+
+	/**
+	 * @return true if page is stale or older than soft TTL.
+	 */
+	public boolean isRefreshNeeded() {
+		return stale || System.currentTimeMillis() > softExpires;
+	}
+
 }
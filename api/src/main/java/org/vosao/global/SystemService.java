@@ -22,6 +22,9 @@
 
 package org.vosao.global;
 
+import java.io.IOException;
+import java.io.Writer;
+
 import javax.xml.transform.Transformer;
 
 import org.apache.velocity.VelocityContext;
@@ -60,6 +63,36 @@ public interface SystemService {
 	 * @return rendered html.
 	 */
 	String render(final String template, final VelocityContext context);
+
+	/**
+	 * Render velocity template in specified context. Parsed template is 
+	 * cached by key and reused while template text is not changed. 
+	 * @param key - template cache key.
+	 * @param template - template to render.
+	 * @param content - context to use.
+	 * @return rendered html.
+	 */
+	String render(final String key, final String template, 
+			final VelocityContext context);
+
+	/**
+	 * Render velocity template in specified context directly to writer. 
+	 * Parsed template is cached by key and reused while template text is 
+	 * not changed. 
+	 * @param key - template cache key or null to use template text hash.
+	 * @param template - template to render.
+	 * @param content - context to use.
+	 * @param out - writer to render to.
+	 */
+	void render(final String key, final String template, 
+			final VelocityContext context, final Writer out) 
+			throws IOException;
+	
+	/**
+	 * Remove parsed template from cache.
+	 * @param key - template cache key.
+	 */
+	void removeTemplate(final String key);
 	
 	Transformer getTransformer(String template);
 	
@@ -0,0 +1,116 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.i18n;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable message bundle. Messages are kept in two sorted arrays and 
+ * found by binary search so bundle can be shared by all requests.
+ */
+public class MessageBundle extends AbstractMap<String, String> {
+
+	private final String[] codes;
+	private final String[] values;
+	
+	public MessageBundle(Map<String, String> messages) {
+		TreeMap<String, String> sorted = new TreeMap<String, String>();
+		for (String code : messages.keySet()) {
+			if (code != null && messages.get(code) != null) {
+				sorted.put(code, messages.get(code));
+			}
+		}
+		codes = sorted.keySet().toArray(new String[sorted.size()]);
+		values = sorted.values().toArray(new String[sorted.size()]);
+	}
+	
+	private int indexOf(Object code) {
+		if (!(code instanceof String)) {
+			return -1;
+		}
+		return Arrays.binarySearch(codes, (String)code);
+	}
+	
+	@Override
+	public String get(Object code) {
+		int i = indexOf(code);
+		return i >= 0 ? values[i] : null;
+	}
+
+	@Override
+	public boolean containsKey(Object code) {
+		return indexOf(code) >= 0;
+	}
+
+	@Override
+	public int size() {
+		return codes.length;
+	}
+
+	@Override
+	public Set<Map.Entry<String, String>> entrySet() {
+		return new AbstractSet<Map.Entry<String, String>>() {
+			@Override
+			public Iterator<Map.Entry<String, String>> iterator() {
+				return new Iterator<Map.Entry<String, String>>() {
+					private int i = 0;
+					
+					@Override
+					public boolean hasNext() {
+						return i < codes.length;
+					}
+
+					@Override
+					public Map.Entry<String, String> next() {
+						if (i >= codes.length) {
+							throw new NoSuchElementException();
+						}
+						Map.Entry<String, String> result = 
+								new SimpleImmutableEntry<String, String>(
+										codes[i], values[i]);
+						i++;
+						return result;
+					}
+
+					@Override
+					public void remove() {
+						throw new UnsupportedOperationException();
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return codes.length;
+			}
+		};
+	}
+	
+}
@@ -28,6 +28,8 @@ import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.MissingResourceException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -36,7 +38,6 @@ import org.apache.commons.logging.LogFactory;
 import org.vosao.business.Business;
 import org.vosao.common.VosaoContext;
 import org.vosao.entity.ConfigEntity;
-import org.vosao.entity.LanguageEntity;
 
 /**
  * Message bundle helper class for creatng localized messages from Java code.
@@ -69,10 +70,13 @@ public class Messages {
 			new HashMap<Locale, VosaoResourceBundle>();
 	
 	private static VosaoResourceBundle getBundle(HttpServletRequest request) {
+		return getBundle(getRequestLocale(request));
+	}
+
+	private static Locale getRequestLocale(HttpServletRequest request) {
 		Locale sessionLocale = VosaoContext.getInstance().getSession().getLocale();
 		
-		Locale locale = sessionLocale != null ? sessionLocale : request.getLocale();
-		return getBundle(locale);
+		return sessionLocale != null ? sessionLocale : request.getLocale();
 	}
 	
 	private static VosaoResourceBundle getDefaultBundle() {
@@ -112,19 +116,43 @@ public class Messages {
 		return VosaoContext.getInstance().getBusiness();
 	}
 	
+	/**
+	 * Generated JS bundles for one version of enabled plugins.
+	 */
+	private static class JSBundles {
+		
+		private final long timestamp;
+		private final ConcurrentMap<String, String> map = 
+				new ConcurrentHashMap<String, String>();
+
+		public JSBundles(long timestamp) {
+			this.timestamp = timestamp;
+		}
+	}
+	
+	private static volatile JSBundles jsBundles;
+
 	/**
 	 * Generate JavaScript JSON message bundle for JavaScript messages 
-	 * localization.
+	 * localization. Generated bundles are kept in instance memory till 
+	 * plugins change.
 	 * @return JS file.
 	 */
 	public static String getJSMessages() {
 		VosaoContext ctx = VosaoContext.getInstance();
-		String cached = (String)getBusiness().getSystemService().getCache().get(
-				I18N_CACHE_KEY + ctx.getLanguage());
-		
-		logger.debug("checking is i18n_" + ctx.getLanguage() + " in cache: " + (cached != null ? "yes":"no"));
-		
-		if (cached != null) return cached;	
+		long timestamp = getBusiness().getDao().getPluginDao().getTimestamp();
+		JSBundles current = jsBundles;
+		if (current == null || current.timestamp != timestamp) {
+			current = new JSBundles(timestamp);
+			jsBundles = current;
+		}
+		String bundleKey = I18N_CACHE_KEY + ctx.getLocale() + "_" 
+				+ getRequestLocale(ctx.getRequest()) + "_" 
+				+ getBusiness().getDefaultLanguage();
+		String cached = current.map.get(bundleKey);
+		if (cached != null) {
+			return cached;
+		}
 		Map<String, String> messages = new HashMap<String, String>();
 		VosaoResourceBundle defaultBundle = getDefaultBundle();
 		for (String key : Collections.list(defaultBundle.getKeys())) {
@@ -171,20 +199,15 @@ public class Messages {
 		result.append("};");
 		
 		cached = result.toString();
-		getBusiness().getSystemService().getCache().put(
-				I18N_CACHE_KEY + ctx.getLanguage(), cached);
+		current.map.put(bundleKey, cached);
 
-		logger.debug("put i18n_" + ctx.getLanguage() + " to cache");
+		logger.debug("put " + bundleKey + " to instance cache");
 		
 		return cached;
 	}
 	
 	public static void resetCache() {
-		VosaoContext ctx = VosaoContext.getInstance();
-		for (LanguageEntity language : ctx.getBusiness().getDao().getLanguageDao().select()) {
-			getBusiness().getSystemService().getCache().remove(
-					I18N_CACHE_KEY + language.getCode());
-		}
+		jsBundles = null;
 	}
 	
 	private static String filterForJS(String msg) {
@@ -46,4 +46,9 @@ public interface SearchEngine {
 	void reindex();
 	
 	void saveIndex() throws IOException;
+
+	/**
+	 * Merge saved index changes of language index into one segment.
+	 */
+	void compactIndex(String language) throws IOException;
 }
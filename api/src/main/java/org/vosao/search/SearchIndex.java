@@ -39,12 +39,23 @@ public interface SearchIndex {
 
 	void removeFromIndex(Long pageId) ;
 
-	List<Hit> search(SearchResultFilter filter, String query, int textSize);
+	/**
+	 * Search pages ranked by relevance. Hits are created only for requested 
+	 * window of results, result count is number of all found pages.
+	 * @param count - -1 for all results.
+	 */
+	SearchResult search(SearchResultFilter filter, String query, int start, 
+			int count, int textSize);
 	
 	public List<PageEntity> search(SearchResultFilter filter, String query);
 	
 	void saveIndex() throws IOException;
 	
+	/**
+	 * Merge saved index changes into one segment.
+	 */
+	void compact() throws IOException;
+	
 	String getLanguage();
 
 	void clear();
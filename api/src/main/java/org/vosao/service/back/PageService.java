@@ -30,6 +30,7 @@ import org.vosao.entity.PageEntity;
 import org.vosao.entity.TagEntity;
 import org.vosao.service.AbstractService;
 import org.vosao.service.ServiceResponse;
+import org.vosao.service.vo.PageChildrenVO;
 import org.vosao.service.vo.PageRequestVO;
 import org.vosao.service.vo.PageVO;
 
@@ -49,6 +50,17 @@ public interface PageService extends AbstractService {
 			String language, boolean applyToChildren);
 	
 	List<PageVO> getChildren(final String url);
+
+	/**
+	 * Get latest versions of readable children pages for lazy tree 
+	 * expanding.
+	 * @param url - parent page url.
+	 * @param cursor - cursor from previous call or null for first page.
+	 * @param count - max number of children to return.
+	 * @return children pages ordered by sort index.
+	 */
+	PageChildrenVO getTreeChildren(final String url, final String cursor,
+			final int count);
 	
 	ServiceResponse deletePages(final List<String> ids);
 
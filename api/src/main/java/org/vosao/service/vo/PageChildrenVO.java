@@ -0,0 +1,52 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.service.vo;
+
+import java.util.List;
+
+/**
+ * Value object to be returned from services. Page of children pages with 
+ * cursor for the next page.
+ */
+public class PageChildrenVO {
+
+	private List<PageVO> children;
+	private String cursor;
+	
+	public PageChildrenVO(List<PageVO> children, String cursor) {
+		this.children = children;
+		this.cursor = cursor;
+	}
+
+	public List<PageVO> getChildren() {
+		return children;
+	}
+
+	/**
+	 * @return cursor for the next page or null if there are no more children.
+	 */
+	public String getCursor() {
+		return cursor;
+	}
+
+}
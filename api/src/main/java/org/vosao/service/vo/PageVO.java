@@ -38,6 +38,7 @@ public class PageVO {
 
     private PageEntity page;
     private boolean hasPublishedVersion;
+    private boolean hasChildren;
 
 	public PageVO(final PageEntity entity) {
 		page = entity;
@@ -142,6 +143,14 @@ public class PageVO {
 	public void setHasPublishedVersion(boolean value) {
 		this.hasPublishedVersion = value;
 	}
+
+	public boolean isHasChildren() {
+		return hasChildren;
+	}
+
+	public void setHasChildren(boolean value) {
+		this.hasChildren = value;
+	}
 	
 	public boolean isSearchable() {
 		return page.isSearchable();
@@ -0,0 +1,213 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compact binary encoding of maps with simple keys and values. Used for 
+ * map blob properties instead of Java serialization.
+ */
+public class CodecUtil {
+
+	private static final byte[] MAGIC = {'V', 'M', 1};
+
+	private static final int NULL = 0;
+	private static final int STRING = 1;
+	private static final int LONG = 2;
+	private static final int INTEGER = 3;
+	private static final int BOOLEAN = 4;
+	private static final int DOUBLE = 5;
+	private static final int DATE = 6;
+
+	/**
+	 * Encode map.
+	 * @return encoded map or null if map has values of not supported type. 
+	 * Supported types are String, Long, Integer, Boolean, Double and Date. 
+	 */
+	public static byte[] encodeMap(Map map) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		out.write(MAGIC, 0, MAGIC.length);
+		writeVarLong(out, map.size());
+		for (Object key : map.keySet()) {
+			if (!writeValue(out, key) || !writeValue(out, map.get(key))) {
+				return null;
+			}
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Decode map.
+	 * @return decoded map or null if data is not encoded by encodeMap.
+	 */
+	public static <K,T> Map<K,T> decodeMap(byte[] data) {
+		if (!isEncoded(data)) {
+			return null;
+		}
+		int[] pos = {MAGIC.length};
+		int size = (int)readVarLong(data, pos);
+		Map<K,T> result = new LinkedHashMap<K,T>();
+		for (int i = 0; i < size; i++) {
+			K key = (K)readValue(data, pos);
+			result.put(key, (T)readValue(data, pos));
+		}
+		return result;
+	}
+
+	public static boolean isEncoded(byte[] data) {
+		if (data == null || data.length < MAGIC.length) {
+			return false;
+		}
+		for (int i = 0; i < MAGIC.length; i++) {
+			if (data[i] != MAGIC[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean writeValue(ByteArrayOutputStream out, 
+			Object value) {
+		if (value == null) {
+			out.write(NULL);
+		}
+		else if (value instanceof String) {
+			out.write(STRING);
+			byte[] bytes = toUTF8((String)value);
+			writeVarLong(out, bytes.length);
+			out.write(bytes, 0, bytes.length);
+		}
+		else if (value instanceof Long) {
+			out.write(LONG);
+			writeZigZag(out, (Long)value);
+		}
+		else if (value instanceof Integer) {
+			out.write(INTEGER);
+			writeZigZag(out, (Integer)value);
+		}
+		else if (value instanceof Boolean) {
+			out.write(BOOLEAN);
+			out.write((Boolean)value ? 1 : 0);
+		}
+		else if (value instanceof Double) {
+			out.write(DOUBLE);
+			writeFixedLong(out, Double.doubleToLongBits((Double)value));
+		}
+		else if (value.getClass().equals(Date.class)) {
+			out.write(DATE);
+			writeZigZag(out, ((Date)value).getTime());
+		}
+		else {
+			return false;
+		}
+		return true;
+	}
+
+	private static Object readValue(byte[] data, int[] pos) {
+		int type = data[pos[0]++];
+		switch (type) {
+			case NULL: return null;
+			case STRING: {
+				int length = (int)readVarLong(data, pos);
+				String result = fromUTF8(data, pos[0], length);
+				pos[0] += length;
+				return result;
+			}
+			case LONG: return readZigZag(data, pos);
+			case INTEGER: return (int)readZigZag(data, pos);
+			case BOOLEAN: return data[pos[0]++] != 0;
+			case DOUBLE: return Double.longBitsToDouble(
+					readFixedLong(data, pos));
+			case DATE: return new Date(readZigZag(data, pos));
+			default: throw new IllegalArgumentException(
+					"Unknown value type " + type);
+		}
+	}
+
+	private static void writeVarLong(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int)value);
+	}
+
+	private static long readVarLong(byte[] data, int[] pos) {
+		long result = 0;
+		for (int shift = 0; ; shift += 7) {
+			byte b = data[pos[0]++];
+			result |= (long)(b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+	}
+
+	private static void writeZigZag(ByteArrayOutputStream out, long value) {
+		writeVarLong(out, (value << 1) ^ (value >> 63));
+	}
+
+	private static long readZigZag(byte[] data, int[] pos) {
+		long value = readVarLong(data, pos);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeFixedLong(ByteArrayOutputStream out, 
+			long value) {
+		for (int i = 7; i >= 0; i--) {
+			out.write((int)(value >>> (i * 8)));
+		}
+	}
+
+	private static long readFixedLong(byte[] data, int[] pos) {
+		long result = 0;
+		for (int i = 0; i < 8; i++) {
+			result = (result << 8) | (data[pos[0]++] & 0xFF);
+		}
+		return result;
+	}
+
+	private static byte[] toUTF8(String value) {
+		try {
+			return value.getBytes("UTF-8");
+		}
+		catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String fromUTF8(byte[] data, int offset, int length) {
+		try {
+			return new String(data, offset, length, "UTF-8");
+		}
+		catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
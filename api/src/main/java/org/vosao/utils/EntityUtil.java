@@ -156,7 +156,12 @@ public class EntityUtil {
 			return new HashMap<K,T>();
 		}
 		if (p instanceof Blob) {
-			return (Map<K,T>) StreamUtil.toObject(((Blob)p).getBytes());
+			byte[] data = ((Blob)p).getBytes();
+			Map<K,T> result = CodecUtil.decodeMap(data);
+			if (result == null) {
+				result = (Map<K,T>) StreamUtil.toObject(data);
+			}
+			return result;
 		}
 		return new HashMap<K,T>();
 	}
@@ -244,8 +249,11 @@ public class EntityUtil {
 			entity.setUnindexedProperty(name, null);
 		}
 		else {
-			entity.setUnindexedProperty(name, 
-					new Blob(StreamUtil.toBytes(value)));
+			byte[] data = CodecUtil.encodeMap(value);
+			if (data == null) {
+				data = StreamUtil.toBytes(value);
+			}
+			entity.setUnindexedProperty(name, new Blob(data));
 		}
 	}
 }
@@ -29,10 +29,14 @@ import java.security.NoSuchAlgorithmException;
 public class HashUtil {
 
 	public static String getMD5(final String data) {
+		return getMD5(data.getBytes());
+	}
+	
+	public static String getMD5(final byte[] data) {
 		try {
 			MessageDigest m = MessageDigest.getInstance("MD5");
 			m.reset();
-			m.update(data.getBytes());
+			m.update(data);
 			BigInteger bigInt = new BigInteger(1, m.digest());
 			String hashtext = bigInt.toString(16);
 			while(hashtext.length() < 32 ){
@@ -71,35 +71,40 @@ import org.vosao.search.impl.SearchEngineImpl;
  */
 public class BusinessImpl implements Business, Serializable {
 
-	private SystemService systemService;
-	private Dao dao;
-	private SearchEngine searchEngine;
+	private volatile SystemService systemService;
+	private volatile Dao dao;
+	private volatile SearchEngine searchEngine;
 	
-	private PageBusiness pageBusiness;
-	private FolderBusiness folderBusiness;
-	private TemplateBusiness templateBusiness;
-	private ConfigBusiness configBusiness;
-	private FormBusiness formBusiness;
-	private FileBusiness fileBusiness;
-	private CommentBusiness commentBusiness;
-	private FieldBusiness fieldBusiness;
-	private MessageBusiness messageBusiness;
-	private UserBusiness userBusiness;
-	private ContentPermissionBusiness contentPermissionBusiness;
-	private GroupBusiness groupBusiness;
-	private FolderPermissionBusiness folderPermissionBusiness;
-	private StructureBusiness structureBusiness;
-	private StructureTemplateBusiness structureTemplateBusiness;
-	private PluginBusiness pluginBusiness;
-	private PluginResourceBusiness pluginResourceBusiness;
-	private ImportExportBusiness importExportBusiness;
-	private TagBusiness tagBusiness;
-	private PicasaBusiness picasaBusiness;
-	private FormDataBusiness formDataBusiness;
-	private PageAttributeBusiness pageAttributeBusiness;
-	private RewriteUrlBusiness rewriteUrlBusiness;
-
-	private SetupBean setupBean;
+	private volatile PageBusiness pageBusiness;
+	private volatile FolderBusiness folderBusiness;
+	private volatile TemplateBusiness templateBusiness;
+	private volatile ConfigBusiness configBusiness;
+	private volatile FormBusiness formBusiness;
+	private volatile FileBusiness fileBusiness;
+	private volatile CommentBusiness commentBusiness;
+	private volatile FieldBusiness fieldBusiness;
+	private volatile MessageBusiness messageBusiness;
+	private volatile UserBusiness userBusiness;
+	private volatile ContentPermissionBusiness contentPermissionBusiness;
+	private volatile GroupBusiness groupBusiness;
+	private volatile FolderPermissionBusiness folderPermissionBusiness;
+	private volatile StructureBusiness structureBusiness;
+	private volatile StructureTemplateBusiness structureTemplateBusiness;
+	private volatile PluginBusiness pluginBusiness;
+	private volatile PluginResourceBusiness pluginResourceBusiness;
+	private volatile TagBusiness tagBusiness;
+	private volatile PicasaBusiness picasaBusiness;
+	private volatile FormDataBusiness formDataBusiness;
+	private volatile PageAttributeBusiness pageAttributeBusiness;
+	private volatile RewriteUrlBusiness rewriteUrlBusiness;
+
+	private volatile SetupBean setupBean;
+
+	/**
+	 * Import and export keep task progress so every thread has own instance.
+	 */
+	private transient ThreadLocal<ImportExportBusiness> importExportBusiness =
+			new ThreadLocal<ImportExportBusiness>();
 
 	@Override
 	public UserEntity getUser() {
@@ -217,7 +222,11 @@ public class BusinessImpl implements Business, Serializable {
 	@Override
 	public SystemService getSystemService() {
 		if (systemService == null) {
-			systemService = new SystemServiceImpl();
+			synchronized (this) {
+				if (systemService == null) {
+					systemService = new SystemServiceImpl();
+				}
+			}
 		}
 		return systemService;
 	}
@@ -322,7 +331,11 @@ public class BusinessImpl implements Business, Serializable {
 	@Override
 	public PluginBusiness getPluginBusiness() {
 		if (pluginBusiness == null) {
-			pluginBusiness = new PluginBusinessImpl();
+			synchronized (this) {
+				if (pluginBusiness == null) {
+					pluginBusiness = new PluginBusinessImpl();
+				}
+			}
 		}
 		return pluginBusiness;
 	}
@@ -348,7 +361,11 @@ public class BusinessImpl implements Business, Serializable {
 	@Override
 	public Dao getDao() {
 		if (dao == null) {
-			dao = new DaoImpl();
+			synchronized (this) {
+				if (dao == null) {
+					dao = new DaoImpl();
+				}
+			}
 		}
 		return dao;
 	}
@@ -360,7 +377,11 @@ public class BusinessImpl implements Business, Serializable {
 
 	public SearchEngine getSearchEngine() {
 		if (searchEngine == null) {
-			searchEngine = new SearchEngineImpl();
+			synchronized (this) {
+				if (searchEngine == null) {
+					searchEngine = new SearchEngineImpl();
+				}
+			}
 		}
 		return searchEngine;
 	}
@@ -371,15 +392,15 @@ public class BusinessImpl implements Business, Serializable {
 
 	@Override
 	public ImportExportBusiness getImportExportBusiness() {
-		if (importExportBusiness == null) {
-			importExportBusiness = new ImportExportBusinessImpl();
+		if (importExportBusiness.get() == null) {
+			importExportBusiness.set(new ImportExportBusinessImpl());
 		}
-		return importExportBusiness;
+		return importExportBusiness.get();
 	}
 
 	@Override
 	public void setImportExportBusiness(ImportExportBusiness bean) {
-		importExportBusiness = bean;
+		importExportBusiness.set(bean);
 	}
 
 	@Override
@@ -488,7 +509,11 @@ public class BusinessImpl implements Business, Serializable {
 	@Override
 	public RewriteUrlBusiness getRewriteUrlBusiness() {
 		if (rewriteUrlBusiness == null) {
-			rewriteUrlBusiness = new RewriteUrlBusinessImpl();
+			synchronized (this) {
+				if (rewriteUrlBusiness == null) {
+					rewriteUrlBusiness = new RewriteUrlBusinessImpl();
+				}
+			}
 		}
 		return rewriteUrlBusiness;
 	}
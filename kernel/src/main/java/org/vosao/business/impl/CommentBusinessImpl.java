@@ -55,7 +55,7 @@ public class CommentBusinessImpl extends AbstractBusinessImpl
 		CommentEntity comment = new CommentEntity(name, content, 
 				new Date(), page.getFriendlyURL());
 		getDao().getCommentDao().save(comment);
-		getBusiness().getSystemService().getPageCache().remove(
+		getBusiness().getSystemService().getPageCache().markStale(
 				page.getFriendlyURL());
 		List<String> toAddresses = StrUtil.fromCSV(config.getCommentsEmail());
 		if (toAddresses.size() == 0) {
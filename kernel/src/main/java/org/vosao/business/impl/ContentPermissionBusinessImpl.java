@@ -23,16 +23,13 @@
 package org.vosao.business.impl;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.vosao.business.ContentPermissionBusiness;
 import org.vosao.business.FolderBusiness;
 import org.vosao.entity.ContentPermissionEntity;
 import org.vosao.entity.GroupEntity;
 import org.vosao.entity.UserEntity;
-import org.vosao.entity.UserGroupEntity;
 import org.vosao.enums.ContentPermissionType;
 import org.vosao.i18n.Messages;
 import org.vosao.utils.UrlUtil;
@@ -43,10 +40,28 @@ import org.vosao.utils.UrlUtil;
 public class ContentPermissionBusinessImpl extends AbstractBusinessImpl
 		implements ContentPermissionBusiness {
 
+	private static volatile ContentPermissionIndex index;
+	
+	/**
+	 * Index is shared by all requests and rebuilt after any permission 
+	 * change.
+	 */
+	private ContentPermissionIndex getIndex() {
+		long timestamp = getDao().getContentPermissionDao().getTimestamp();
+		ContentPermissionIndex result = index;
+		if (result == null || result.getTimestamp() != timestamp) {
+			result = new ContentPermissionIndex(
+					getDao().getContentPermissionDao().select(), timestamp);
+			index = result;
+		}
+		return result;
+	}
+	
 	@Override
 	public ContentPermissionEntity getGuestPermission(final String url) {
 		GroupEntity guests = getDao().getGroupDao().getGuestsGroup();
-		ContentPermissionEntity result = getGroupPermission(url, guests.getId());
+		ContentPermissionEntity result = getIndex().getGroupPermission(url, 
+				guests.getId());
 		result.setUrl(url);
 		return result;
 	}
@@ -60,64 +75,15 @@ public class ContentPermissionBusinessImpl extends AbstractBusinessImpl
 		if (user.isAdmin()) {
 			return new ContentPermissionEntity(url, ContentPermissionType.ADMIN);
 		}
-		List<UserGroupEntity> userGroups = getDao().getUserGroupDao()
-				.selectByUser(user.getId());
-		userGroups.add(new UserGroupEntity(getDao().getGroupDao()
-				.getGuestsGroup().getId(), user.getId()));
-		List<ContentPermissionEntity> permissions = new ArrayList<ContentPermissionEntity>();
-		for (UserGroupEntity userGroup : userGroups) {
-			ContentPermissionEntity contentPermission = getGroupPermission(url,
-					userGroup.getGroupId());
-			if (contentPermission != null) {
-				permissions.add(contentPermission);
-			}
-		}
-		ContentPermissionEntity result = consolidatePermissions(permissions);
+		List<Long> groupIds = new ArrayList<Long>(
+				UserIdentityCache.getGroupIds(getDao(), user.getId()));
+		groupIds.add(getDao().getGroupDao().getGuestsGroup().getId());
+		ContentPermissionEntity result = getIndex().getPermission(url, 
+				groupIds);
 		result.setUrl(url);
 		return result;
 	}
 
-	private ContentPermissionEntity consolidatePermissions(
-			List<ContentPermissionEntity> permissions) {
-		ContentPermissionEntity result = new ContentPermissionEntity();
-		result.setPermission(ContentPermissionType.DENIED);
-		result.setAllLanguages(false);
-		Set<String> languages = new HashSet<String>();
-		for (ContentPermissionEntity perm : permissions) {
-			if (perm.isMyPermissionHigher(result)) {
-				result.setPermission(perm.getPermission());
-				if (perm.isAllLanguages()) {
-					result.setAllLanguages(true);
-				}
-				languages.addAll(perm.getLanguagesList());
-			}
-		}
-		String langs = "";
-		for (String lang : languages) {
-			langs += (langs.equals("") ? "" : ",") + lang;
-		}
-		result.setLanguages(langs);
-		return result;
-	}
-
-	private ContentPermissionEntity getGroupPermission(String url, Long groupId) {
-		String myUrl = url;
-		while (myUrl != null) {
-			ContentPermissionEntity perm = getDao().getContentPermissionDao()
-					.getByUrlGroup(myUrl, groupId);
-			if (perm != null) {
-				return perm;
-			}
-			if (myUrl.equals("/")) {
-				myUrl = null;
-			} else {
-				myUrl = UrlUtil.getParentFriendlyURL(myUrl);
-			}
-		}
-		;
-		return null;
-	}
-
 	@Override
 	public void setPermission(String url, GroupEntity group,
 			ContentPermissionType permission) {
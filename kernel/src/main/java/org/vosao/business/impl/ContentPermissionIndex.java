@@ -0,0 +1,185 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.vosao.entity.ContentPermissionEntity;
+import org.vosao.enums.ContentPermissionType;
+import org.vosao.utils.FolderUtil;
+
+/**
+ * Prefix tree of all content permissions by url path. Group permission of 
+ * url is the permission set for the nearest url ancestor, so permissions 
+ * of all groups are found with one walk from root to url. Consolidated 
+ * permissions are memoized by url and groups.
+ */
+public class ContentPermissionIndex {
+
+	private static final int MAX_MEMO_SIZE = 10000;
+	
+	private static class Node {
+		
+		Map<String, Node> children = new HashMap<String, Node>();
+		
+		/**
+		 * group id -> permission set for this url 
+		 */
+		Map<Long, ContentPermissionEntity> permissions = 
+				new HashMap<Long, ContentPermissionEntity>();
+	}
+	
+	private Node root;
+	private long timestamp;
+	private Map<String, ContentPermissionEntity> memo;
+	
+	public ContentPermissionIndex(List<ContentPermissionEntity> list, 
+			long timestamp) {
+		this.timestamp = timestamp;
+		root = new Node();
+		memo = new ConcurrentHashMap<String, ContentPermissionEntity>();
+		for (ContentPermissionEntity perm : list) {
+			if (perm.getUrl() == null || perm.getGroupId() == null) {
+				continue;
+			}
+			Node node = root;
+			for (String part : FolderUtil.getPathChain(perm.getUrl())) {
+				Node child = node.children.get(part);
+				if (child == null) {
+					child = new Node();
+					node.children.put(part, child);
+				}
+				node = child;
+			}
+			node.permissions.put(perm.getGroupId(), perm);
+		}
+	}
+
+	/**
+	 * Timestamp of permissions state index was built from.
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+	
+	/**
+	 * Find permissions of groups inherited by url in one walk from root.
+	 * @return group id -> nearest permission in groups order. Groups without 
+	 * permission are absent.
+	 */
+	public Map<Long, ContentPermissionEntity> getGroupPermissions(String url, 
+			Collection<Long> groupIds) {
+		Map<Long, ContentPermissionEntity> found = 
+				new HashMap<Long, ContentPermissionEntity>();
+		Node node = root;
+		String[] chain = FolderUtil.getPathChain(url);
+		for (int i = 0; node != null; i++) {
+			for (Long groupId : groupIds) {
+				ContentPermissionEntity perm = node.permissions.get(groupId);
+				if (perm != null) {
+					found.put(groupId, perm);
+				}
+			}
+			node = i < chain.length ? node.children.get(chain[i]) : null;
+		}
+		Map<Long, ContentPermissionEntity> result = 
+				new LinkedHashMap<Long, ContentPermissionEntity>();
+		for (Long groupId : groupIds) {
+			if (found.containsKey(groupId)) {
+				result.put(groupId, found.get(groupId));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Find permission of group inherited by url.
+	 * @return copy of permission entity or null if not found.
+	 */
+	public ContentPermissionEntity getGroupPermission(String url, 
+			Long groupId) {
+		ContentPermissionEntity perm = getGroupPermissions(url, 
+				Collections.singletonList(groupId)).get(groupId);
+		return perm == null ? null : copy(perm);
+	}
+	
+	/**
+	 * Consolidated highest permission of groups for url.
+	 * @return new permission entity which can be changed by caller.
+	 */
+	public ContentPermissionEntity getPermission(String url, 
+			Collection<Long> groupIds) {
+		String key = url + ":" + groupIds;
+		ContentPermissionEntity result = memo.get(key);
+		if (result == null) {
+			result = consolidatePermissions(getGroupPermissions(url, 
+					groupIds).values());
+			if (memo.size() >= MAX_MEMO_SIZE) {
+				memo.clear();
+			}
+			memo.put(key, result);
+		}
+		return copy(result);
+	}
+	
+	private static ContentPermissionEntity consolidatePermissions(
+			Collection<ContentPermissionEntity> permissions) {
+		ContentPermissionEntity result = new ContentPermissionEntity();
+		result.setPermission(ContentPermissionType.DENIED);
+		result.setAllLanguages(false);
+		Set<String> languages = new LinkedHashSet<String>();
+		for (ContentPermissionEntity perm : permissions) {
+			if (perm.isMyPermissionHigher(result)) {
+				result.setPermission(perm.getPermission());
+				if (perm.isAllLanguages()) {
+					result.setAllLanguages(true);
+				}
+				languages.addAll(perm.getLanguagesList());
+			}
+		}
+		String langs = "";
+		for (String lang : languages) {
+			langs += (langs.equals("") ? "" : ",") + lang;
+		}
+		result.setLanguages(langs);
+		return result;
+	}
+
+	private static ContentPermissionEntity copy(ContentPermissionEntity perm) {
+		ContentPermissionEntity result = new ContentPermissionEntity(
+				perm.getUrl(), perm.getPermission(), perm.getGroupId());
+		result.setId(perm.getId());
+		result.setAllLanguages(perm.isAllLanguages());
+		result.setLanguages(perm.getLanguages());
+		return result;
+	}
+	
+}
@@ -76,7 +76,8 @@ public class FolderBusinessImpl extends AbstractBusinessImpl
 		long startTime = System.currentTimeMillis();
 		logger.info("---------FolderBusinessImpl.getTree start:" +startTime);
 		
-		List<FolderEntity> select = getDao().getFolderDao().select();		
+		List<FolderEntity> select = FolderTree.getInstance(getDao())
+				.getFolders();
 		logger.info("--------FolderBusinessImpl.getTree end" +(System.currentTimeMillis()-startTime));
 		TreeItemDecorator<FolderEntity> e= getTree(select);
 		return  e;
@@ -308,8 +309,7 @@ public class FolderBusinessImpl extends AbstractBusinessImpl
 
 	@Override
 	public FolderEntity getByPath(String path) {
-		FolderEntity result = getDao().getFolderDao().getByPath(path);
-		return result != null ? result: null;
+		return FolderTree.getInstance(getDao()).getByPath(path);
 	}
 	
 	
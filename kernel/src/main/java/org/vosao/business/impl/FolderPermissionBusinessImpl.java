@@ -33,7 +33,6 @@ import org.vosao.entity.FolderEntity;
 import org.vosao.entity.FolderPermissionEntity;
 import org.vosao.entity.GroupEntity;
 import org.vosao.entity.UserEntity;
-import org.vosao.entity.UserGroupEntity;
 import org.vosao.enums.FolderPermissionType;
 import org.vosao.i18n.Messages;
 
@@ -62,15 +61,14 @@ public class FolderPermissionBusinessImpl extends AbstractBusinessImpl
 			return new FolderPermissionEntity(folder.getId(), 
 					FolderPermissionType.ADMIN);
 		}
-		List<UserGroupEntity> userGroups = getDao().getUserGroupDao()
-				.selectByUser(user.getId());
-		userGroups.add(new UserGroupEntity(getDao().getGroupDao()
-				.getGuestsGroup().getId(), user.getId()));
+		List<Long> groupIds = new ArrayList<Long>(
+				UserIdentityCache.getGroupIds(getDao(), user.getId()));
+		groupIds.add(getDao().getGroupDao().getGuestsGroup().getId());
 		List<FolderPermissionEntity> permissions = 
 				new ArrayList<FolderPermissionEntity>();
-		for (UserGroupEntity userGroup : userGroups) {
+		for (Long groupId : groupIds) {
 			FolderPermissionEntity FolderPermission = getGroupPermission(folder, 
-					userGroup.getGroupId());
+					groupId);
 			if (FolderPermission != null) {
 				permissions.add(FolderPermission);
 			}
@@ -95,25 +93,26 @@ public class FolderPermissionBusinessImpl extends AbstractBusinessImpl
 
 	private FolderPermissionEntity getGroupPermission(FolderEntity folder,
 			Long groupId) {
-		FolderEntity myFolder = folder;
+		FolderPermissionEntity perm = getFolderTree().getGroupPermission(
+				folder.getId(), groupId);
+		if (perm != null) {
+			return perm;
+		}
 		FolderPermissionEntity result = new FolderPermissionEntity(folder.getId());
 		result.setPermission(FolderPermissionType.DENIED);
-		while (myFolder != null) {
-			FolderPermissionEntity perm = getDao().getFolderPermissionDao()
-				.getByFolderGroup(myFolder.getId(), groupId);
-			if (perm != null) {
-				return perm;
-			}
-			if (myFolder.isRoot()) {
-				myFolder = null;
-			}
-			else {
-				myFolder = getDao().getFolderDao().getById(myFolder.getParent());
-			}
-		};		
 		return result;
 	}
 
+	private FolderTree getFolderTree() {
+		return FolderTree.getInstance(getDao());
+	}
+
+	private String getFolderPath(FolderEntity folder) {
+		String path = getFolderTree().getFolderPath(folder.getId());
+		return path != null ? path 
+				: getDao().getFolderDao().getFolderPath(folder.getId());
+	}
+
 	@Override
 	public void setPermission(FolderEntity folder, GroupEntity group,
 			FolderPermissionType permission) {
@@ -164,7 +163,7 @@ public class FolderPermissionBusinessImpl extends AbstractBusinessImpl
 	}
 
 	private FolderPermissionEntity getPagePermission(FolderEntity folder) {
-		String path = getDao().getFolderDao().getFolderPath(folder.getId());
+		String path = getFolderPath(folder);
 		FolderPermissionEntity result = new FolderPermissionEntity();
 		result.setPermission(FolderPermissionType.DENIED);
 		if (path.startsWith(PAGE)) {
@@ -0,0 +1,224 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.vosao.dao.Dao;
+import org.vosao.entity.FolderEntity;
+import org.vosao.entity.FolderPermissionEntity;
+
+/**
+ * Immutable snapshot of folders tree with folder paths and effective group 
+ * permissions. Group permission of folder is the permission set for the 
+ * nearest folder ancestor. Snapshot is shared by requests and replaced when 
+ * folders or folder permissions change.
+ */
+public class FolderTree {
+
+	private static volatile FolderTree instance;
+	
+	/**
+	 * Get actual snapshot. Snapshot is rebuilt if folders or folder 
+	 * permissions were changed.
+	 */
+	public static FolderTree getInstance(Dao dao) {
+		long folderTimestamp = dao.getFolderDao().getTimestamp();
+		long permissionTimestamp = dao.getFolderPermissionDao().getTimestamp();
+		FolderTree result = instance;
+		if (result == null 
+				|| !result.isActual(folderTimestamp, permissionTimestamp)) {
+			result = new FolderTree(dao.getFolderDao().select(), 
+					dao.getFolderPermissionDao().select(), folderTimestamp, 
+					permissionTimestamp);
+			instance = result;
+		}
+		return result;
+	}
+	
+	private long folderTimestamp;
+	private long permissionTimestamp;
+	
+	private Map<Long, FolderEntity> folders;
+	
+	/**
+	 * folder path -> folder id. Root folder path is empty string.
+	 */
+	private Map<String, Long> ids;
+	
+	private Map<Long, String> paths;
+	
+	private Map<Long, List<FolderEntity>> children;
+	
+	/**
+	 * folder id -> (group id -> effective permission). Folders without own 
+	 * permissions share parent map.
+	 */
+	private Map<Long, Map<Long, FolderPermissionEntity>> permissions;
+	
+	public FolderTree(List<FolderEntity> folderList, 
+			List<FolderPermissionEntity> permissionList,
+			long folderTimestamp, long permissionTimestamp) {
+		this.folderTimestamp = folderTimestamp;
+		this.permissionTimestamp = permissionTimestamp;
+		folders = new HashMap<Long, FolderEntity>();
+		children = new HashMap<Long, List<FolderEntity>>();
+		FolderEntity root = null;
+		for (FolderEntity folder : folderList) {
+			folders.put(folder.getId(), folder);
+			if (folder.isRoot()) {
+				if ("/".equals(folder.getName())) {
+					root = folder;
+				}
+				continue;
+			}
+			List<FolderEntity> list = children.get(folder.getParent());
+			if (list == null) {
+				list = new ArrayList<FolderEntity>();
+				children.put(folder.getParent(), list);
+			}
+			list.add(folder);
+		}
+		Map<Long, Map<Long, FolderPermissionEntity>> own = 
+				new HashMap<Long, Map<Long, FolderPermissionEntity>>();
+		for (FolderPermissionEntity perm : permissionList) {
+			Map<Long, FolderPermissionEntity> map = own.get(perm.getFolderId());
+			if (map == null) {
+				map = new HashMap<Long, FolderPermissionEntity>();
+				own.put(perm.getFolderId(), map);
+			}
+			map.put(perm.getGroupId(), perm);
+		}
+		ids = new HashMap<String, Long>();
+		paths = new HashMap<Long, String>();
+		permissions = new HashMap<Long, Map<Long, FolderPermissionEntity>>();
+		if (root != null) {
+			addFolder(root, "", Collections.EMPTY_MAP, own);
+		}
+	}
+	
+	private void addFolder(FolderEntity folder, String path,
+			Map<Long, FolderPermissionEntity> parentPermissions,
+			Map<Long, Map<Long, FolderPermissionEntity>> own) {
+		if (paths.containsKey(folder.getId())) {
+			return;
+		}
+		ids.put(path, folder.getId());
+		paths.put(folder.getId(), path);
+		Map<Long, FolderPermissionEntity> folderPermissions = parentPermissions;
+		if (own.containsKey(folder.getId())) {
+			folderPermissions = new HashMap<Long, FolderPermissionEntity>(
+					parentPermissions);
+			folderPermissions.putAll(own.get(folder.getId()));
+		}
+		permissions.put(folder.getId(), folderPermissions);
+		if (children.containsKey(folder.getId())) {
+			for (FolderEntity child : children.get(folder.getId())) {
+				addFolder(child, path + "/" + child.getName(), 
+						folderPermissions, own);
+			}
+		}
+	}
+
+	public boolean isActual(long folderTimestamp, long permissionTimestamp) {
+		return this.folderTimestamp == folderTimestamp 
+				&& this.permissionTimestamp == permissionTimestamp;
+	}
+	
+	/**
+	 * Find folder by path. Empty path elements are skipped.
+	 * @return copy of folder entity or null if not found.
+	 */
+	public FolderEntity getByPath(String path) {
+		StringBuffer key = new StringBuffer();
+		for (String name : path.split("/")) {
+			if (!name.equals("")) {
+				key.append("/").append(name);
+			}
+		}
+		return getById(ids.get(key.toString()));
+	}
+
+	/**
+	 * @return copy of folder entity or null if not found.
+	 */
+	public FolderEntity getById(Long id) {
+		FolderEntity folder = folders.get(id);
+		if (folder == null) {
+			return null;
+		}
+		FolderEntity result = new FolderEntity();
+		result.copy(folder);
+		result.setKey(folder.getKey());
+		return result;
+	}
+	
+	/**
+	 * @return folder path or null for folder not connected to root.
+	 */
+	public String getFolderPath(Long id) {
+		return paths.get(id);
+	}
+	
+	/**
+	 * @return copies of all folders.
+	 */
+	public List<FolderEntity> getFolders() {
+		List<FolderEntity> result = new ArrayList<FolderEntity>();
+		for (Long id : folders.keySet()) {
+			result.add(getById(id));
+		}
+		return result;
+	}
+	
+	public List<FolderEntity> getChildren(Long id) {
+		List<FolderEntity> result = new ArrayList<FolderEntity>();
+		if (children.containsKey(id)) {
+			for (FolderEntity child : children.get(id)) {
+				result.add(getById(child.getId()));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return copy of permission set for the nearest folder ancestor or null.
+	 */
+	public FolderPermissionEntity getGroupPermission(Long folderId, 
+			Long groupId) {
+		Map<Long, FolderPermissionEntity> map = permissions.get(folderId);
+		FolderPermissionEntity perm = map == null ? null : map.get(groupId);
+		if (perm == null) {
+			return null;
+		}
+		FolderPermissionEntity result = new FolderPermissionEntity(
+				perm.getFolderId(), perm.getPermission(), perm.getGroupId());
+		result.setKey(perm.getKey());
+		return result;
+	}
+
+}
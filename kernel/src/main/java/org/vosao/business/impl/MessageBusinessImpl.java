@@ -26,10 +26,13 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.commons.lang.StringUtils;
 import org.vosao.business.MessageBusiness;
 import org.vosao.entity.MessageEntity;
+import org.vosao.i18n.MessageBundle;
 import org.vosao.i18n.Messages;
 
 /**
@@ -40,11 +43,41 @@ public class MessageBusinessImpl extends AbstractBusinessImpl
 
 	private static final String DEFAULT_BUNDLE_LANGUAGE = "en";
 	
+	/**
+	 * Merged bundles by language code built for one messages version.
+	 */
+	private static class Bundles {
+		
+		private final long timestamp;
+		private final ConcurrentMap<String, MessageBundle> map = 
+				new ConcurrentHashMap<String, MessageBundle>();
+
+		public Bundles(long timestamp) {
+			this.timestamp = timestamp;
+		}
+	}
+	
+	private static volatile Bundles bundles;
+	
+	/**
+	 * Bundles are shared by requests and rebuilt after any message change.
+	 */
 	@Override
 	public Map<String, String> getBundle(String languageCode) {
-		Map<String, String> result = new HashMap<String, String>();
-		addMessages(result, DEFAULT_BUNDLE_LANGUAGE);
-		addMessages(result, languageCode);
+		long timestamp = getDao().getMessageDao().getTimestamp();
+		Bundles current = bundles;
+		if (current == null || current.timestamp != timestamp) {
+			current = new Bundles(timestamp);
+			bundles = current;
+		}
+		MessageBundle result = current.map.get(languageCode);
+		if (result == null) {
+			Map<String, String> messages = new HashMap<String, String>();
+			addMessages(messages, DEFAULT_BUNDLE_LANGUAGE);
+			addMessages(messages, languageCode);
+			result = new MessageBundle(messages);
+			current.map.put(languageCode, result);
+		}
 		return result;
 	}
 
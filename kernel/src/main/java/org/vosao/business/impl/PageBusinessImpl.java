@@ -22,6 +22,9 @@
 
 package org.vosao.business.impl;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -51,6 +54,7 @@ import org.vosao.business.impl.pagefilter.HeadEndPageFilter;
 import org.vosao.business.impl.pagefilter.HtmlEndPageFilter;
 import org.vosao.business.impl.pagefilter.MetaPageFilter;
 import org.vosao.business.impl.pagefilter.PageFilter;
+import org.vosao.business.impl.pagefilter.PageFilterWriter;
 import org.vosao.business.mq.Topic;
 import org.vosao.business.mq.message.PageMessage;
 import org.vosao.business.page.PageRenderDecorator;
@@ -84,18 +88,38 @@ import org.vosao.velocity.impl.VosaoTool;
 public class PageBusinessImpl extends AbstractBusinessImpl 
 	implements PageBusiness {
 
-	private VelocityPluginService velocityPluginService;
-	private List<PageFilter> pageFilters;
-	private VelocityService velocityService;
-
-	private List<PageFilter> getPageFilters() {
-		if (pageFilters == null) {
-			pageFilters = new ArrayList<PageFilter>();
+	/**
+	 * Stateless velocity tools shared by all rendering contexts.
+	 */
+	private static volatile VelocityContext toolsContext;
+	
+	private volatile VelocityPluginService velocityPluginService;
+	private volatile VelocityService velocityService;
+	
+	private static class SiteContext {
+		private final VelocityContext context;
+		private final long timestamp;
+		
+		public SiteContext(VelocityContext context, long timestamp) {
+			this.context = context;
+			this.timestamp = timestamp;
+		}
+	}
+	
+	/**
+	 * Velocity services and plugins chained to shared tools. Rebuilt when 
+	 * plugins change.
+	 */
+	private volatile SiteContext siteContext;
+
+	private List<PageFilter> createPageFilters(PageEntity page) {
+		List<PageFilter> pageFilters = new ArrayList<PageFilter>();
+		if (!page.isSkipPostProcessing()) {
 			pageFilters.add(new HeadBeginPageFilter(getBusiness()));
+			pageFilters.add(new MetaPageFilter());
 			pageFilters.add(new HeadEndPageFilter(getBusiness()));
 			pageFilters.add(new HtmlEndPageFilter(getBusiness()));
 			pageFilters.add(new BodyBeginPageFilter(getBusiness()));
-			pageFilters.add(new MetaPageFilter());
 		}
 		return pageFilters;
 	}
@@ -147,24 +171,56 @@ public class PageBusinessImpl extends AbstractBusinessImpl
 	@Override 
 	public String render(PageEntity page, String template, 
 			String languageCode) {
+		StringWriter out = new StringWriter();
+		try {
+			render(page, null, template, languageCode, out);
+		}
+		catch (IOException e) {
+			logger.error(e.getMessage());
+		}
+		return out.toString();
+	}
+
+	private void render(PageEntity page, String templateKey, 
+			String template, String languageCode, Writer out) 
+			throws IOException {
 		VosaoContext.getInstance().getPageRenderingContext().setPage(page);
 		VelocityContext context = createContext(languageCode, page);
 		context.put("page", createPageRenderDecorator(page, languageCode));
-		return pagePostProcess(getSystemService().render(template, context), 
+		Writer pageOut = new PageFilterWriter(out, createPageFilters(page), 
 				page);
+		getSystemService().render(templateKey, template, context, pageOut);
+		pageOut.close();
 	}
 	
 	@Override
 	public String render(PageEntity page, String languageCode) {
+		StringWriter out = new StringWriter();
+		try {
+			render(page, languageCode, out);
+		}
+		catch (IOException e) {
+			logger.error(e.getMessage());
+		}
+		return out.toString();
+	}
+
+	@Override
+	public void render(PageEntity page, String languageCode, Writer out) 
+			throws IOException {
 		VosaoContext.getInstance().getPageRenderingContext().setPage(page);
 		if (page.getTemplate() != null) {
 			TemplateEntity template = getDao().getTemplateDao().getById(
 					page.getTemplate());
-			return render(page, template.getContent(), languageCode);
+			render(page, "template:" + template.getId(), 
+					template.getContent(), languageCode, out);
 		}
 		else {
 			ContentEntity content = getPageContent(page, languageCode);
-			return pagePostProcess(content.getContent(), page);
+			Writer pageOut = new PageFilterWriter(out, 
+					createPageFilters(page), page);
+			pageOut.write(content.getContent());
+			pageOut.close();
 		}
 	}
 	
@@ -202,14 +258,12 @@ public class PageBusinessImpl extends AbstractBusinessImpl
 			PageEntity page) {
 		LanguageEntity language = getDao().getLanguageDao().getByCode(
 				languageCode);
-		VelocityContext context = new VelocityContext();
+		VelocityContext context = new RenderContext(getSiteContext());
 		ConfigEntity configEntity = getBusiness().getConfigBusiness().getConfig();
-		addVelocityTools(context);
+		addRequestVelocityTools(context);
 		context.put("language", language);
 		context.put("locale", new Locale(language.getCode()));
 		context.put("config", configEntity);
-		context.put("service", getVelocityService());
-		context.put("plugin", getVelocityPluginService().getPlugins());
 		context.put("messages", getBusiness().getMessageBusiness().getBundle(
 				languageCode));
 		context.put("user", getBusiness().getUser());
@@ -222,11 +276,54 @@ public class PageBusinessImpl extends AbstractBusinessImpl
 		return context;
 	}
 
-	@Override
-	public void addVelocityTools(VelocityContext context) {
-		context.put("date", new MyDateTool(getBusiness().getTimeZone()));
+	/**
+	 * Page rendering context. Marks rendered page as user specific when 
+	 * template reads $user, $request or $response. This guards pages 
+	 * explicitly cached for logged in users and pages rendered into cache 
+	 * by background tasks.
+	 */
+	private static class RenderContext extends VelocityContext {
+		
+		public RenderContext(VelocityContext inner) {
+			super(inner);
+		}
+		
+		@Override
+		public Object internalGet(String key) {
+			if ("user".equals(key) || "request".equals(key) 
+					|| "response".equals(key)) {
+				VosaoContext.getInstance().getPageRenderingContext()
+						.setUserSpecific(true);
+			}
+			return super.internalGet(key);
+		}
+	}
+
+	private VelocityContext getSiteContext() {
+		long timestamp = getDao().getPluginDao().getTimestamp();
+		SiteContext result = siteContext;
+		if (result == null || result.timestamp != timestamp) {
+			VelocityContext context = new VelocityContext(getToolsContext());
+			context.put("service", getVelocityService());
+			context.put("plugin", getVelocityPluginService().getPlugins());
+			result = new SiteContext(context, timestamp);
+			siteContext = result;
+		}
+		return result.context;
+	}
+	
+	private static VelocityContext getToolsContext() {
+		VelocityContext context = toolsContext;
+		if (context == null) {
+			context = new VelocityContext();
+			addStatelessVelocityTools(context);
+			toolsContext = context;
+		}
+		return context;
+	}
+	
+	private static void addStatelessVelocityTools(VelocityContext context) {
 		context.put("esc", new MyEscTool());
-		context.put("link", new LinkTool());
 		context.put("list", new ListTool());
 		context.put("number", new NumberTool());
 		context.put("render", new RenderTool());
@@ -234,19 +331,22 @@ public class PageBusinessImpl extends AbstractBusinessImpl
 		context.put("math", new MathTool());
 		context.put("alternator", new AlternatorTool());
 		context.put("comparisonDate", new ComparisonDateTool());
-		context.put("iterator", new IteratorTool());
 		context.put("parser", new ValueParser());
 	}
 	
-	private String pagePostProcess(final String content, 
-			final PageEntity pageEntity) {
-		String result = content;
-		if (!pageEntity.isSkipPostProcessing()) {
-			for (PageFilter filter : getPageFilters()) {
-				result = filter.apply(result, pageEntity);
-			}
-		}
-		return result;
+	/**
+	 * Tools depending on current user or keeping state.
+	 */
+	private void addRequestVelocityTools(VelocityContext context) {
+		context.put("date", new MyDateTool(getBusiness().getTimeZone()));
+		context.put("link", new LinkTool());
+		context.put("iterator", new IteratorTool());
+	}
+	
+	@Override
+	public void addVelocityTools(VelocityContext context) {
+		addStatelessVelocityTools(context);
+		addRequestVelocityTools(context);
 	}
 	
 	@Override
@@ -522,7 +622,7 @@ public class PageBusinessImpl extends AbstractBusinessImpl
 	public void saveContent(PageEntity page, String language, String content) {
 		ContentEntity contentEntity = getDao().getPageDao().setContent(
 				page.getId(), language, content);
-		getSystemService().getPageCache().remove(page.getFriendlyURL());
+		getSystemService().getPageCache().markStale(page.getFriendlyURL());
 		PageMessage message = new PageMessage(Topic.PAGES_CHANGED,
 				page.getFriendlyURL(), page.getId());
 		getBusiness().getMessageQueue().publish(message);
@@ -780,6 +880,7 @@ public class PageBusinessImpl extends AbstractBusinessImpl
 				page.getParentFriendlyURL());
 		
 		page.setCached(defaultPage.isCached());
+		page.setUserCached(defaultPage.isUserCached());
 		page.setCommentsEnabled(defaultPage.isCommentsEnabled());
 		page.setContentType(defaultPage.getContentType());
 		page.setDescription(defaultPage.getDescription());
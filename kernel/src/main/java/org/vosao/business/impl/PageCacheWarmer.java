@@ -0,0 +1,187 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.vosao.business.Business;
+import org.vosao.business.mq.message.PageCacheWarmMessage;
+import org.vosao.common.VosaoContext;
+import org.vosao.entity.LanguageEntity;
+
+import com.google.appengine.api.memcache.MemcacheService.SetPolicy;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+import com.google.appengine.api.utils.SystemProperty;
+
+/**
+ * Tracks the most visited guest pages and schedules their rendering into 
+ * page cache after cache reset, deploy or scheduled publishing. Each 
+ * instance counts its own hits and merges its hot pages with hot pages of 
+ * other instances shared through cache.
+ */
+public class PageCacheWarmer {
+
+	private static final Log logger = LogFactory.getLog(
+			PageCacheWarmer.class);
+
+	public static final int HOT_PAGES = 300;
+	
+	private static final String HOT_PAGES_KEY = "hotPageCounts";
+	
+	private static final String DEPLOY_KEY = "hotPagesDeploy:";
+	
+	private static final long SHARE_INTERVAL = 60 * 1000L;
+	
+	private static final PageHitSketch sketch = new PageHitSketch(8192, 
+			HOT_PAGES * 2, 1000000);
+	
+	private static final AtomicLong lastShare = new AtomicLong(
+			System.currentTimeMillis());
+	
+	private static final AtomicBoolean deployChecked = new AtomicBoolean();
+	
+	public static String getKey(String url, String language) {
+		return language + ":" + url;
+	}
+	
+	public static String getUrl(String key) {
+		return key.substring(key.indexOf(':') + 1);
+	}
+
+	public static String getLanguage(String key) {
+		return key.substring(0, key.indexOf(':'));
+	}
+	
+	private static Business getBusiness() {
+		return VosaoContext.getInstance().getBusiness();
+	}
+	
+	/**
+	 * Count guest page hit.
+	 */
+	public static void hit(String url, String language) {
+		sketch.add(getKey(url, language));
+		long last = lastShare.get();
+		long now = System.currentTimeMillis();
+		if (now - last > SHARE_INTERVAL && lastShare.compareAndSet(last, now)) {
+			share();
+		}
+		if (deployChecked.compareAndSet(false, true)) {
+			checkDeploy();
+		}
+	}
+	
+	/**
+	 * Merge hot pages of this instance into shared hot pages. Concurrent 
+	 * update by another instance may be lost, it is repeated on its next 
+	 * share.
+	 */
+	private static void share() {
+		try {
+			getBusiness().getSystemService().getCache().put(HOT_PAGES_KEY, 
+					new HashMap<String, Integer>(PageHitSketch.merge(
+							sketch.getTopCounts(HOT_PAGES), getSharedCounts(), 
+							HOT_PAGES)));
+		}
+		catch (Exception e) {
+			logger.error(e.getMessage());
+		}
+	}
+	
+	private static Map<String, Integer> getSharedCounts() {
+		return (Map<String, Integer>)getBusiness().getSystemService()
+				.getCache().get(HOT_PAGES_KEY);
+	}
+	
+	/**
+	 * The first instance of new deployed version warms hot pages.
+	 */
+	private static void checkDeploy() {
+		try {
+			String version = SystemProperty.applicationVersion.get();
+			if (version != null && MemcacheServiceFactory.getMemcacheService()
+					.put(DEPLOY_KEY + version, Boolean.TRUE, null, 
+						SetPolicy.ADD_ONLY_IF_NOT_PRESENT)) {
+				warmPages(getHotPages());
+			}
+		}
+		catch (Exception e) {
+			logger.error(e.getMessage());
+		}
+	}
+	
+	/**
+	 * @return "language:url" keys of the most visited pages.
+	 */
+	public static List<String> getHotPages() {
+		try {
+			Map<String, Integer> counts = getSharedCounts();
+			if (counts != null) {
+				return new ArrayList<String>(PageHitSketch.sortByCount(counts, 
+						HOT_PAGES).keySet());
+			}
+		}
+		catch (Exception e) {
+			logger.error(e.getMessage());
+		}
+		return sketch.getTop(HOT_PAGES);
+	}
+	
+	/**
+	 * Render given pages in all languages and hot pages.
+	 */
+	public static void warm(Collection<String> urls) {
+		Set<String> pages = new LinkedHashSet<String>();
+		if (!urls.isEmpty()) {
+			for (LanguageEntity language : getBusiness().getDao()
+					.getLanguageDao().select()) {
+				for (String url : urls) {
+					pages.add(getKey(url, language.getCode()));
+				}
+			}
+		}
+		pages.addAll(getHotPages());
+		warmPages(new ArrayList<String>(pages));
+	}
+	
+	/**
+	 * Render pages given by "language:url" keys.
+	 */
+	public static void warmPages(List<String> pages) {
+		if (!pages.isEmpty()) {
+			VosaoContext.getInstance().getMessageQueue().publish(
+					new PageCacheWarmMessage(pages));
+		}
+	}
+	
+}
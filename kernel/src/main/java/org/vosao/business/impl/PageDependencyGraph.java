@@ -0,0 +1,111 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.vosao.dao.Dao;
+import org.vosao.entity.PageDependencyEntity;
+import org.vosao.utils.FolderUtil;
+
+/**
+ * Reverse page dependency graph. Page depends on url when it shows content 
+ * of that url or of any page under it. Graph is shared by requests and 
+ * rebuilt when page dependencies change.
+ */
+public class PageDependencyGraph {
+
+	private static volatile PageDependencyGraph instance;
+	
+	/**
+	 * Get actual graph. Graph is rebuilt if dependencies were changed.
+	 */
+	public static PageDependencyGraph getInstance(Dao dao) {
+		long timestamp = dao.getPageDependencyDao().getTimestamp();
+		PageDependencyGraph result = instance;
+		if (result == null || result.timestamp != timestamp) {
+			result = new PageDependencyGraph(
+					dao.getPageDependencyDao().select(), timestamp);
+			instance = result;
+		}
+		return result;
+	}
+	
+	private final long timestamp;
+	
+	/**
+	 * dependency url -> urls of dependent pages
+	 */
+	private final Map<String, List<String>> dependents;
+	
+	public PageDependencyGraph(List<PageDependencyEntity> list) {
+		this(list, 0);
+	}
+	
+	public PageDependencyGraph(List<PageDependencyEntity> list, 
+			long timestamp) {
+		this.timestamp = timestamp;
+		dependents = new HashMap<String, List<String>>();
+		for (PageDependencyEntity entity : list) {
+			List<String> pages = dependents.get(entity.getDependency());
+			if (pages == null) {
+				pages = new ArrayList<String>();
+				dependents.put(entity.getDependency(), pages);
+			}
+			pages.add(entity.getPage());
+		}
+	}
+	
+	/**
+	 * Find all pages directly or transitively dependent on changed pages.
+	 * @param urls - changed pages urls.
+	 * @return dependent pages urls.
+	 */
+	public Set<String> getDependentPages(Collection<String> urls) {
+		Set<String> result = new LinkedHashSet<String>();
+		List<String> queue = new ArrayList<String>(urls);
+		for (int i = 0; i < queue.size(); i++) {
+			String dependency = "";
+			for (String part : FolderUtil.getPathChain(queue.get(i))) {
+				dependency += "/" + part;
+				List<String> pages = dependents.get(dependency);
+				if (pages == null) {
+					continue;
+				}
+				for (String page : pages) {
+					if (result.add(page)) {
+						queue.add(page);
+					}
+				}
+			}
+		}
+		return result;
+	}
+	
+}
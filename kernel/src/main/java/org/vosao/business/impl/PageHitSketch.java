@@ -0,0 +1,208 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Approximate page hit counter. Hits are counted in count-min sketch of 
+ * fixed size and the most frequent keys are kept in small top table. All 
+ * counts are halved periodically so top follows recent traffic.
+ */
+public class PageHitSketch {
+
+	private static final int DEPTH = 4;
+	
+	private final int width;
+	private final int capacity;
+	private final long decayAfter;
+	private final AtomicIntegerArray counters;
+	private final ConcurrentMap<String, Integer> top;
+	private final AtomicLong hits;
+	
+	/**
+	 * Smallest count in full top table. New key must exceed it to get 
+	 * into top.
+	 */
+	private volatile int threshold;
+	
+	/**
+	 * @param width - counters in each sketch row.
+	 * @param capacity - size of top table.
+	 * @param decayAfter - number of hits after which all counts are halved.
+	 */
+	public PageHitSketch(int width, int capacity, long decayAfter) {
+		this.width = width;
+		this.capacity = capacity;
+		this.decayAfter = decayAfter;
+		counters = new AtomicIntegerArray(DEPTH * width);
+		top = new ConcurrentHashMap<String, Integer>();
+		hits = new AtomicLong();
+	}
+	
+	/**
+	 * FNV-1a hash. Always odd to be used as double hashing step.
+	 */
+	private static int secondHash(String s) {
+		int hash = 0x811c9dc5;
+		for (int i = 0; i < s.length(); i++) {
+			hash ^= s.charAt(i);
+			hash *= 0x01000193;
+		}
+		return hash | 1;
+	}
+	
+	private int index(int row, int hash) {
+		return row * width + (hash & Integer.MAX_VALUE) % width;
+	}
+	
+	public void add(String key) {
+		int h1 = key.hashCode();
+		int h2 = secondHash(key);
+		int count = Integer.MAX_VALUE;
+		for (int i = 0; i < DEPTH; i++) {
+			count = Math.min(count, counters.incrementAndGet(
+					index(i, h1 + i * h2)));
+		}
+		if (top.replace(key, count) == null 
+				&& (top.size() < capacity || count > threshold)) {
+			addTop(key, count);
+		}
+		if (hits.incrementAndGet() % decayAfter == 0) {
+			decay();
+		}
+	}
+	
+	/**
+	 * @return estimated number of hits. Never less than real number.
+	 */
+	public int estimate(String key) {
+		int h1 = key.hashCode();
+		int h2 = secondHash(key);
+		int count = Integer.MAX_VALUE;
+		for (int i = 0; i < DEPTH; i++) {
+			count = Math.min(count, counters.get(index(i, h1 + i * h2)));
+		}
+		return count;
+	}
+	
+	private synchronized void addTop(String key, int count) {
+		top.put(key, count);
+		while (top.size() > capacity) {
+			String minKey = null;
+			int min = Integer.MAX_VALUE;
+			int secondMin = Integer.MAX_VALUE;
+			for (Map.Entry<String, Integer> entry : top.entrySet()) {
+				int value = entry.getValue();
+				if (value < min) {
+					secondMin = min;
+					min = value;
+					minKey = entry.getKey();
+				}
+				else if (value < secondMin) {
+					secondMin = value;
+				}
+			}
+			top.remove(minKey);
+			threshold = secondMin;
+		}
+	}
+	
+	private synchronized void decay() {
+		for (int i = 0; i < counters.length(); i++) {
+			counters.set(i, counters.get(i) >> 1);
+		}
+		for (Map.Entry<String, Integer> entry : top.entrySet()) {
+			entry.setValue(entry.getValue() >> 1);
+		}
+		threshold = threshold >> 1;
+	}
+	
+	/**
+	 * @return up to n most frequent keys starting from the most frequent.
+	 */
+	public List<String> getTop(int n) {
+		return new ArrayList<String>(getTopCounts(n).keySet());
+	}
+	
+	/**
+	 * @return up to n most frequent keys with their counts starting from 
+	 * the most frequent.
+	 */
+	public LinkedHashMap<String, Integer> getTopCounts(int n) {
+		return sortByCount(top, n);
+	}
+	
+	/**
+	 * @return up to n keys with the largest counts starting from the 
+	 * largest.
+	 */
+	public static LinkedHashMap<String, Integer> sortByCount(
+			Map<String, Integer> counts, int n) {
+		List<Map.Entry<String, Integer>> entries = 
+				new ArrayList<Map.Entry<String, Integer>>(counts.entrySet());
+		Collections.sort(entries, new Comparator<Map.Entry<String, Integer>>() {
+			public int compare(Map.Entry<String, Integer> e1, 
+					Map.Entry<String, Integer> e2) {
+				return e2.getValue().compareTo(e1.getValue());
+			}
+		});
+		LinkedHashMap<String, Integer> result = 
+				new LinkedHashMap<String, Integer>();
+		for (int i = 0; i < entries.size() && i < n; i++) {
+			result.put(entries.get(i).getKey(), entries.get(i).getValue());
+		}
+		return result;
+	}
+	
+	/**
+	 * Merge counts of this instance into counts shared by all instances. 
+	 * Shared counts are halved so instances which stopped reporting fade 
+	 * out.
+	 * @return up to n keys with the largest merged counts starting from the 
+	 * largest.
+	 */
+	public static LinkedHashMap<String, Integer> merge(
+			Map<String, Integer> local, Map<String, Integer> shared, int n) {
+		Map<String, Integer> counts = new HashMap<String, Integer>(local);
+		if (shared != null) {
+			for (Map.Entry<String, Integer> entry : shared.entrySet()) {
+				Integer count = counts.get(entry.getKey());
+				counts.put(entry.getKey(), (count == null ? 0 : count) 
+						+ (entry.getValue() >> 1));
+			}
+		}
+		return sortByCount(counts, n);
+	}
+	
+}
@@ -0,0 +1,329 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.commons.lang.StringUtils;
+import org.vosao.dao.Dao;
+import org.vosao.dao.PageDao;
+import org.vosao.entity.PageEntity;
+
+/**
+ * Immutable snapshot of pages tree with latest page versions indexed by 
+ * parent url. Snapshot is shared by requests. Changes saved with audit are 
+ * applied incrementally by modification date, version removals cause full 
+ * rebuild. Returned entities are shared and must not be changed.
+ */
+public class PageTree {
+
+	/**
+	 * Modification date query overlap for clock differences between 
+	 * instances.
+	 */
+	private static final long UPDATE_OVERLAP = 60000;
+	
+	private static volatile PageTree instance;
+	
+	/**
+	 * Get actual snapshot. Snapshot is updated if pages were changed.
+	 */
+	public static PageTree getInstance(Dao dao) {
+		PageDao pageDao = dao.getPageDao();
+		long removeTimestamp = pageDao.getRemoveTimestamp();
+		long timestamp = pageDao.getTimestamp();
+		PageTree result = instance;
+		if (result == null || result.removeTimestamp != removeTimestamp) {
+			Date updateDate = new Date();
+			result = new PageTree(pageDao.select(), timestamp, 
+					removeTimestamp, updateDate);
+			instance = result;
+		}
+		else if (result.timestamp != timestamp) {
+			Date updateDate = new Date();
+			result = new PageTree(result, pageDao.selectModifiedSince(
+					new Date(result.updateDate.getTime() - UPDATE_OVERLAP)), 
+					timestamp, updateDate);
+			instance = result;
+		}
+		return result;
+	}
+	
+	private static final Comparator<PageEntity> SORT_INDEX_URL = 
+		new Comparator<PageEntity>() {
+			@Override
+			public int compare(PageEntity o1, PageEntity o2) {
+				int result = o1.getSortIndex().compareTo(o2.getSortIndex());
+				if (result == 0) {
+					result = o1.getFriendlyURL().compareTo(o2.getFriendlyURL());
+				}
+				return result;
+			}
+		};
+	
+	private long timestamp;
+	private long removeTimestamp;
+	private Date updateDate;
+	
+	/**
+	 * page url -> all page versions.
+	 */
+	private Map<String, List<PageEntity>> versions;
+	
+	/**
+	 * page version id -> page url.
+	 */
+	private Map<Long, String> urls;
+	
+	/**
+	 * page url -> latest not internal page version.
+	 */
+	private Map<String, PageEntity> pages;
+	
+	private Set<String> published;
+	
+	/**
+	 * parent url -> latest versions of children pages ordered by sort index.
+	 */
+	private Map<String, List<PageEntity>> children;
+	
+	private String rootUrl;
+	
+	public PageTree(List<PageEntity> list, long timestamp, 
+			long removeTimestamp, Date updateDate) {
+		this.timestamp = timestamp;
+		this.removeTimestamp = removeTimestamp;
+		this.updateDate = updateDate;
+		versions = new HashMap<String, List<PageEntity>>();
+		urls = new HashMap<Long, String>();
+		for (PageEntity page : list) {
+			List<PageEntity> pageVersions = versions.get(
+					page.getFriendlyURL());
+			if (pageVersions == null) {
+				pageVersions = new ArrayList<PageEntity>();
+				versions.put(page.getFriendlyURL(), pageVersions);
+			}
+			pageVersions.add(page);
+			urls.put(page.getId(), page.getFriendlyURL());
+		}
+		pages = new HashMap<String, PageEntity>();
+		published = new HashSet<String>();
+		children = new HashMap<String, List<PageEntity>>();
+		for (String url : versions.keySet()) {
+			PageEntity page = addPage(url);
+			if (page != null) {
+				addChild(page);
+			}
+		}
+		for (List<PageEntity> childList : children.values()) {
+			Collections.sort(childList, SORT_INDEX_URL);
+		}
+	}
+	
+	/**
+	 * Create updated copy of snapshot. Unchanged maps and lists are shared.
+	 * @param tree - previous snapshot.
+	 * @param changed - page versions changed since previous snapshot update.
+	 */
+	public PageTree(PageTree tree, List<PageEntity> changed, long timestamp, 
+			Date updateDate) {
+		this.timestamp = timestamp;
+		this.removeTimestamp = tree.removeTimestamp;
+		this.updateDate = updateDate;
+		versions = new HashMap<String, List<PageEntity>>(tree.versions);
+		urls = new HashMap<Long, String>(tree.urls);
+		pages = new HashMap<String, PageEntity>(tree.pages);
+		published = new HashSet<String>(tree.published);
+		children = new HashMap<String, List<PageEntity>>(tree.children);
+		rootUrl = tree.rootUrl;
+		Set<String> affected = new HashSet<String>();
+		for (PageEntity page : changed) {
+			String oldUrl = urls.get(page.getId());
+			if (oldUrl != null) {
+				affected.add(oldUrl);
+				removeVersion(oldUrl, page.getId());
+			}
+			affected.add(page.getFriendlyURL());
+			List<PageEntity> pageVersions = versions.containsKey(
+					page.getFriendlyURL()) ? new ArrayList<PageEntity>(
+					versions.get(page.getFriendlyURL())) 
+					: new ArrayList<PageEntity>();
+			pageVersions.add(page);
+			versions.put(page.getFriendlyURL(), pageVersions);
+			urls.put(page.getId(), page.getFriendlyURL());
+		}
+		Set<String> changedParents = new HashSet<String>();
+		for (String url : affected) {
+			PageEntity old = pages.remove(url);
+			published.remove(url);
+			if (old != null && !StringUtils.isEmpty(old.getParentUrl())) {
+				List<PageEntity> childList = copyChildren(old.getParentUrl(),
+						changedParents);
+				for (int i = 0; i < childList.size(); i++) {
+					if (childList.get(i).getFriendlyURL().equals(url)) {
+						childList.remove(i);
+						break;
+					}
+				}
+			}
+			if (url.equals(rootUrl)) {
+				rootUrl = null;
+			}
+		}
+		for (String url : affected) {
+			PageEntity page = addPage(url);
+			if (page != null && !StringUtils.isEmpty(page.getParentUrl())) {
+				copyChildren(page.getParentUrl(), changedParents);
+				addChild(page);
+			}
+		}
+		for (String parentUrl : changedParents) {
+			Collections.sort(children.get(parentUrl), SORT_INDEX_URL);
+		}
+	}
+
+	private void removeVersion(String url, Long id) {
+		List<PageEntity> pageVersions = new ArrayList<PageEntity>();
+		for (PageEntity page : versions.get(url)) {
+			if (!page.getId().equals(id)) {
+				pageVersions.add(page);
+			}
+		}
+		if (pageVersions.isEmpty()) {
+			versions.remove(url);
+		}
+		else {
+			versions.put(url, pageVersions);
+		}
+	}
+	
+	/**
+	 * Replace children list of parent page shared with previous snapshot 
+	 * by its copy.
+	 * @param copied - parent urls with already copied children lists.
+	 */
+	private List<PageEntity> copyChildren(String parentUrl, 
+			Set<String> copied) {
+		if (copied.contains(parentUrl)) {
+			return children.get(parentUrl);
+		}
+		List<PageEntity> result = new ArrayList<PageEntity>();
+		if (children.containsKey(parentUrl)) {
+			result.addAll(children.get(parentUrl));
+		}
+		children.put(parentUrl, result);
+		copied.add(parentUrl);
+		return result;
+	}
+
+	/**
+	 * Find latest not internal version of page and published state. 
+	 * @return latest version or null if page has only internal versions.
+	 */
+	private PageEntity addPage(String url) {
+		if (!versions.containsKey(url)) {
+			return null;
+		}
+		PageEntity result = null;
+		boolean isPublished = false;
+		for (PageEntity page : versions.get(url)) {
+			if (page.isForInternalUse()) {
+				continue;
+			}
+			if (result == null || result.getVersion() < page.getVersion()) {
+				result = page;
+			}
+			if (page.isApproved()) {
+				isPublished = true;
+			}
+		}
+		if (result != null) {
+			pages.put(url, result);
+			if (isPublished) {
+				published.add(url);
+			}
+			if (StringUtils.isEmpty(result.getParentUrl())) {
+				rootUrl = url;
+			}
+		}
+		return result;
+	}
+	
+	private void addChild(PageEntity page) {
+		if (StringUtils.isEmpty(page.getParentUrl())) {
+			return;
+		}
+		List<PageEntity> childList = children.get(page.getParentUrl());
+		if (childList == null) {
+			childList = new ArrayList<PageEntity>();
+			children.put(page.getParentUrl(), childList);
+		}
+		childList.add(page);
+	}
+	
+	/**
+	 * @return root page url or null if there is no root page.
+	 */
+	public String getRootUrl() {
+		return rootUrl;
+	}
+	
+	/**
+	 * @return latest not internal page version or null.
+	 */
+	public PageEntity getPage(String url) {
+		return pages.get(url);
+	}
+
+	/**
+	 * @return true if page has approved not internal version.
+	 */
+	public boolean isPublished(String url) {
+		return published.contains(url);
+	}
+
+	public boolean hasChildren(String url) {
+		List<PageEntity> childList = children.get(url);
+		return childList != null && !childList.isEmpty();
+	}
+
+	/**
+	 * @return latest versions of children pages ordered by sort index.
+	 */
+	public List<PageEntity> getChildren(String url) {
+		List<PageEntity> childList = children.get(url);
+		if (childList == null) {
+			return Collections.EMPTY_LIST;
+		}
+		return Collections.unmodifiableList(childList);
+	}
+	
+}
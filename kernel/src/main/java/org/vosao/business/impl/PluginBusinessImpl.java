@@ -29,6 +29,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
@@ -61,14 +62,14 @@ import org.vosao.service.plugin.PluginServiceManager;
 public class PluginBusinessImpl extends AbstractBusinessImpl 
 	implements PluginBusiness {
 
-	private PluginLoader pluginLoader;
-	private PluginClassLoaderFactory pluginClassLoaderFactory;
+	private volatile PluginLoader pluginLoader;
+	private volatile PluginClassLoaderFactory pluginClassLoaderFactory;
 	private Map<String, PluginEntryPoint> plugins;
 	private Map<String, PluginEntity> pluginTimestamps;
 	
 	public PluginBusinessImpl() {
-		plugins = new HashMap<String, PluginEntryPoint>();
-		pluginTimestamps = new HashMap<String, PluginEntity>();
+		plugins = new ConcurrentHashMap<String, PluginEntryPoint>();
+		pluginTimestamps = new ConcurrentHashMap<String, PluginEntity>();
 	}
 	
 	/**
@@ -93,7 +94,7 @@ public class PluginBusinessImpl extends AbstractBusinessImpl
 	}
 
 	@Override
-	public void resetPlugin(PluginEntity plugin) {
+	public synchronized void resetPlugin(PluginEntity plugin) {
 		plugins.remove(plugin.getName());
 		pluginTimestamps.remove(plugin.getName());
 		getPluginClassLoaderFactory().resetPlugin(plugin.getName());
@@ -102,7 +103,12 @@ public class PluginBusinessImpl extends AbstractBusinessImpl
 
 	public PluginClassLoaderFactory getPluginClassLoaderFactory() {
 		if (pluginClassLoaderFactory == null) {
-			pluginClassLoaderFactory = new PluginClassLoaderFactoryImpl();
+			synchronized (this) {
+				if (pluginClassLoaderFactory == null) {
+					pluginClassLoaderFactory = 
+							new PluginClassLoaderFactoryImpl();
+				}
+			}
 		}
 		return pluginClassLoaderFactory;
 	}
@@ -123,7 +129,11 @@ public class PluginBusinessImpl extends AbstractBusinessImpl
 	
 	public PluginLoader getPluginLoader() {
 		if (pluginLoader == null) {
-			pluginLoader = new PluginLoader(getDao(), getBusiness());
+			synchronized (this) {
+				if (pluginLoader == null) {
+					pluginLoader = new PluginLoader(getDao(), getBusiness());
+				}
+			}
 		}
 		return pluginLoader;
 	}
@@ -205,6 +215,18 @@ public class PluginBusinessImpl extends AbstractBusinessImpl
 	
 	@Override
 	public PluginEntryPoint getEntryPoint(PluginEntity plugin) {
+		if (!plugins.containsKey(plugin.getName()) 
+			|| isNeedRefresh(plugin)) {
+			loadEntryPoint(plugin);
+		}
+		return plugins.get(plugin.getName());
+	}
+
+	/**
+	 * Entry points are loaded by one thread at a time so every plugin is 
+	 * initialized once.
+	 */
+	private synchronized void loadEntryPoint(PluginEntity plugin) {
 		if (!plugins.containsKey(plugin.getName()) 
 			|| isNeedRefresh(plugin)) {
 			try {
@@ -231,7 +253,6 @@ public class PluginBusinessImpl extends AbstractBusinessImpl
 				e.printStackTrace();
 			}
 		}
-		return plugins.get(plugin.getName());
 	}
 
 	public FrontService getFrontService() {
@@ -0,0 +1,187 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Immutable set of compiled url rewrite rules. Rules are dispatched by 
+ * literal prefix of their regular expressions so only rules which prefix 
+ * matches url are tested. If several rules match then the last added rule 
+ * is applied. Recent rewrite results are memoized.
+ */
+public class RewriteRules {
+
+	private static final Log logger = LogFactory.getLog(RewriteRules.class);
+
+	private static final int MAX_MEMO_SIZE = 5000;
+	
+	private static final String META_CHARS = "\\[](){}.*+?^$|";
+
+	private static class Rule {
+		private final Pattern from;
+		private final String to;
+		
+		public Rule(Pattern from, String to) {
+			this.from = from;
+			this.to = to;
+		}
+	}
+
+	/**
+	 * Prefix tree node. Keeps indexes of rules which literal prefix ends 
+	 * in this node.
+	 */
+	private static class Node {
+		private Map<Character, Node> children = new HashMap<Character, Node>();
+		private List<Integer> rules = new ArrayList<Integer>();
+	}
+	
+	private List<Rule> rules;
+	private Node root;
+	private Map<String, String> memo;
+	
+	/**
+	 * @param ruleMap - regular expression -> replacement in order of adding.
+	 */
+	public RewriteRules(Map<String, String> ruleMap) {
+		rules = new ArrayList<Rule>();
+		root = new Node();
+		memo = new ConcurrentHashMap<String, String>();
+		for (String from : ruleMap.keySet()) {
+			try {
+				rules.add(new Rule(Pattern.compile(from), ruleMap.get(from)));
+			}
+			catch (PatternSyntaxException e) {
+				logger.error("Wrong rewrite rule " + from + " " 
+						+ e.getMessage());
+				continue;
+			}
+			Node node = root;
+			for (char c : getLiteralPrefix(from).toCharArray()) {
+				Node child = node.children.get(c);
+				if (child == null) {
+					child = new Node();
+					node.children.put(c, child);
+				}
+				node = child;
+			}
+			node.rules.add(rules.size() - 1);
+		}
+	}
+	
+	/**
+	 * Get literal text every string matching regular expression starts 
+	 * with. Empty string if there is no such text.
+	 */
+	public static String getLiteralPrefix(String regex) {
+		int depth = 0;
+		for (int i = 0; i < regex.length(); i++) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				i++;
+			}
+			else if (c == '(') {
+				depth++;
+			}
+			else if (c == ')') {
+				depth--;
+			}
+			else if (c == '|' && depth == 0) {
+				return "";
+			}
+		}
+		StringBuffer result = new StringBuffer();
+		int i = regex.startsWith("^") ? 1 : 0;
+		while (i < regex.length()) {
+			char c = regex.charAt(i);
+			int next = i + 1;
+			if (c == '\\') {
+				if (next >= regex.length() 
+						|| Character.isLetterOrDigit(regex.charAt(next))) {
+					break;
+				}
+				c = regex.charAt(next);
+				next++;
+			}
+			else if (META_CHARS.indexOf(c) != -1) {
+				break;
+			}
+			if (next < regex.length() && "*+?{".indexOf(
+					regex.charAt(next)) != -1) {
+				break;
+			}
+			result.append(c);
+			i = next;
+		}
+		return result.toString();
+	}
+	
+	/**
+	 * @return rewritten url or the same url if no rule matches.
+	 */
+	public String rewrite(String url) {
+		String result = memo.get(url);
+		if (result == null) {
+			result = apply(url);
+			if (memo.size() >= MAX_MEMO_SIZE) {
+				memo.clear();
+			}
+			memo.put(url, result);
+		}
+		return result;
+	}
+
+	private String apply(String url) {
+		List<Integer> candidates = new ArrayList<Integer>(root.rules);
+		Node node = root;
+		for (int i = 0; i < url.length(); i++) {
+			node = node.children.get(url.charAt(i));
+			if (node == null) {
+				break;
+			}
+			candidates.addAll(node.rules);
+		}
+		Collections.sort(candidates, Collections.reverseOrder());
+		for (Integer index : candidates) {
+			Rule rule = rules.get(index);
+			Matcher matcher = rule.from.matcher(url);
+			if (matcher.matches()) {
+				return matcher.replaceAll(rule.to);
+			}
+		}
+		return url;
+	}
+	
+}
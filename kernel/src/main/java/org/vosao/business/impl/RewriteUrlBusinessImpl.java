@@ -22,7 +22,7 @@
 
 package org.vosao.business.impl;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.vosao.business.RewriteUrlBusiness;
@@ -30,34 +30,36 @@ import org.vosao.business.RewriteUrlBusiness;
 public class RewriteUrlBusinessImpl extends AbstractBusinessImpl 
 	implements RewriteUrlBusiness {
 
-	private Map<String,String> rules = new HashMap<String, String>();
+	private Map<String,String> rules = new LinkedHashMap<String, String>();
+	
+	/**
+	 * Compiled snapshot of rules. Rebuilt on every rules change.
+	 */
+	private volatile RewriteRules compiled = new RewriteRules(rules);
 	
 	@Override
-	public void addRule(String from, String to) {
+	public synchronized void addRule(String from, String to) {
 		rules.put(from, to);
+		compiled = new RewriteRules(rules);
 	}
 
 	@Override
 	public String rewrite(String url) {
-		String newUrl = null;
-		for (String from : rules.keySet()) {
-			if (url.matches(from)) {
-				newUrl = url.replaceAll(from, rules.get(from));
-			}
-		}
-		return newUrl != null ? newUrl : url;
+		return compiled.rewrite(url);
 	}
 
 	@Override
-	public void addRules(Map<String, String> rules) {
+	public synchronized void addRules(Map<String, String> rules) {
 		this.rules.putAll(rules);
+		compiled = new RewriteRules(this.rules);
 	}
 
 	@Override
-	public void removeRules(Map<String, String> rules) {
+	public synchronized void removeRules(Map<String, String> rules) {
 		for (String key : rules.keySet()) {
 			this.rules.remove(key);
 		}
+		compiled = new RewriteRules(this.rules);
 	}
 	
 }
@@ -0,0 +1,156 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.vosao.dao.Dao;
+import org.vosao.entity.SeoUrlEntity;
+
+/**
+ * Immutable in-memory table of SEO url redirects. Redirects are kept in two 
+ * sorted arrays and fronted by Bloom filter so most urls without redirect 
+ * are rejected without search. Table is shared by requests and replaced 
+ * when SEO urls change.
+ */
+public class SeoUrlMap {
+
+	private static final int BITS_PER_URL = 10;
+	
+	private static final int HASH_COUNT = 7;
+	
+	/**
+	 * Minimal time between table rebuilds. Bulk import changes SEO urls 
+	 * with every saved row.
+	 */
+	private static final long REBUILD_INTERVAL = 5000;
+	
+	private static volatile SeoUrlMap instance;
+	
+	private static final AtomicBoolean rebuilding = new AtomicBoolean();
+	
+	/**
+	 * Get actual table. Table is rebuilt if SEO urls were changed. Only one 
+	 * request rebuilds table and not more often than REBUILD_INTERVAL, other 
+	 * requests are served with current table meanwhile.
+	 */
+	public static SeoUrlMap getInstance(Dao dao) {
+		long timestamp = dao.getSeoUrlDao().getTimestamp();
+		SeoUrlMap result = instance;
+		if (result == null) {
+			result = new SeoUrlMap(dao.getSeoUrlDao().select(), timestamp);
+			instance = result;
+		}
+		else if (result.timestamp != timestamp 
+				&& System.currentTimeMillis() - result.created 
+					>= REBUILD_INTERVAL
+				&& rebuilding.compareAndSet(false, true)) {
+			try {
+				result = new SeoUrlMap(dao.getSeoUrlDao().select(), 
+						timestamp);
+				instance = result;
+			}
+			finally {
+				rebuilding.set(false);
+			}
+		}
+		return result;
+	}
+	
+	private final long timestamp;
+	private final long created;
+	private final String[] froms;
+	private final String[] tos;
+	private final long[] bits;
+	private final int bitCount;
+	
+	public SeoUrlMap(List<SeoUrlEntity> list, long timestamp) {
+		this.timestamp = timestamp;
+		created = System.currentTimeMillis();
+		TreeMap<String, String> sorted = new TreeMap<String, String>();
+		for (SeoUrlEntity seoUrl : list) {
+			if (seoUrl.getFromLink() != null && seoUrl.getToLink() != null) {
+				sorted.put(seoUrl.getFromLink(), seoUrl.getToLink());
+			}
+		}
+		froms = sorted.keySet().toArray(new String[sorted.size()]);
+		tos = sorted.values().toArray(new String[sorted.size()]);
+		bits = new long[(froms.length * BITS_PER_URL >> 6) + 1];
+		bitCount = bits.length << 6;
+		for (String from : froms) {
+			int h1 = from.hashCode();
+			int h2 = secondHash(from);
+			for (int i = 0; i < HASH_COUNT; i++) {
+				int bit = bitIndex(h1 + i * h2);
+				bits[bit >> 6] |= 1L << bit;
+			}
+		}
+	}
+
+	/**
+	 * FNV-1a hash. Always odd to be used as double hashing step.
+	 */
+	private static int secondHash(String s) {
+		int hash = 0x811c9dc5;
+		for (int i = 0; i < s.length(); i++) {
+			hash ^= s.charAt(i);
+			hash *= 0x01000193;
+		}
+		return hash | 1;
+	}
+	
+	private int bitIndex(int hash) {
+		return (hash & Integer.MAX_VALUE) % bitCount;
+	}
+	
+	private boolean mightContain(String url) {
+		int h1 = url.hashCode();
+		int h2 = secondHash(url);
+		for (int i = 0; i < HASH_COUNT; i++) {
+			int bit = bitIndex(h1 + i * h2);
+			if ((bits[bit >> 6] & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * @return redirect url or null if url has no redirect.
+	 */
+	public String getToLink(String url) {
+		if (url == null || !mightContain(url)) {
+			return null;
+		}
+		int i = Arrays.binarySearch(froms, url);
+		return i >= 0 ? tos[i] : null;
+	}
+	
+	public int size() {
+		return froms.length;
+	}
+	
+}
@@ -82,6 +82,7 @@ public class StructureTemplateBusinessImpl extends AbstractBusinessImpl
 			}
 			else {
 				getDao().getStructureTemplateDao().remove(id);
+				removeCompiledTemplate(id);
 			}
 		}	
 		return result;
@@ -95,10 +96,20 @@ public class StructureTemplateBusinessImpl extends AbstractBusinessImpl
 			pages.add(page.getFriendlyURL());
 		}
 		for (String url : pages) {
-			getBusiness().getSystemService().getPageCache().remove(url);
+			getBusiness().getSystemService().getPageCache().markStale(url);
+		}
+		if (template.getId() != null) {
+			removeCompiledTemplate(template.getId());
 		}
 		return getDao().getStructureTemplateDao().save(template);
 	}
 	
+	private void removeCompiledTemplate(Long id) {
+		getBusiness().getSystemService().removeTemplate(
+				"structureTemplate:" + id);
+		getBusiness().getSystemService().removeTemplate(
+				"structureTemplateHead:" + id);
+	}
+	
 	
 }
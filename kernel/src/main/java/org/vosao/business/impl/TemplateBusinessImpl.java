@@ -78,6 +78,8 @@ public class TemplateBusinessImpl extends AbstractBusinessImpl
 			}
 			else {
 				getDao().getTemplateDao().remove(id);
+				getBusiness().getSystemService().removeTemplate(
+						"template:" + id);
 			}
 		}	
 		return result;
@@ -91,7 +93,11 @@ public class TemplateBusinessImpl extends AbstractBusinessImpl
 			pages.add(page.getFriendlyURL());
 		}
 		for (String url : pages) {
-			getBusiness().getSystemService().getPageCache().remove(url);
+			getBusiness().getSystemService().getPageCache().markStale(url);
+		}
+		if (template.getId() != null) {
+			getBusiness().getSystemService().removeTemplate(
+					"template:" + template.getId());
 		}
 		return getDao().getTemplateDao().save(template);
 	}
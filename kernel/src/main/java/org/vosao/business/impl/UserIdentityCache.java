@@ -0,0 +1,120 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.vosao.dao.Dao;
+import org.vosao.entity.UserEntity;
+import org.vosao.entity.UserGroupEntity;
+
+/**
+ * Resolved users and their group membership shared by all requests. Cached 
+ * values are dropped as a whole when users or user groups change. Every 
+ * caller gets its own copy of cached user.
+ */
+public class UserIdentityCache {
+
+	private static final int MAX_SIZE = 1000;
+	
+	private static volatile Memo<String, UserEntity> users;
+	
+	private static volatile Memo<Long, List<Long>> groups;
+	
+	/**
+	 * Get copy of user by email. Unknown emails are not cached.
+	 */
+	public static UserEntity getByEmail(Dao dao, String email) {
+		if (email == null) {
+			return null;
+		}
+		long timestamp = dao.getUserDao().getTimestamp();
+		Memo<String, UserEntity> memo = users;
+		if (memo == null || memo.timestamp != timestamp) {
+			memo = new Memo<String, UserEntity>(timestamp);
+			users = memo;
+		}
+		UserEntity user = memo.map.get(email);
+		if (user == null) {
+			user = dao.getUserDao().getByEmail(email);
+			if (user == null) {
+				return null;
+			}
+			memo.put(email, copy(user));
+			return user;
+		}
+		return copy(user);
+	}
+	
+	private static UserEntity copy(UserEntity user) {
+		UserEntity result = new UserEntity();
+		result.copy(user);
+		result.setKey(user.getKey());
+		return result;
+	}
+
+	/**
+	 * Get ids of groups user belongs to.
+	 */
+	public static List<Long> getGroupIds(Dao dao, Long userId) {
+		long timestamp = dao.getUserGroupDao().getTimestamp();
+		Memo<Long, List<Long>> memo = groups;
+		if (memo == null || memo.timestamp != timestamp) {
+			memo = new Memo<Long, List<Long>>(timestamp);
+			groups = memo;
+		}
+		List<Long> result = memo.map.get(userId);
+		if (result == null) {
+			result = new ArrayList<Long>();
+			for (UserGroupEntity userGroup : dao.getUserGroupDao()
+					.selectByUser(userId)) {
+				result.add(userGroup.getGroupId());
+			}
+			result = Collections.unmodifiableList(result);
+			memo.put(userId, result);
+		}
+		return result;
+	}
+
+	private static class Memo<K, V> {
+		
+		private final long timestamp;
+		private final ConcurrentMap<K, V> map = new ConcurrentHashMap<K, V>();
+		
+		public Memo(long timestamp) {
+			this.timestamp = timestamp;
+		}
+		
+		public void put(K key, V value) {
+			if (map.size() >= MAX_SIZE) {
+				map.clear();
+			}
+			map.put(key, value);
+		}
+	}
+	
+}
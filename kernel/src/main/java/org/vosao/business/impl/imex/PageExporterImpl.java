@@ -183,6 +183,8 @@ public class PageExporterImpl extends AbstractExporter
 				page.isSkipPostProcessing()));
 		pageElement.addElement("cached").setText(String.valueOf(
 				page.isCached()));
+		pageElement.addElement("userCached").setText(String.valueOf(
+				page.isUserCached()));
 		pageElement.addElement("contentType").setText(XmlUtil.notNull(
 				page.getContentType()));
 		pageElement.addElement("wikiProcessing").setText(String.valueOf(
@@ -372,6 +374,9 @@ public class PageExporterImpl extends AbstractExporter
 			if (element.getName().equals("cached")) {
 				newPage.setCached(XmlUtil.readBooleanText(element, true));
 			}
+			if (element.getName().equals("userCached")) {
+				newPage.setUserCached(XmlUtil.readBooleanText(element, false));
+			}
 			if (element.getName().equals("contentType")) {
 				newPage.setContentType(element.getText());
 			}
@@ -22,8 +22,10 @@
 
 package org.vosao.business.impl.imex;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.dom4j.Document;
 import org.dom4j.DocumentException;
@@ -57,17 +59,22 @@ public class SeoUrlsExporterImpl extends AbstractExporter
 	}
 
 	public void read(Element urlsElement) throws DaoTaskException {
+		Map<String, SeoUrlEntity> seourls = new HashMap<String, SeoUrlEntity>();
+		for (SeoUrlEntity seourl : getDao().getSeoUrlDao().select()) {
+			seourls.put(seourl.getFromLink(), seourl);
+		}
 		for (Iterator<Element> i = urlsElement.elementIterator(); 
 				i.hasNext(); ) {
             Element element = i.next();
             if (element.getName().equals("seo-url")) {
             	String from = element.elementText("from");
             	String to = element.elementText("to");
-            	SeoUrlEntity seourl = getDao().getSeoUrlDao().getByFrom(from);
+            	SeoUrlEntity seourl = seourls.get(from);
             	if (seourl == null) {
             		seourl = new SeoUrlEntity(from, to);
             	}
             	getDaoTaskAdapter().seoUrlSave(seourl);
+            	seourls.put(from, seourl);
             }
 		}		
 	}
@@ -0,0 +1,94 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl.mq;
+
+import java.util.Locale;
+
+import org.apache.commons.lang.StringUtils;
+import org.vosao.common.VosaoContext;
+import org.vosao.entity.PageEntity;
+import org.vosao.entity.UserEntity;
+import org.vosao.global.PageCache;
+
+/**
+ * Base class for subscribers which render pages into page cache.
+ */
+public abstract class AbstractPageCacheSubscriber extends AbstractSubscriber {
+
+	protected PageCache getPageCache() {
+		return getSystemService().getPageCache();
+	}
+	
+	/**
+	 * Render page for guests and put it to page cache. Pages which are not 
+	 * available for guests are removed from cache. Pages which read $request 
+	 * or $response are removed too because they would be rendered for queue 
+	 * task request, they are cached again by the next guest visit.
+	 */
+	protected void render(String url, String language) {
+		VosaoContext ctx = VosaoContext.getInstance();
+		UserEntity user = ctx.getUser();
+		Locale locale = ctx.getLocale();
+		try {
+			ctx.setUser(null);
+			ctx.setLocale(new Locale(language));
+			ctx.getPageRenderingContext().clear();
+			PageEntity page = getPage(url);
+			if (page == null || !page.isCached()) {
+				getPageCache().evict(url, language);
+				return;
+			}
+			String contentType = StringUtils.isEmpty(page.getContentType()) ?
+					"text/html" : page.getContentType();
+			String content = getBusiness().getPageBusiness().render(page, 
+					language);
+			if (ctx.getPageRenderingContext().isUserSpecific()) {
+				getPageCache().evict(url, language);
+				return;
+			}
+			getPageCache().put(url, language, content, contentType);
+		}
+		catch(Exception e) {
+			logger.error(e.getMessage());
+			e.printStackTrace();
+		}
+		finally {
+			ctx.getPageRenderingContext().clear();
+			ctx.setUser(user);
+			ctx.setLocale(locale);
+		}
+	}
+
+	private PageEntity getPage(String url) {
+		if (getBusiness().getContentPermissionBusiness().getGuestPermission(
+				url).isDenied()) {
+			return null;
+		}
+		PageEntity page = getDao().getPageDao().getByUrl(url);
+		if (page == null) {
+			page = getBusiness().getPageBusiness().getRestPage(url);
+		}
+		return page;
+	}
+
+}
@@ -24,10 +24,10 @@ package org.vosao.business.impl.mq;
 
 import static com.google.appengine.api.taskqueue.TaskOptions.Builder.withUrl;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.lang.StringUtils;
@@ -40,9 +40,12 @@ import org.vosao.business.impl.mq.subscriber.FileChangedSubscriber;
 import org.vosao.business.impl.mq.subscriber.ImportFile;
 import org.vosao.business.impl.mq.subscriber.ImportFolder;
 import org.vosao.business.impl.mq.subscriber.ImportTaskSubscriber;
+import org.vosao.business.impl.mq.subscriber.IndexCompact;
 import org.vosao.business.impl.mq.subscriber.IndexChangedPages;
 import org.vosao.business.impl.mq.subscriber.IndexDeletedPages;
 import org.vosao.business.impl.mq.subscriber.PageCacheClear;
+import org.vosao.business.impl.mq.subscriber.PageCacheRefresh;
+import org.vosao.business.impl.mq.subscriber.PageCacheWarm;
 import org.vosao.business.impl.mq.subscriber.PagePublishCron;
 import org.vosao.business.impl.mq.subscriber.Reindex;
 import org.vosao.business.mq.Message;
@@ -67,7 +70,7 @@ public class MessageQueueImpl implements MessageQueue {
 	private static final Log logger = LogFactory.getLog(MessageQueueImpl.class);
 	
 	private Map<String, List<Class>> subscribers = 
-		new HashMap<String, List<Class>>();
+		new ConcurrentHashMap<String, List<Class>>();
 	
 	public MessageQueueImpl() {
 		registerSubscribers();
@@ -85,8 +88,11 @@ public class MessageQueueImpl implements MessageQueue {
 		subscribe(Topic.PAGES_CHANGED, PageCacheClear.class);
 		
 		subscribe(Topic.PAGE_CACHE_CLEAR, PageCacheClear.class);
+		subscribe(Topic.PAGE_CACHE_REFRESH, PageCacheRefresh.class);
+		subscribe(Topic.PAGE_CACHE_WARM, PageCacheWarm.class);
 
 		subscribe(Topic.REINDEX, Reindex.class);
+		subscribe(Topic.INDEX_COMPACT, IndexCompact.class);
 		subscribe(Topic.IMPORT_FILE, ImportFile.class);
 		subscribe(Topic.IMPORT_FOLDER, ImportFolder.class);
 		
@@ -131,9 +137,9 @@ public class MessageQueueImpl implements MessageQueue {
 	}
 	
 	@Override
-	public void subscribe(String topic, Class subscriber) {
+	public synchronized void subscribe(String topic, Class subscriber) {
 		if (!subscribers.containsKey(topic)) {
-			subscribers.put(topic, new ArrayList<Class>());
+			subscribers.put(topic, new CopyOnWriteArrayList<Class>());
 		}
 		if (!subscribers.get(topic).contains(subscriber)) {
 			subscribers.get(topic).add(subscriber);
@@ -141,7 +147,7 @@ public class MessageQueueImpl implements MessageQueue {
 	}
 
 	@Override
-	public void unsubscribe(String topic, Class subscriber) {
+	public synchronized void unsubscribe(String topic, Class subscriber) {
 		if (subscribers.containsKey(topic)) {
 			if (subscribers.get(topic).contains(subscriber)) {
 				subscribers.get(topic).remove(subscriber);
@@ -22,16 +22,20 @@
 
 package org.vosao.business.impl.mq.subscriber;
 
+import java.util.Set;
+
+import org.vosao.business.impl.PageDependencyGraph;
 import org.vosao.business.impl.mq.AbstractSubscriber;
 import org.vosao.business.mq.Message;
-import org.vosao.business.mq.QueueSpeed;
 import org.vosao.business.mq.Topic;
 import org.vosao.business.mq.message.PageMessage;
-import org.vosao.entity.PageDependencyEntity;
-import org.vosao.utils.FolderUtil;
 
 /**
- * Clear cache for all dependent pages.
+ * Clear cache for all dependent pages. Dependent pages are found with 
+ * transitive closure over shared page dependency graph and updated in 
+ * cache in all languages with one batch call. Pages depending on edited page 
+ * are marked stale, pages depending on deleted or (un)published page are 
+ * removed.
  * 
  * @author Alexander Oleynik
  *
@@ -41,8 +45,17 @@ public class PageCacheClear extends AbstractSubscriber {
 	public void onMessage(Message message) {
 		PageMessage msg = (PageMessage)message;
 		try {
-			for (String url : msg.getPages().keySet()) {
-				clearDependency(url);			
+			Set<String> pages = PageDependencyGraph.getInstance(getDao())
+					.getDependentPages(msg.getPages().keySet());
+			if (pages.isEmpty()) {
+				return;
+			}
+			if (Topic.PAGES_CHANGED.name().equals(msg.getTopic())) {
+				getBusiness().getSystemService().getPageCache().markStale(
+						pages);
+			}
+			else {
+				getBusiness().getSystemService().getPageCache().remove(pages);
 			}
 		}
 		catch(Exception e) {
@@ -51,28 +64,4 @@ public class PageCacheClear extends AbstractSubscriber {
 		}
 	}
 
-	private void clearDependency(String url) {
-		String dependency = "";
-		String[] parts = FolderUtil.getPathChain(url);
-		PageMessage message = new PageMessage(Topic.PAGE_CACHE_CLEAR, 
-				QueueSpeed.LOW);
-		
-		for (String part : parts) {
-			dependency += "/" + part;
-			for (PageDependencyEntity entity : getDao().getPageDependencyDao()
-					.selectByDependency(dependency)) {
-
-				if (getBusiness().getSystemService().getPageCache()
-						.contains(entity.getPage())) {
-				
-					getBusiness().getSystemService().getPageCache().remove(
-							entity.getPage());
-					
-					message.addPage(entity.getPage(), -1L);
-				}
-			}
-		}
-		getBusiness().getMessageQueue().publish(message);
-	}
-	
 }
\ No newline at end of file
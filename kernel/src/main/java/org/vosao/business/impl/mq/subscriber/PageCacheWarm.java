@@ -0,0 +1,62 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl.mq.subscriber;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.vosao.business.impl.PageCacheWarmer;
+import org.vosao.business.impl.mq.AbstractPageCacheSubscriber;
+import org.vosao.business.mq.Message;
+import org.vosao.business.mq.message.PageCacheWarmMessage;
+import org.vosao.global.PageCacheItem;
+
+/**
+ * Render pages which are missing or stale in page cache. Each message 
+ * renders a small batch and passes the rest to the next message so 
+ * rendering rate is limited by queue rate.
+ */
+public class PageCacheWarm extends AbstractPageCacheSubscriber {
+
+	private static final int BATCH_SIZE = 10;
+	
+	public void onMessage(Message message) {
+		List<String> pages = ((PageCacheWarmMessage)message).getPages();
+		int rendered = 0;
+		int i = 0;
+		for (; i < pages.size() && rendered < BATCH_SIZE; i++) {
+			String url = PageCacheWarmer.getUrl(pages.get(i));
+			String language = PageCacheWarmer.getLanguage(pages.get(i));
+			PageCacheItem item = getPageCache().get(url, language);
+			if (item == null || item.isRefreshNeeded()) {
+				render(url, language);
+				rendered++;
+			}
+		}
+		if (i < pages.size()) {
+			getMessageQueue().publish(new PageCacheWarmMessage(
+					new ArrayList<String>(pages.subList(i, pages.size()))));
+		}
+	}
+
+}
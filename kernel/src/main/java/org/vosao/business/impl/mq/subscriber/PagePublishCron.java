@@ -22,6 +22,10 @@
 
 package org.vosao.business.impl.mq.subscriber;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import org.vosao.business.impl.PageCacheWarmer;
 import org.vosao.business.impl.mq.AbstractSubscriber;
 import org.vosao.business.mq.Message;
 import org.vosao.business.mq.Topic;
@@ -39,10 +43,12 @@ public class PagePublishCron extends AbstractSubscriber {
 
 	public void onMessage(Message message) {
 		logger.info("Page publish cron...");
+		Set<String> urls = new HashSet<String>();
 		for (PageEntity page : getDao().getPageDao()
 				.getCurrentHourPublishedPages()) {
 			if (page.getState().equals(PageState.APPROVED)) {
 				logger.info("Found published " + page.getFriendlyURL());
+				urls.add(page.getFriendlyURL());
 				getBusiness().getSystemService().getPageCache().remove(
 					page.getFriendlyURL());
 				getBusiness().getMessageQueue().publish(new PageMessage(
@@ -53,11 +59,15 @@ public class PagePublishCron extends AbstractSubscriber {
 				.getCurrentHourUnpublishedPages()) {
 			if (page.getState().equals(PageState.APPROVED)) {
 				logger.info("Found unpublished " + page.getFriendlyURL());
+				urls.add(page.getFriendlyURL());
 				getBusiness().getSystemService().getPageCache().remove(
 					page.getFriendlyURL());
 				getBusiness().getMessageQueue().publish(new PageMessage(
 					Topic.PAGE_CACHE_CLEAR, page.getFriendlyURL(), page.getId()));
 			}
 		}
+		if (!urls.isEmpty()) {
+			PageCacheWarmer.warm(urls);
+		}
 	}
 }
\ No newline at end of file
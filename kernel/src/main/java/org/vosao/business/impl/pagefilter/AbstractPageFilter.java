@@ -32,6 +32,7 @@ public abstract class AbstractPageFilter implements PageFilter {
 
 	private Business business;
 	private List<ContentFragment> fragments;
+	private boolean applied;
 	
 	public AbstractPageFilter(Business business) {
 		super();
@@ -63,32 +64,26 @@ public abstract class AbstractPageFilter implements PageFilter {
 		return code.toString();
 	}
 	
-	public int findTagInsertPosition(String tagName, StringBuffer page) {
-		String tag = tagName.toLowerCase();
-		String tagUpper = tagName.toUpperCase();
-		if (page.indexOf(tagUpper) != -1) {
-			tag = tagUpper;
-		}
-		int bodyStart = page.indexOf(tag);
-		if (tagName.startsWith("</")) {
-			return bodyStart;
-		}
-		else {
-			int result = page.indexOf(">", bodyStart) + 1;
-			if (result >= page.length()) {
-				page.append(" ");
-			}
-			return result;
+	/**
+	 * Insert fragments after tag. Fragments are inserted only once per page.
+	 */
+	public String insertAfter(String tag, PageEntity page) {
+		if (applied) {
+			return tag;
 		}
+		applied = true;
+		return tag + getFragmentsContent(page);
 	}
 
-	public String applyTag(String content, PageEntity page, String tag) {
-		StringBuffer buffer = new StringBuffer(content);
-		int index = findTagInsertPosition(tag, buffer);
-		if (index > 0) {
-			buffer.insert(index, getFragmentsContent(page));
+	/**
+	 * Insert fragments before tag. Fragments are inserted only once per page.
+	 */
+	public String insertBefore(String tag, PageEntity page) {
+		if (applied) {
+			return tag;
 		}
-		return buffer.toString();
+		applied = true;
+		return getFragmentsContent(page) + tag;
 	}
 	
 }
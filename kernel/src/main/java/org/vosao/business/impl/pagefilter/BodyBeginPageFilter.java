@@ -35,8 +35,11 @@ public class BodyBeginPageFilter extends AbstractPageFilter
 	}
 	
 	@Override
-	public String apply(String content, PageEntity pageEntity) {
-		return applyTag(content, pageEntity, "<body");
+	public String apply(String name, String tag, PageEntity page) {
+		if (name.equals("body")) {
+			return insertAfter(tag, page);
+		}
+		return tag;
 	}
 
 }
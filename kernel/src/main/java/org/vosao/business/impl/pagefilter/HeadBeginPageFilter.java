@@ -37,8 +37,15 @@ public class HeadBeginPageFilter extends AbstractPageFilter
 	}
 	
 	@Override
-	public String apply(String content, PageEntity page) {
-		return applyTag(content, page, "<head");
+	public String apply(String name, String tag, PageEntity page) {
+		if (name.equals("head")) {
+			return insertAfter(tag, page);
+		}
+		// page without head
+		if (name.equals("body")) {
+			return insertBefore(tag, page);
+		}
+		return tag;
 	}
 
 }
@@ -37,8 +37,11 @@ public class HeadEndPageFilter extends AbstractPageFilter
 	}
 	
 	@Override
-	public String apply(String content, PageEntity page) {
-		return applyTag(content, page, "</head");
+	public String apply(String name, String tag, PageEntity page) {
+		if (name.equals("/head")) {
+			return insertBefore(tag, page);
+		}
+		return tag;
 	}
 
 }
@@ -33,8 +33,11 @@ public class HtmlEndPageFilter extends AbstractPageFilter
 	}
 	
 	@Override
-	public String apply(String content, PageEntity page) {
-		return applyTag(content, page, "</html");
+	public String apply(String name, String tag, PageEntity page) {
+		if (name.equals("/html")) {
+			return insertBefore(tag, page);
+		}
+		return tag;
 	}
 
 }
@@ -33,34 +33,45 @@ import org.vosao.utils.StrUtil;
  */
 public class MetaPageFilter implements PageFilter {
 	
+	private boolean descriptionFound;
+	private boolean keywordsFound;
+	
 	@Override
-	public String apply(String content, PageEntity page) {
-		String result = content;
-		if (!StringUtils.isEmpty(page.getDescription())) {
-			String description = "<meta name=\"description\" content=\"" 
-					+ page.getDescription() + "\" />"; 
-			if (StrUtil.DESCRIPTION_PATTERN.matcher(result).find()) {
-				result = result.replaceAll(StrUtil.DESCRIPTION_REGEX,
-						description);
+	public String apply(String name, String tag, PageEntity page) {
+		boolean hasDescription = !StringUtils.isEmpty(page.getDescription());
+		boolean hasKeywords = !StringUtils.isEmpty(page.getKeywords());
+		if (name.equals("meta")) {
+			if (hasDescription 
+					&& StrUtil.DESCRIPTION_PATTERN.matcher(tag).find()) {
+				descriptionFound = true;
+				return getDescription(page);
 			}
-			else {
-				result = result.replaceAll(StrUtil.HEAD_CLOSE_REGEX, description
-						+ "\n</head>");
+			if (hasKeywords && StrUtil.KEYWORDS_PATTERN.matcher(tag).find()) {
+				keywordsFound = true;
+				return getKeywords(page);
 			}
 		}
-		if (!StringUtils.isEmpty(page.getKeywords())) {
-			String keywords = "<meta name=\"keywords\" content=\"" 
-					+ page.getKeywords() + "\" />";
-			if (StrUtil.KEYWORDS_PATTERN.matcher(result).find()) {
-				result = result.replaceAll(StrUtil.KEYWORDS_REGEX,
-						keywords);
+		if (name.equals("/head")) {
+			StringBuffer result = new StringBuffer();
+			if (hasDescription && !descriptionFound) {
+				result.append(getDescription(page)).append("\n");
 			}
-			else {
-				result = result.replaceAll(StrUtil.HEAD_CLOSE_REGEX, keywords
-						+ "\n</head>");
+			if (hasKeywords && !keywordsFound) {
+				result.append(getKeywords(page)).append("\n");
 			}
+			return result.append(tag).toString();
 		}
-		return result;
+		return tag;
+	}
+	
+	private String getDescription(PageEntity page) {
+		return "<meta name=\"description\" content=\"" 
+				+ page.getDescription() + "\" />"; 
+	}
+
+	private String getKeywords(PageEntity page) {
+		return "<meta name=\"keywords\" content=\"" 
+				+ page.getKeywords() + "\" />";
 	}
 
 }
@@ -24,8 +24,20 @@ package org.vosao.business.impl.pagefilter;
 
 import org.vosao.entity.PageEntity;
 
+/**
+ * Rendered page post processing filter. Filter is called for every html 
+ * tag found in rendered page by PageFilterWriter. Filter instances are 
+ * created for every page render and can keep render state.
+ */
 public interface PageFilter {
 
-	String apply(final String content, final PageEntity page);
+	/**
+	 * Filter html tag of rendered page.
+	 * @param name - lower case tag name. Closing tag name starts with '/'.
+	 * @param tag - tag text with all previous filters applied.
+	 * @param page - rendered page.
+	 * @return text to write instead of tag.
+	 */
+	String apply(final String name, final String tag, final PageEntity page);
 	
 }
@@ -0,0 +1,140 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl.pagefilter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import org.vosao.entity.PageEntity;
+
+/**
+ * Single pass page post processing writer. Text between tags is passed to 
+ * underlying writer as is, only current tag is buffered and passed through 
+ * page filters chain. 
+ * 
+ * close() writes not finished tag and flushes but doesn't close 
+ * underlying writer. 
+ */
+public class PageFilterWriter extends Writer {
+
+	private static final int MAX_TAG_LENGTH = 4096;
+	
+	private Writer out;
+	private List<PageFilter> filters;
+	private PageEntity page;
+	private StringBuilder tag;
+	
+	public PageFilterWriter(Writer out, List<PageFilter> filters, 
+			PageEntity page) {
+		this.out = out;
+		this.filters = filters;
+		this.page = page;
+	}
+	
+	@Override
+	public void write(char[] buf, int off, int len) throws IOException {
+		if (filters.isEmpty()) {
+			out.write(buf, off, len);
+			return;
+		}
+		int end = off + len;
+		int start = off;
+		for (int i = off; i < end; i++) {
+			char c = buf[i];
+			if (tag == null) {
+				if (c == '<') {
+					out.write(buf, start, i - start);
+					tag = new StringBuilder();
+					tag.append(c);
+				}
+				continue;
+			}
+			if (c == '<') {
+				out.write(tag.toString());
+				tag.setLength(0);
+				tag.append(c);
+				continue;
+			}
+			tag.append(c);
+			if (c == '>') {
+				writeTag();
+				start = i + 1;
+			}
+			else if (tag.length() > MAX_TAG_LENGTH) {
+				out.write(tag.toString());
+				tag = null;
+				start = i + 1;
+			}
+		}
+		if (tag == null) {
+			out.write(buf, start, end - start);
+		}
+	}
+
+	private void writeTag() throws IOException {
+		String text = tag.toString();
+		tag = null;
+		String name = getTagName(text);
+		if (name.length() > 0) {
+			for (PageFilter filter : filters) {
+				text = filter.apply(name, text, page);
+			}
+		}
+		out.write(text);
+	}
+
+	/**
+	 * Lower case tag name with leading '/' for closing tags.
+	 */
+	private static String getTagName(String tag) {
+		int start = 1;
+		if (tag.length() > 1 && tag.charAt(1) == '/') {
+			start = 2;
+		}
+		int end = start;
+		while (end < tag.length() 
+				&& Character.isLetterOrDigit(tag.charAt(end))) {
+			end++;
+		}
+		if (end == start) {
+			return "";
+		}
+		return tag.substring(1, end).toLowerCase();
+	}
+	
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (tag != null) {
+			out.write(tag.toString());
+			tag = null;
+		}
+		out.flush();
+	}
+
+}
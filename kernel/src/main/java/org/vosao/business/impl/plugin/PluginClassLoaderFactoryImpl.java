@@ -40,7 +40,7 @@ public class PluginClassLoaderFactoryImpl implements PluginClassLoaderFactory {
 	private Map<String, ClassLoader> classLoaders;
 	private PluginResourceCache cache;
 	
-	public ClassLoader getClassLoader(String pluginName) {
+	public synchronized ClassLoader getClassLoader(String pluginName) {
 		if (!getClassLoaders().containsKey(pluginName)) {
 			logger.info("creating class loader " + pluginName);
 			PluginClassLoader classLoader = new PluginClassLoader(
@@ -50,11 +50,11 @@ public class PluginClassLoaderFactoryImpl implements PluginClassLoaderFactory {
 		return getClassLoaders().get(pluginName);
 	}
 
-	public void resetPlugin(String pluginName) {
+	public synchronized void resetPlugin(String pluginName) {
 		getClassLoaders().remove(pluginName);
 	}
 	
-	private Map<String, ClassLoader> getClassLoaders() {
+	private synchronized Map<String, ClassLoader> getClassLoaders() {
 		if (classLoaders == null) {
 			classLoaders = new HashMap<String, ClassLoader>();
 		}
@@ -69,7 +69,7 @@ public class PluginClassLoaderFactoryImpl implements PluginClassLoaderFactory {
 		return VosaoContext.getInstance().getBusiness().getDao();
 	}
 
-	public PluginResourceCache getCache() {
+	public synchronized PluginResourceCache getCache() {
 		if (cache == null) {
 			cache = new PluginResourceCacheImpl();
 		}
@@ -65,7 +65,8 @@ public class PluginResourceCacheImpl implements PluginResourceCache {
 	
 	@Override
 	public void put(String pluginName, String key, byte[] data) {
-		List<String> list = getPluginResourcesList(pluginName);
+		List<String> list = new ArrayList<String>(
+				getPluginResourcesList(pluginName));
 		list.add(key);
 		getSystemService().getCache().put(getPluginResourcesListKey(pluginName), 
 				list);
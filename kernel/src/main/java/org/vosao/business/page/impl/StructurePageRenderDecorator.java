@@ -109,10 +109,12 @@ public class StructurePageRenderDecorator extends AbstractPageRenderDecorator {
 				getLanguageCode(), getPage()); 
 			context.put("content", contentMap);
 			context.put("page", this);
-			setContent(getSystemService().render(structureTemplate.getContent(), 
-					context));
+			setContent(getSystemService().render(
+					"structureTemplate:" + structureTemplate.getId(),
+					structureTemplate.getContent(), context));
 			if (StringUtils.isNotEmpty(structureTemplate.getHeadContent())) {
 				String headContent = getSystemService().render(
+						"structureTemplateHead:" + structureTemplate.getId(),
 						structureTemplate.getHeadContent(), context);
 				VosaoContext.getInstance().getPageRenderingContext()
 						.getHeadContents().add(headContent);
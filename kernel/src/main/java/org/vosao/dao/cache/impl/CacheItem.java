@@ -23,6 +23,7 @@
 package org.vosao.dao.cache.impl;
 
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.Date;
 
 /**
@@ -43,6 +44,20 @@ public class CacheItem implements Serializable {
 		return timestamp;
 	}
 
+	/**
+	 * @return approximate item size in bytes. Data is serialized entity or 
+	 * list of entity ids.
+	 */
+	public int getSize() {
+		if (data instanceof byte[]) {
+			return ((byte[])data).length + 32;
+		}
+		if (data instanceof Collection) {
+			return ((Collection)data).size() * 24 + 48;
+		}
+		return 256;
+	}
+
 	public CacheItem(Object data) {
 		super();
 		this.data = data;
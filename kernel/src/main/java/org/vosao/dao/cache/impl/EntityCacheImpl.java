@@ -38,8 +38,11 @@ import org.vosao.dao.cache.EntityCache;
 import org.vosao.entity.BaseEntity;
 import org.vosao.global.CacheService;
 import org.vosao.global.SystemService;
+import org.vosao.utils.StreamUtil;
 
 /**
+ * Entities are cached in serialized form so every read gets its own copy 
+ * and changes of one request are never visible to others.
  * 
  * @author Alexander Oleynik
  *
@@ -60,6 +63,20 @@ public class EntityCacheImpl implements EntityCache, Serializable {
 		return "entity:" + clazz.getName() + id.toString();
 	}
 	
+	private static CacheItem createItem(Object entity) {
+		return new CacheItem(StreamUtil.toBytes(entity));
+	}
+	
+	/**
+	 * @return new copy of cached entity or null for items in old format.
+	 */
+	private static Object copyData(CacheItem item) {
+		if (item.getData() instanceof byte[]) {
+			return StreamUtil.toObject((byte[])item.getData());
+		}
+		return null;
+	}
+	
 	@Override
 	public Object getEntity(Class clazz, Object id) {
 		try {
@@ -68,8 +85,11 @@ public class EntityCacheImpl implements EntityCache, Serializable {
 				Date globalResetDate = getCache().getResetDate();
 				if (globalResetDate == null 
 						|| item.getTimestamp().after(globalResetDate)) {
-					getDaoStat().incEntityCacheHits();
-					return item.getData();
+					Object entity = copyData(item);
+					if (entity != null) {
+						getDaoStat().incEntityCacheHits();
+					}
+					return entity;
 				}
 			}
 		}
@@ -94,9 +114,11 @@ public class EntityCacheImpl implements EntityCache, Serializable {
 					Date globalResetDate = getCache().getResetDate();
 					if (globalResetDate == null 
 							|| item.getTimestamp().after(globalResetDate)) {
-						getDaoStat().incEntityCacheHits();
-						BaseEntity entity = (BaseEntity)item.getData();
-						result.put(entity.getId(), entity);
+						BaseEntity entity = (BaseEntity)copyData(item);
+						if (entity != null) {
+							getDaoStat().incEntityCacheHits();
+							result.put(entity.getId(), entity);
+						}
 					}
 					
 				}
@@ -108,17 +130,26 @@ public class EntityCacheImpl implements EntityCache, Serializable {
 		return result;
 	}
 
+	@Override
+	public void prefetchEntities(Class clazz, List<Long> ids) {
+		List<String> keys = new ArrayList<String>(); 
+		for (Long id : ids) {
+			keys.add(getEntityKey(clazz, id));
+		}
+		getCache().prefetch(keys);
+	}
+
 	@Override
 	public void putEntity(Class clazz, Object id, Object entity) {
 		String key = getEntityKey(clazz, id);
-		getCache().put(key, new CacheItem(entity));
+		getCache().put(key, createItem(entity));
 	}
 
 	@Override
 	public void putEntities(Class clazz, List<BaseEntity> list) {
 		Map<String, CacheItem> map = new HashMap<String, CacheItem>(); 
 		for (BaseEntity entity : list) {
-			map.put(getEntityKey(clazz, entity.getId()), new CacheItem(entity));
+			map.put(getEntityKey(clazz, entity.getId()), createItem(entity));
 		}
 		getCache().putAll(map);
 	}
@@ -24,10 +24,13 @@ package org.vosao.dao.cache.impl;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.apache.commons.logging.Log;
@@ -41,12 +44,30 @@ import org.vosao.global.CacheService;
 import org.vosao.global.SystemService;
 import org.vosao.utils.EntityUtil;
 
+import com.google.appengine.api.datastore.Blob;
 import com.google.appengine.api.datastore.Entity;
 import com.google.appengine.api.datastore.Key;
 import com.google.appengine.api.datastore.KeyFactory;
+import com.google.appengine.api.datastore.Query;
+import com.google.appengine.api.datastore.Query.FilterOperator;
+import com.google.appengine.api.datastore.Query.FilterPredicate;
+import com.google.appengine.api.datastore.Text;
 
+/**
+ * Query cache with dependency tracking. Every cached query depends on one 
+ * dependency key built from it's first equality filter on DAO query 
+ * property (class, property, value) or on class wide key if query has no 
+ * such filters. Entity change sets reset date for dependency keys of it's 
+ * query property values so only queries which could match old or new 
+ * entity state are invalidated. Dependency keys are seeded when query is 
+ * cached, query with missing key is treated as invalid because the key 
+ * could be evicted after reset.
+ */
 public class QueryCacheImpl implements QueryCache, Serializable {
 
+	private static final int INDEXED_STRING_LIMIT = 500;
+	private static final String ANY_VALUE = "*";
+
 	protected static final Log logger = LogFactory.getLog(
 			QueryCacheImpl.class);
 
@@ -87,26 +108,57 @@ public class QueryCacheImpl implements QueryCache, Serializable {
 		return "classResetDate:" + clazz.getName();
 	}
 	
-	private Date getClassResetDate(Class clazz) {
-		return (Date)getCache().get(getClassResetdateKey(clazz));
+	private String getDependencyKey(Class clazz, String property, 
+			Object value) {
+		return "queryDependency:" + clazz.getName() + ":" + property + "=" 
+				+ String.valueOf(value);
+	}
+
+	private String getClassDependencyKey(Class clazz) {
+		return "queryDependency:" + clazz.getName() + ":" + ANY_VALUE;
+	}
+	
+	private String getQueryDependencyKey(Class clazz, 
+			Set<String> queryProperties, Query query) {
+		if (query != null) {
+			for (FilterPredicate filter : query.getFilterPredicates()) {
+				if (filter.getOperator().equals(FilterOperator.EQUAL)
+						&& isQueryProperty(queryProperties, 
+								filter.getPropertyName())
+						&& isIndexed(filter.getValue())) {
+					return getDependencyKey(clazz, filter.getPropertyName(), 
+							filter.getValue());
+				}
+			}
+		}
+		return getClassDependencyKey(clazz);
+	}
+
+	private static boolean isQueryProperty(Set<String> queryProperties, 
+			String property) {
+		return queryProperties.contains(property) 
+				|| Entity.KEY_RESERVED_PROPERTY.equals(property);
+	}
+	
+	private static boolean isIndexed(Object value) {
+		if (value instanceof Text || value instanceof Blob) {
+			return false;
+		}
+		if (value instanceof String) {
+			return ((String)value).length() <= INDEXED_STRING_LIMIT;
+		}
+		return true;
 	}
 	
 	@Override
-	public List<BaseEntity> getQuery(Class clazz, String query, 
-			Object[] params) {
+	public List<BaseEntity> getQuery(Class clazz, Set<String> queryProperties,
+			Query query, String queryId, Object[] params) {
 		try {
-			CacheItem item = (CacheItem)getCache().get(getQueryKey(clazz, query, 
-					params));
-			if (item != null) {
-				Date globalResetDate = getCache().getResetDate();
-				if (globalResetDate == null 
-						|| item.getTimestamp().after(globalResetDate)) {
-					Date classResetDate = getClassResetDate(clazz);
-					if (classResetDate == null
-							|| item.getTimestamp().after(classResetDate)) {
-						return getCachedQueryResult(clazz, item);
-					}
-				}
+			CacheItem item = (CacheItem)getCache().get(getQueryKey(clazz, 
+					queryId, params));
+			if (item != null && isValid(getDependencyKeys(clazz, 
+					queryProperties, query), item)) {
+				return getCachedQueryResult(clazz, item);
 			}
 		}
 		catch (Exception e) {
@@ -115,6 +167,52 @@ public class QueryCacheImpl implements QueryCache, Serializable {
 		return null; 
 	}
 
+	@Override
+	public void prefetchQuery(Class clazz, Set<String> queryProperties, 
+			Query query, String queryId, Object[] params) {
+		String key = getQueryKey(clazz, queryId, params);
+		CacheItem item = (CacheItem)getCache().peek(key);
+		if (item == null) {
+			List<String> keys = new ArrayList<String>(getDependencyKeys(
+					clazz, queryProperties, query));
+			keys.add(key);
+			getCache().prefetch(keys);
+		}
+		else {
+			getEntityCache().prefetchEntities(clazz, 
+					(List<Long>)item.getData());
+		}
+	}
+
+	/**
+	 * @return class reset date key and query dependency key.
+	 */
+	private List<String> getDependencyKeys(Class clazz, 
+			Set<String> queryProperties, Query query) {
+		return Arrays.asList(getClassResetdateKey(clazz), 
+				getQueryDependencyKey(clazz, queryProperties, query));
+	}
+	
+	/**
+	 * Missing reset date means it was evicted and query is invalid.
+	 */
+	private boolean isValid(List<String> dependencyKeys, CacheItem item) {
+		Date globalResetDate = getCache().getResetDate();
+		if (globalResetDate != null 
+				&& !item.getTimestamp().after(globalResetDate)) {
+			return false;
+		}
+		Map resetDates = getCache().getAll(dependencyKeys);
+		for (String key : dependencyKeys) {
+			Date resetDate = (Date)resetDates.get(key);
+			if (resetDate == null 
+					|| !item.getTimestamp().after(resetDate)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	private List<BaseEntity> getCachedQueryResult(Class clazz, CacheItem item) {
 		getDaoStat().incQueryCacheHits();
 		List<Long> ids = (List<Long>)item.getData();
@@ -155,20 +253,64 @@ public class QueryCacheImpl implements QueryCache, Serializable {
 	}
 
 	@Override
-	public void putQuery(Class clazz, String query, Object[] params, 
+	public void putQuery(Class clazz, Set<String> queryProperties, 
+			Query query, String queryId, Object[] params, 
 			List<BaseEntity> list) {
-		String key = getQueryKey(clazz, query, params);
+		String key = getQueryKey(clazz, queryId, params);
 		List<Long> ids = new ArrayList<Long>();
 		for (BaseEntity entity : list) {
 			ids.add(entity.getId());
 		}
-		getCache().put(key, new CacheItem(ids));
+		CacheItem item = new CacheItem(ids);
+		Date seed = new Date(item.getTimestamp().getTime() - 1);
+		Map<String, Date> seeds = new HashMap<String, Date>();
+		for (String dependencyKey : getDependencyKeys(clazz, 
+				queryProperties, query)) {
+			seeds.put(dependencyKey, seed);
+		}
+		getCache().addAll(seeds);
+		getCache().put(key, item);
 		getEntityCache().putEntities(clazz, list);
 	}
 
 	@Override
 	public void removeQueries(Class clazz) {
 		getCache().put(getClassResetdateKey(clazz), new Date());
+		getCache().flush();
+	}
+
+	@Override
+	public void removeQueries(Class clazz, Set<String> queryProperties, 
+			Collection<Entity> entities) {
+		Date now = new Date();
+		Map<String, Date> resetDates = new HashMap<String, Date>();
+		resetDates.put(getClassDependencyKey(clazz), now);
+		for (Entity entity : entities) {
+			if (entity.getKey().isComplete()) {
+				resetDates.put(getDependencyKey(clazz, 
+						Entity.KEY_RESERVED_PROPERTY, entity.getKey()), now);
+			}
+			for (String property : queryProperties) {
+				if (!entity.hasProperty(property)) {
+					continue;
+				}
+				Object value = entity.getProperty(property);
+				if (value instanceof Collection) {
+					for (Object element : (Collection)value) {
+						if (isIndexed(element)) {
+							resetDates.put(getDependencyKey(clazz, property, 
+									element), now);
+						}
+					}
+				}
+				else if (isIndexed(value)) {
+					resetDates.put(getDependencyKey(clazz, property, value), 
+							now);
+				}
+			}
+		}
+		getCache().putAll(resetDates);
+		getCache().flush();
 	}
 
 }
@@ -43,20 +43,30 @@ public class CommentDaoImpl extends BaseDaoImpl<CommentEntity>
 
 	public CommentDaoImpl() {
 		super(CommentEntity.class);
+		setQueryProperties("disabled", "pageUrl");
 	}
 
 	@Override
 	public List<CommentEntity> getByPage(final String pageUrl) {
-		Query q = newQuery();
-		q.addFilter("pageUrl", EQUAL, pageUrl);
-		List<CommentEntity> result = select(q, "getByPage", params(pageUrl));
+		List<CommentEntity> result = select(getByPageQuery(pageUrl), 
+				"getByPage", params(pageUrl));
 		
 		return result;
 	}
+
+	@Override
+	public void prefetchByPage(final String pageUrl) {
+		prefetch(getByPageQuery(pageUrl), "getByPage", params(pageUrl));
+	}
+	
+	private Query getByPageQuery(final String pageUrl) {
+		Query q = newQuery();
+		q.addFilter("pageUrl", EQUAL, pageUrl);
+		return q;
+	}
 	
 	@Override
 	public void disable(List<Long> ids) {
-		getQueryCache().removeQueries(CommentEntity.class);
 		for (Long id : ids) {
 			CommentEntity comment = getById(id);
 			if (comment != null) {
@@ -69,7 +79,6 @@ public class CommentDaoImpl extends BaseDaoImpl<CommentEntity>
 
 	@Override
 	public void enable(List<Long> ids) {
-		getQueryCache().removeQueries(CommentEntity.class);
 		for (Long id : ids) {
 			CommentEntity comment = getById(id);
 			if (comment != null) {
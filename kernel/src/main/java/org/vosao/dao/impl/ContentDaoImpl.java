@@ -36,15 +36,28 @@ public class ContentDaoImpl extends BaseDaoImpl<ContentEntity>
 
 	public ContentDaoImpl() {
 		super(ContentEntity.class);
+		setQueryProperties("languageCode", "parentClass", "parentKey");
 	}
 
 	@Override
 	public List<ContentEntity> select(final String parentClass, 
 			final Long parentKey) {
+		return select(selectQuery(parentClass, parentKey), "select", 
+				params(parentClass, parentKey));
+	}
+
+	@Override
+	public void prefetch(final String parentClass, final Long parentKey) {
+		prefetch(selectQuery(parentClass, parentKey), "select", 
+				params(parentClass, parentKey));
+	}
+	
+	private Query selectQuery(final String parentClass, 
+			final Long parentKey) {
 		Query q = newQuery();
 		q.addFilter("parentClass", FilterOperator.EQUAL, parentClass);
 		q.addFilter("parentKey", FilterOperator.EQUAL, parentKey);
-		return select(q, "select", params(parentClass, parentKey));
+		return q;
 	}
 	
 	@Override
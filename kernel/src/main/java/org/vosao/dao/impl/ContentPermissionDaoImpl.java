@@ -42,13 +42,24 @@ public class ContentPermissionDaoImpl extends
 
 	public ContentPermissionDaoImpl() {
 		super(ContentPermissionEntity.class);
+		setQueryProperties("groupId", "url");
+		setTimestamped(true);
 	}
 
 	@Override
 	public List<ContentPermissionEntity> selectByUrl(final String url) {
+		return select(selectByUrlQuery(url), "selectByUrl", params(url));
+	}
+
+	@Override
+	public void prefetchByUrl(final String url) {
+		prefetch(selectByUrlQuery(url), "selectByUrl", params(url));
+	}
+	
+	private Query selectByUrlQuery(final String url) {
 		Query q = newQuery();
 		q.addFilter("url", EQUAL, url);
-		return select(q, "selectByUrl", params(url));
+		return q;
 	}
 
 	@Override
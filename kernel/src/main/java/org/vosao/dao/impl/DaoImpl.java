@@ -63,38 +63,38 @@ import org.vosao.global.SystemService;
 
 public class DaoImpl implements Dao, Serializable {
 
-	private EntityCache entityCache;
-	private QueryCache queryCache;
+	private volatile EntityCache entityCache;
+	private volatile QueryCache queryCache;
 	
-	private PageDao pageDao;
-	private FileDao fileDao;
-	private FileChunkDao fileChunkDao;
-	private FolderDao folderDao;
-	private UserDao userDao;
-	private TemplateDao templateDao;
-	private ConfigDao configDao;
-	private FormDao formDao;
-	private FormConfigDao formConfigDao;
-	private CommentDao commentDao;
-	private FieldDao fieldDao;
-	private SeoUrlDao seoUrlDao;
-	private LanguageDao languageDao;
-	private ContentDao contentDao;
-	private MessageDao messageDao;
-	private GroupDao groupDao;
-	private UserGroupDao userGroupDao;
-	private ContentPermissionDao contentPermissionDao;
-	private FolderPermissionDao folderPermissionDao;
-	private StructureDao structureDao;
-	private StructureTemplateDao structureTemplateDao;
-	private PluginDao pluginDao;
-	private PluginResourceDao pluginResourceDao;
-	private TagDao tagDao;
-	private PageTagDao pageTagDao;
-	private FormDataDao formDataDao;
-	private PageDependencyDao pageDependencyDao;
-	private PageAttributeDao pageAttributeDao;
-	private DaoStat daoStat;
+	private volatile PageDao pageDao;
+	private volatile FileDao fileDao;
+	private volatile FileChunkDao fileChunkDao;
+	private volatile FolderDao folderDao;
+	private volatile UserDao userDao;
+	private volatile TemplateDao templateDao;
+	private volatile ConfigDao configDao;
+	private volatile FormDao formDao;
+	private volatile FormConfigDao formConfigDao;
+	private volatile CommentDao commentDao;
+	private volatile FieldDao fieldDao;
+	private volatile SeoUrlDao seoUrlDao;
+	private volatile LanguageDao languageDao;
+	private volatile ContentDao contentDao;
+	private volatile MessageDao messageDao;
+	private volatile GroupDao groupDao;
+	private volatile UserGroupDao userGroupDao;
+	private volatile ContentPermissionDao contentPermissionDao;
+	private volatile FolderPermissionDao folderPermissionDao;
+	private volatile StructureDao structureDao;
+	private volatile StructureTemplateDao structureTemplateDao;
+	private volatile PluginDao pluginDao;
+	private volatile PluginResourceDao pluginResourceDao;
+	private volatile TagDao tagDao;
+	private volatile PageTagDao pageTagDao;
+	private volatile FormDataDao formDataDao;
+	private volatile PageDependencyDao pageDependencyDao;
+	private volatile PageAttributeDao pageAttributeDao;
+	private volatile DaoStat daoStat;
 
 	@Override
 	public SystemService getSystemService() {
@@ -443,7 +443,11 @@ public class DaoImpl implements Dao, Serializable {
 	@Override
 	public DaoStat getDaoStat() {
 		if (daoStat == null) {
-			daoStat = new DaoStat();
+			synchronized (this) {
+				if (daoStat == null) {
+					daoStat = new DaoStat();
+				}
+			}
 		}
 		return daoStat;
 	}
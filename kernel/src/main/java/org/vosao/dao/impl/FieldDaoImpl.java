@@ -39,6 +39,7 @@ public class FieldDaoImpl extends BaseDaoImpl<FieldEntity>
 
 	public FieldDaoImpl() {
 		super(FieldEntity.class);
+		setQueryProperties("formId", "name");
 	}
 
 	@Override
@@ -24,6 +24,8 @@ package org.vosao.dao.impl;
 
 import static com.google.appengine.api.datastore.Query.FilterOperator.EQUAL;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -42,6 +44,7 @@ public class FileChunkDaoImpl extends BaseDaoImpl<FileChunkEntity>
 
 	public FileChunkDaoImpl() {
 		super(FileChunkEntity.class);
+		setQueryProperties("fileId", "index");
 	}
 
 	@Override
@@ -105,4 +108,56 @@ public class FileChunkDaoImpl extends BaseDaoImpl<FileChunkEntity>
 		return ArrayUtil.packChunks(chunks);
 	}
 
+	@Override
+	public void writeFileContent(FileEntity file, OutputStream out, 
+			long start, long length) throws IOException {
+		if (length <= 0) {
+			return;
+		}
+		int first = (int)(start / ENTITY_SIZE_LIMIT);
+		int last = (int)((start + length - 1) / ENTITY_SIZE_LIMIT);
+		long offset = start - (long)first * ENTITY_SIZE_LIMIT;
+		long remaining = length;
+		List<FileChunkEntity> chunks = null;
+		for (int i = first; i <= last && remaining > 0; i++) {
+			FileChunkEntity chunk = chunks == null ? 
+					getChunk(file.getId(), i) : getChunk(chunks, i);
+			if (chunk == null && chunks == null) {
+				chunks = getByFile(file.getId());
+				chunk = getChunk(chunks, i);
+			}
+			if (chunk == null) {
+				throw new IOException("File chunk not found " + file.getId() 
+						+ " " + i);
+			}
+			byte[] content = chunk.getContent();
+			int count = (int)Math.min(content.length - offset, remaining);
+			out.write(content, (int)offset, count);
+			remaining -= count;
+			offset = 0;
+		}
+	}
+
+	private FileChunkEntity getChunk(Long fileId, int index) {
+		Query q = newQuery();
+		q.addFilter("fileId", EQUAL, fileId);
+		q.addFilter("index", EQUAL, index);
+		List<FileChunkEntity> result = selectNotCache(q);
+		return result.isEmpty() ? null : result.get(0);
+	}
+
+	/**
+	 * Chunks saved before index property became indexed can't be found by 
+	 * index until UpdateTask101 resaves them. Find them in all file chunks.
+	 */
+	private FileChunkEntity getChunk(List<FileChunkEntity> chunks, 
+			int index) {
+		for (FileChunkEntity chunk : chunks) {
+			if (chunk.getIndex() == index) {
+				return chunk;
+			}
+		}
+		return null;
+	}
+
 }
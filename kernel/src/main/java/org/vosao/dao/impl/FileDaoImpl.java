@@ -24,6 +24,8 @@ package org.vosao.dao.impl;
 
 import static com.google.appengine.api.datastore.Query.FilterOperator.EQUAL;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Date;
 import java.util.List;
 
@@ -31,6 +33,7 @@ import org.vosao.dao.BaseDaoImpl;
 import org.vosao.dao.FileChunkDao;
 import org.vosao.dao.FileDao;
 import org.vosao.entity.FileEntity;
+import org.vosao.utils.HashUtil;
 
 import com.google.appengine.api.datastore.Query;
 
@@ -39,6 +42,7 @@ public class FileDaoImpl extends BaseDaoImpl<FileEntity>
 
 	public FileDaoImpl() {
 		super(FileEntity.class);
+		setQueryProperties("filename", "folderId");
 	}
 
 	@Override
@@ -76,6 +80,7 @@ public class FileDaoImpl extends BaseDaoImpl<FileEntity>
 	public void save(FileEntity file, byte[] content) {
 		file.setLastModifiedTime(new Date());
 		file.setSize(content.length);
+		file.setHash(HashUtil.getMD5(content));
 		save(file);
 		getFileChunkDao().save(file, content);
 	}
@@ -103,4 +108,10 @@ public class FileDaoImpl extends BaseDaoImpl<FileEntity>
 		return getFileChunkDao().getFileContent(file);
 	}
 
+	@Override
+	public void writeFileContent(FileEntity file, OutputStream out, 
+			long start, long length) throws IOException {
+		getFileChunkDao().writeFileContent(file, out, start, length);
+	}
+
 }
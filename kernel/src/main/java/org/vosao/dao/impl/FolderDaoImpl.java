@@ -39,6 +39,8 @@ public class FolderDaoImpl extends BaseDaoImpl<FolderEntity>
 
 	public FolderDaoImpl() {
 		super(FolderEntity.class);
+		setQueryProperties("name", "parentId");
+		setTimestamped(true);
 	}
 
 	public List<FolderEntity> getByParent(final Long id) {
@@ -42,6 +42,8 @@ public class FolderPermissionDaoImpl
 
 	public FolderPermissionDaoImpl() {
 		super(FolderPermissionEntity.class);
+		setQueryProperties("folderId", "groupId");
+		setTimestamped(true);
 	}
 
 	@Override
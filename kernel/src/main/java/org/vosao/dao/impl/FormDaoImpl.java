@@ -35,6 +35,7 @@ public class FormDaoImpl extends BaseDaoImpl<FormEntity>
 
 	public FormDaoImpl() {
 		super(FormEntity.class);
+		setQueryProperties("name");
 	}
 
 	@Override
@@ -43,6 +43,7 @@ public class FormDataDaoImpl extends BaseDaoImpl<FormDataEntity>
 
 	public FormDataDaoImpl() {
 		super(FormDataEntity.class);
+		setQueryProperties("formId");
 	}
 
 	@Override
@@ -38,6 +38,7 @@ public class GroupDaoImpl extends BaseDaoImpl<GroupEntity>
 
 	public GroupDaoImpl() {
 		super(GroupEntity.class);
+		setQueryProperties("name");
 	}
 
 	@Override
@@ -34,6 +34,7 @@ public class LanguageDaoImpl extends BaseDaoImpl<LanguageEntity>
 
 	public LanguageDaoImpl() {
 		super(LanguageEntity.class);
+		setQueryProperties("code");
 	}
 
 	public LanguageEntity getByCode(final String code) {
@@ -36,6 +36,8 @@ public class MessageDaoImpl extends BaseDaoImpl<MessageEntity>
 
 	public MessageDaoImpl() {
 		super(MessageEntity.class);
+		setQueryProperties("code", "languageCode");
+		setTimestamped(true);
 	}
 
 	@Override
@@ -40,6 +40,7 @@ public class PageAttributeDaoImpl extends BaseDaoImpl<PageAttributeEntity>
 
 	public PageAttributeDaoImpl() {
 		super(PageAttributeEntity.class);
+		setQueryProperties("inherited", "name", "pageUrl");
 	}
 
 	@Override
@@ -50,8 +50,13 @@ public class PageDaoImpl extends BaseDaoImpl<PageEntity>
 
 	private static final String PAGE_CLASS_NAME = PageEntity.class.getName();
 
+	private static final String REMOVE_TIMESTAMP_KEY = "pageRemoveTimestamp";
+
 	public PageDaoImpl() {
 		super(PageEntity.class);
+		setQueryProperties("friendlyURL", "parentUrl", "structureId",
+				"structureTemplateId", "template", "version");
+		setTimestamped(true);
 	}
 
 	@Override
@@ -76,13 +81,57 @@ public class PageDaoImpl extends BaseDaoImpl<PageEntity>
 		if (page != null) {
 			getContentDao().removeById(PAGE_CLASS_NAME, id);
 			super.remove(id);
+			resetRemoveTimestamp();
 		}
 	}
 
+	@Override
+	public PageEntity saveNoAudit(PageEntity model) {
+		PageEntity result = super.saveNoAudit(model);
+		resetRemoveTimestamp();
+		return result;
+	}
+
+	@Override
+	public void removeAll() {
+		super.removeAll();
+		resetRemoveTimestamp();
+	}
+
+	@Override
+	public void clearCache() {
+		super.clearCache();
+		resetRemoveTimestamp();
+	}
+
+	@Override
+	public long getRemoveTimestamp() {
+		Long timestamp = (Long)getSystemService().getCache().get(
+				REMOVE_TIMESTAMP_KEY);
+		return timestamp == null ? 0 : timestamp;
+	}
+
+	private void resetRemoveTimestamp() {
+		getSystemService().getCache().put(REMOVE_TIMESTAMP_KEY, 
+				getTimestamp());
+		getSystemService().getCache().flush();
+	}
+
 	public List<PageEntity> selectAllChildren(final String parentUrl) {
+		return select(selectAllChildrenQuery(parentUrl), "selectAllChildren", 
+				params(parentUrl));
+	}
+
+	@Override
+	public void prefetchAllChildren(final String parentUrl) {
+		prefetch(selectAllChildrenQuery(parentUrl), "selectAllChildren", 
+				params(parentUrl));
+	}
+	
+	private Query selectAllChildrenQuery(final String parentUrl) {
 		Query q = newQuery();
 		q.addFilter("parentUrl", FilterOperator.EQUAL, parentUrl);
-		return select(q, "selectAllChildren", params(parentUrl));
+		return q;
 	}
 	
 	public List<PageEntity> selectAllChildren(final String parentUrl,
@@ -186,12 +235,22 @@ public class PageDaoImpl extends BaseDaoImpl<PageEntity>
 	
 	@Override
 	public List<PageEntity> selectByUrl(final String url) {
-		Query q = newQuery();
-		q.addFilter("friendlyURL", FilterOperator.EQUAL, url);
-		List<PageEntity> result = select(q, "selectByUrl", params(url));
+		List<PageEntity> result = select(selectByUrlQuery(url), "selectByUrl", 
+				params(url));
 		Collections.sort(result, PageHelper.VERSION_ASC);
 		return result;
 	}
+
+	@Override
+	public void prefetchByUrl(final String url) {
+		prefetch(selectByUrlQuery(url), "selectByUrl", params(url));
+	}
+	
+	private Query selectByUrlQuery(final String url) {
+		Query q = newQuery();
+		q.addFilter("friendlyURL", FilterOperator.EQUAL, url);
+		return q;
+	}
 	
 	@Override
 	public PageEntity getByUrlVersion(final String url, final Integer version) {
@@ -270,5 +329,12 @@ public class PageDaoImpl extends BaseDaoImpl<PageEntity>
 		return select(q, "getCurrentHourUnpublishedPages", 
 				params(startDate, endDate));
 	}
+
+	@Override
+	public List<PageEntity> selectModifiedSince(final Date date) {
+		Query q = newQuery();
+		q.addFilter("modDate", FilterOperator.GREATER_THAN_OR_EQUAL, date);
+		return selectNotCache(q);
+	}
 	
 }
@@ -40,13 +40,25 @@ public class PageDependencyDaoImpl extends BaseDaoImpl<PageDependencyEntity>
 
 	public PageDependencyDaoImpl() {
 		super(PageDependencyEntity.class);
+		setQueryProperties("dependency", "page");
+		setTimestamped(true);
 	}
 
 	@Override
 	public List<PageDependencyEntity> selectByPage(final String pageUrl) {
+		return select(selectByPageQuery(pageUrl), "getByPage", 
+				params(pageUrl));
+	}
+
+	@Override
+	public void prefetchByPage(final String pageUrl) {
+		prefetch(selectByPageQuery(pageUrl), "getByPage", params(pageUrl));
+	}
+	
+	private Query selectByPageQuery(final String pageUrl) {
 		Query q = newQuery();
 		q.addFilter("page", EQUAL, pageUrl);
-		return select(q, "getByPage", params(pageUrl));
+		return q;
 	}
 	
 	@Override
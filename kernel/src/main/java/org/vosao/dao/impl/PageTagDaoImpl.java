@@ -35,13 +35,23 @@ public class PageTagDaoImpl extends BaseDaoImpl<PageTagEntity>
 
 	public PageTagDaoImpl() {
 		super(PageTagEntity.class);
+		setQueryProperties("pageURL");
 	}
 
 	@Override
 	public PageTagEntity getByURL(final String url) {
+		return selectOne(getByURLQuery(url), "getByURL", params(url));
+	}
+
+	@Override
+	public void prefetchByURL(final String url) {
+		prefetch(getByURLQuery(url), "getByURL", params(url));
+	}
+	
+	private Query getByURLQuery(final String url) {
 		Query q = newQuery();
 		q.addFilter("pageURL", EQUAL, url);
-		return selectOne(q, "getByURL", params(url));
+		return q;
 	}
 
 }
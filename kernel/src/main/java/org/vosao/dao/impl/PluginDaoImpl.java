@@ -36,6 +36,8 @@ public class PluginDaoImpl extends BaseDaoImpl<PluginEntity>
 
 	public PluginDaoImpl() {
 		super(PluginEntity.class);
+		setQueryProperties("disabled", "name");
+		setTimestamped(true);
 	}
 
 	@Override
@@ -34,6 +34,7 @@ public class PluginResourceDaoImpl extends
 
 	public PluginResourceDaoImpl() {
 		super(PluginResourceEntity.class);
+		setQueryProperties("pluginName", "url");
 	}
 
 	@Override
@@ -34,6 +34,8 @@ public class SeoUrlDaoImpl extends BaseDaoImpl<SeoUrlEntity>
 
 	public SeoUrlDaoImpl() {
 		super(SeoUrlEntity.class);
+		setQueryProperties("fromLink");
+		setTimestamped(true);
 	}
 
 	public SeoUrlEntity getByFrom(final String from) {
@@ -42,6 +42,7 @@ public class StructureDaoImpl extends BaseDaoImpl<StructureEntity>
 
 	public StructureDaoImpl() {
 		super(StructureEntity.class);
+		setQueryProperties("title");
 	}
 
 	public StructureTemplateDao getStructureTemplateDao() {
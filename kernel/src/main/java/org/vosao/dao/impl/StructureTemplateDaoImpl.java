@@ -40,6 +40,7 @@ public class StructureTemplateDaoImpl
 
 	public StructureTemplateDaoImpl() {
 		super(StructureTemplateEntity.class);
+		setQueryProperties("name", "structureId", "title");
 	}
 
 	@Override
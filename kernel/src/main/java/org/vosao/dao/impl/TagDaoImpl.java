@@ -37,6 +37,7 @@ public class TagDaoImpl extends BaseDaoImpl<TagEntity>
 
 	public TagDaoImpl() {
 		super(TagEntity.class);
+		setQueryProperties("name", "parent");
 	}
 
 	@Override
@@ -34,6 +34,7 @@ public class TemplateDaoImpl extends BaseDaoImpl<TemplateEntity>
 
 	public TemplateDaoImpl() {
 		super(TemplateEntity.class);
+		setQueryProperties("url");
 	}
 
 	public TemplateEntity getByUrl(final String url) {
@@ -41,6 +41,8 @@ public class UserDaoImpl extends BaseDaoImpl<UserEntity>
 
 	public UserDaoImpl() {
 		super(UserEntity.class);
+		setQueryProperties("email", "forgotPasswordKey", "role");
+		setTimestamped(true);
 	}
 
 	public UserEntity getByEmail(final String email) {
@@ -58,14 +60,11 @@ public class UserDaoImpl extends BaseDaoImpl<UserEntity>
 	@Override
 	public List<UserEntity> selectByGroup(final Long groupId) {
 		List<UserGroupEntity> users = getUserGroupDao().selectByGroup(groupId);
-		List<UserEntity> result = new ArrayList<UserEntity>();
+		List<Long> ids = new ArrayList<Long>();
 		for (UserGroupEntity userGroup : users) {
-			UserEntity user = getById(userGroup.getUserId());
-			if (user != null) {
-				result.add(user);
-			}
+			ids.add(userGroup.getUserId());
 		}
-		return result;
+		return getById(ids);
 	}
 
 	private UserGroupDao getUserGroupDao() {
@@ -41,6 +41,8 @@ public class UserGroupDaoImpl extends BaseDaoImpl<UserGroupEntity>
 
 	public UserGroupDaoImpl() {
 		super(UserGroupEntity.class);
+		setQueryProperties("groupId", "userId");
+		setTimestamped(true);
 	}
 
 	@Override
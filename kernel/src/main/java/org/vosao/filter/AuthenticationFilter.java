@@ -33,6 +33,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.lang.StringUtils;
+import org.vosao.business.impl.UserIdentityCache;
 import org.vosao.common.BCrypt;
 import org.vosao.common.VosaoContext;
 import org.vosao.entity.UserEntity;
@@ -61,7 +62,7 @@ public class AuthenticationFilter extends AbstractFilter implements Filter {
         VosaoContext ctx = VosaoContext.getInstance();
         autoLogin(httpRequest);
         String userEmail = ctx.getSession().getString(USER_SESSION_ATTR);
-        UserEntity user = getDao().getUserDao().getByEmail(userEmail);
+        UserEntity user = UserIdentityCache.getByEmail(getDao(), userEmail);
 		if (user == null) {
 			ctx.getSession().remove(USER_SESSION_ATTR);
 			ctx.setUser(null);
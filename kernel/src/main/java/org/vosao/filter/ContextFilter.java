@@ -26,16 +26,21 @@ import java.io.IOException;
 
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
 import javax.servlet.ServletException;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.vosao.business.Business;
 import org.vosao.business.impl.BusinessImpl;
 import org.vosao.business.impl.mq.MessageQueueImpl;
+import org.vosao.business.mq.MessageQueue;
 import org.vosao.common.Session;
 import org.vosao.common.VosaoContext;
+import org.vosao.service.BackService;
+import org.vosao.service.FrontService;
 import org.vosao.service.impl.BackServiceImpl;
 import org.vosao.service.impl.FrontServiceImpl;
 
@@ -47,9 +52,27 @@ import org.vosao.service.impl.FrontServiceImpl;
  */
 public class ContextFilter extends AbstractFilter implements Filter {
     
+	/**
+	 * Services are shared by all request threads. Request specific state is 
+	 * kept in VosaoContext.
+	 */
+	private Business business;
+	private MessageQueue messageQueue;
+	private FrontService frontService;
+	private BackService backService;
+	
     public ContextFilter() {
     	super();
     }
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+    	super.init(filterConfig);
+    	business = new BusinessImpl();
+    	messageQueue = new MessageQueueImpl();
+    	frontService = new FrontServiceImpl();
+    	backService = new BackServiceImpl();
+    }
   
     public void doFilter(ServletRequest request, ServletResponse response, 
     		FilterChain chain) throws IOException, ServletException {
@@ -57,22 +80,33 @@ public class ContextFilter extends AbstractFilter implements Filter {
     	ctx.setRequest((HttpServletRequest)request);
     	ctx.setResponse((HttpServletResponse)response);
     	ctx.setConfig(null);
-    	if (ctx.getMessageQueue() == null) {
-        	ctx.setMessageQueue(new MessageQueueImpl());
-    	}
-    	if (ctx.getBusiness() == null) {
-        	ctx.setBusiness(new BusinessImpl());
+    	ctx.setMessageQueue(messageQueue);
+    	ctx.setBusiness(business);
+    	ctx.setFrontService(frontService);
+    	ctx.setBackService(backService);
+    	ctx.getPageRenderingContext().clear();
+    	ctx.setSession(new Session((HttpServletRequest)request));
+    	if (!isTask((HttpServletRequest)request)) {
+    		ctx.getRequestCache().begin();
     	}
-    	if (ctx.getFrontService() == null) {
-        	ctx.setFrontService(new FrontServiceImpl());
+    	try {
+    		chain.doFilter(request, response);
+    		ctx.getPageRenderingContext().clear();
+    		ctx.getSession().save((HttpServletResponse)response);
     	}
-    	if (ctx.getBackService() == null) {
-        	ctx.setBackService(new BackServiceImpl());
+    	finally {
+    		ctx.getBusiness().getSystemService().getCache().flush();
+    		ctx.getRequestCache().end();
     	}
-    	ctx.getPageRenderingContext().clear();
-    	ctx.setSession(new Session((HttpServletRequest)request));
-    	chain.doFilter(request, response);
-    	ctx.getPageRenderingContext().clear();
-    	ctx.getSession().save((HttpServletResponse)response);
+    }
+
+    /**
+     * Queue and cron tasks can run long and read the whole site. They read 
+     * cache directly so read values are not kept till task end and changes 
+     * made by other instances are seen.
+     */
+    private boolean isTask(HttpServletRequest request) {
+    	String uri = request.getRequestURI();
+    	return uri.startsWith("/_ah/queue/") || uri.startsWith("/_ah/cron/");
     }
 }
@@ -34,6 +34,7 @@ import javax.servlet.http.HttpServletRequestWrapper;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.vosao.business.RewriteUrlBusiness;
 import org.vosao.common.VosaoContext;
 
 /**
@@ -50,10 +51,12 @@ public class RewriteFilter extends AbstractFilter implements Filter {
     	
         public RewrittenRequestWrapper(HttpServletRequest request) {
             super(request);
-            newURI = VosaoContext.getInstance().getBusiness()
-            		.getRewriteUrlBusiness().rewrite(request.getRequestURI());
-            newServletPath = VosaoContext.getInstance().getBusiness()
-    				.getRewriteUrlBusiness().rewrite(request.getServletPath());
+            RewriteUrlBusiness rewriteUrlBusiness = VosaoContext.getInstance()
+            		.getBusiness().getRewriteUrlBusiness();
+            newURI = rewriteUrlBusiness.rewrite(request.getRequestURI());
+            newServletPath = request.getServletPath().equals(
+            		request.getRequestURI()) ? newURI 
+            		: rewriteUrlBusiness.rewrite(request.getServletPath());
         }
         
         @Override
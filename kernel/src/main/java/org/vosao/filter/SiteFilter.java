@@ -23,8 +23,11 @@
 package org.vosao.filter;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import javax.servlet.Filter;
@@ -38,13 +41,17 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import org.apache.commons.lang.StringUtils;
+import org.vosao.business.impl.PageCacheWarmer;
+import org.vosao.business.impl.SeoUrlMap;
 import org.vosao.business.impl.SetupBeanImpl;
+import org.vosao.business.impl.UserIdentityCache;
+import org.vosao.business.mq.message.PageCacheMessage;
 import org.vosao.common.AccessDeniedException;
 import org.vosao.common.VosaoContext;
 import org.vosao.entity.ConfigEntity;
 import org.vosao.entity.PageEntity;
-import org.vosao.entity.SeoUrlEntity;
 import org.vosao.entity.UserEntity;
+import org.vosao.global.PageCache;
 import org.vosao.global.PageCacheItem;
 import org.vosao.i18n.Messages;
 
@@ -112,13 +119,13 @@ public class SiteFilter extends AbstractFilter implements Filter {
         	httpResponse.setHeader("Connection", "close");
         	return;
         }
-        if (!isLoggedIn(httpRequest) && servedFromCache(url, httpResponse)) {
+        if (servedFromCache(url, httpRequest, httpResponse)) {
         	return;
         }
-        SeoUrlEntity seoUrl = getDao().getSeoUrlDao().getByFrom(url);
+        String seoUrl = SeoUrlMap.getInstance(getDao()).getToLink(url);
         if (seoUrl != null) {
         	httpResponse.setStatus(HttpServletResponse.SC_MOVED_PERMANENTLY);
-        	httpResponse.setHeader("Location", seoUrl.getToLink());
+        	httpResponse.setHeader("Location", seoUrl);
         	httpResponse.setHeader("Connection", "close");
             return;
         }
@@ -167,20 +174,94 @@ public class SiteFilter extends AbstractFilter implements Filter {
     	}
     }
 
-	private boolean servedFromCache(String url,	HttpServletResponse response) 
-			throws IOException {
-		PageCacheItem page = getSystemService().getPageCache().get(url,
-				getBusiness().getLanguage());
+	/**
+	 * Send cached page bytes. Gzipped variant is sent if browser accepts it. 
+	 * If browser already has the same page then only 304 status is sent.
+	 */
+	private boolean servedFromCache(String url, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		PageCacheItem page = getCachedPage(url);
 		if (page != null) {
+			boolean gzip = page.getGzipBytes() != null && acceptsGzip(request);
+			response.setHeader("ETag", "\"" + page.getHash() 
+					+ (gzip ? "-gzip\"" : "\""));
+			response.setHeader("Vary", "Accept-Encoding");
+			String ifNoneMatch = request.getHeader("If-None-Match");
+			if (ifNoneMatch != null && ifNoneMatch.contains(page.getHash())) {
+				response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+				return true;
+			}
 	    	response.setContentType(page.getContentType());
 	    	response.setCharacterEncoding("UTF-8");
-	    	Writer out = response.getWriter();
-	    	out.write(page.getContent());
+	    	byte[] content = page.getBytes();
+	    	if (gzip) {
+	    		content = page.getGzipBytes();
+	    		response.setHeader("Content-Encoding", "gzip");
+	    	}
+	    	response.setContentLength(content.length);
+	    	OutputStream out = response.getOutputStream();
+	    	out.write(content);
+	    	out.flush();
 			return true;
 		}
 		return false;
 	}
 
+	/**
+	 * Logged in users get pages cached for their permission class if they 
+	 * still have access to the page. Only pages marked as user cached are 
+	 * cached for permission classes. Stale guest page is served while one 
+	 * background task renders it again.
+	 */
+	private PageCacheItem getCachedPage(String url) {
+		UserEntity user = VosaoContext.getInstance().getUser();
+		String language = getBusiness().getLanguage();
+		if (user == null) {
+			PageCache pageCache = getSystemService().getPageCache();
+			PageCacheItem page = pageCache.get(url, language);
+			if (page != null) {
+				PageCacheWarmer.hit(url, language);
+			}
+			if (page != null && page.isRefreshNeeded() 
+					&& pageCache.lockRefresh(url, language)) {
+				try {
+					getMessageQueue().publish(new PageCacheMessage(url, 
+							language));
+				}
+				catch (Exception e) {
+					logger.error(e.getMessage());
+					pageCache.unlockRefresh(url, language);
+				}
+			}
+			return page;
+		}
+		if (getBusiness().getContentPermissionBusiness().getPermission(url, 
+				user).isDenied()) {
+			return null;
+		}
+		return getSystemService().getPageCache().get(url, language, 
+				getPermissionClass(user));
+	}
+	
+	/**
+	 * Users with the same groups have the same permissions and see the same 
+	 * pages.
+	 */
+	private String getPermissionClass(UserEntity user) {
+		if (user.isAdmin()) {
+			return "admin";
+		}
+		List<Long> groupIds = new ArrayList<Long>(
+				UserIdentityCache.getGroupIds(getDao(), user.getId()));
+		Collections.sort(groupIds);
+		return "groups" + StringUtils.join(groupIds.toArray(), '-');
+	}
+
+	private boolean acceptsGzip(HttpServletRequest request) {
+		String encoding = request.getHeader("Accept-Encoding");
+		return encoding != null && encoding.indexOf("gzip") != -1;
+	}
+
 	private void showNoApprovedContent(HttpServletResponse httpResponse) 
     		throws IOException {
     	renderMessage(httpResponse, Messages.get("not_approved_page", 
@@ -196,14 +277,59 @@ public class SiteFilter extends AbstractFilter implements Filter {
     	response.setCharacterEncoding("UTF-8");
     	Writer out = response.getWriter();
     	String language = getBusiness().getLanguage();
-    	String content = getBusiness().getPageBusiness().render(page, language);
-    	out.write(content);
-    	if (!isLoggedIn(request) && page.isCached()) {
-    		getSystemService().getPageCache().put(url, language, content, 
-    				contentType);
+    	if (page.isCached()) {
+    		StringWriter content = new StringWriter();
+    		getBusiness().getPageBusiness().render(page, language, 
+    				new TeeWriter(out, content));
+    		VosaoContext ctx = VosaoContext.getInstance();
+    		if (ctx.getUser() == null) {
+    			getSystemService().getPageCache().put(url, language, 
+    					content.toString(), contentType);
+    			PageCacheWarmer.hit(url, language);
+    		}
+    		else if (page.isUserCached() 
+    				&& !ctx.getPageRenderingContext().isUserSpecific()) {
+    			getSystemService().getPageCache().put(url, language, 
+    					getPermissionClass(ctx.getUser()), content.toString(), 
+    					contentType);
+    		}
+    	}
+    	else {
+    		getBusiness().getPageBusiness().render(page, language, out);
     	}
     }
     
+    /**
+     * Writes to response and page cache buffer at the same time.
+     */
+    private static class TeeWriter extends Writer {
+    	
+    	private Writer out;
+    	private Writer copy;
+    	
+    	public TeeWriter(Writer out, Writer copy) {
+    		this.out = out;
+    		this.copy = copy;
+    	}
+
+		@Override
+		public void write(char[] buf, int off, int len) throws IOException {
+			out.write(buf, off, len);
+			copy.write(buf, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			out.flush();
+			copy.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+    }
+    
     private Integer getVersion(HttpServletRequest request) {
     	try {
     		return Integer.valueOf(request.getParameter("version"));
@@ -30,6 +30,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.cache.Cache;
 import javax.cache.CacheEntry;
@@ -40,24 +41,28 @@ import javax.cache.CacheStatistics;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.vosao.common.RequestCache;
+import org.vosao.common.VosaoContext;
 import org.vosao.global.CacheService;
 import org.vosao.utils.ArrayUtil;
 import org.vosao.utils.StrUtil;
 
 import com.google.appengine.api.memcache.InvalidValueException;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+import com.google.appengine.api.memcache.MemcacheService.SetPolicy;
 
 public class CacheServiceImpl implements CacheService {
 
 	private static final Log log = LogFactory.getLog(CacheServiceImpl.class);
 
 	private static final long LOCAL_CACHE_TTL = 5000;
+	private static final int LOCAL_CACHE_MAX_ENTRIES = 5000;
+	private static final long LOCAL_CACHE_MAX_BYTES = 16000000;
 	private static final String RESET_DATE_KEY = "cacheResetDate";
 	
 	private Cache cache;
-	private Map<String, Object> localCache;
-	private long localCacheTime;
-	private int localHits;
-	private int cacheHits;
+	private LocalCache localCache;
+	private AtomicInteger cacheHits;
 
 	public CacheServiceImpl() {
 		try {
@@ -66,16 +71,14 @@ public class CacheServiceImpl implements CacheService {
         } catch (CacheException e) {
             log.error("Can't init cache manager. " + e.getMessage());
         }
-        localCache = new HashMap<String, Object>();
-        localCacheTime = System.currentTimeMillis();
+        localCache = new LocalCache(LOCAL_CACHE_MAX_ENTRIES, 
+        		LOCAL_CACHE_MAX_BYTES, LOCAL_CACHE_TTL);
+        cacheHits = new AtomicInteger();
 	}
 	
 	@Override
 	public void resetLocalCache() {
-		if (System.currentTimeMillis() - localCacheTime > LOCAL_CACHE_TTL) {
-			localCache.clear(); 
-	        localCacheTime = System.currentTimeMillis();
-		}
+		localCache.purge();
 	}
 
 	@Override
@@ -85,25 +88,120 @@ public class CacheServiceImpl implements CacheService {
 
 	@Override
 	public void evict() {
-		log.error("evict() not implemented");		
+		localCache.evictExpired();
 	}
 
 	@Override
 	public Map getAll(Collection keys) {
+		RequestCache requestCache = getRequestCache();
+		if (!requestCache.isActive()) {
+			return readAll(keys);
+		}
+		requestCache.prefetch(keys);
+		fetch(requestCache);
+		Map result = new HashMap();
+		for (Object key : keys) {
+			Object value = requestCache.get(key);
+			if (value != null) {
+				result.put(key, value);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Read keys from local cache and then all missing keys from memcache 
+	 * with one call.
+	 */
+	private Map readAll(Collection keys) {
 		Map result = new HashMap();
 		List memcacheKeys = new ArrayList();
 		for (Object key : keys) {
-			if (localCache.containsKey(key)) {
-				result.put(key, localCache.get(key));
+			LocalCache.Entry entry = localCache.getEntry(key);
+			if (entry != null) {
+				result.put(key, entry.getValue());
 			}
 			else {
 				memcacheKeys.add(key);
 			}
 		}
-		result.putAll(cache.getAll(memcacheKeys));
+		if (!memcacheKeys.isEmpty()) {
+			try {
+				Map values = cache.getAll(memcacheKeys);
+				cacheHits.addAndGet(values.size());
+				for (Object key : memcacheKeys) {
+					localCache.put(key, values.get(key));
+				}
+				result.putAll(values);
+			}
+			catch (Exception e) {
+				log.error(e.getMessage());
+			}
+		}
 		return result;
 	}
 
+	/**
+	 * Read all keys registered in request cache with one batch call. Global 
+	 * reset date is read with first batch of request.
+	 */
+	private void fetch(RequestCache requestCache) {
+		if (!requestCache.contains(RESET_DATE_KEY)) {
+			requestCache.prefetch(Collections.singletonList(RESET_DATE_KEY));
+		}
+		List keys = requestCache.takePrefetchKeys();
+		if (keys.isEmpty()) {
+			return;
+		}
+		Map values = readAll(keys);
+		for (Object key : keys) {
+			requestCache.remember(key, values.get(key));
+		}
+	}
+	
+	@Override
+	public void prefetch(Collection keys) {
+		RequestCache requestCache = getRequestCache();
+		if (requestCache.isActive()) {
+			requestCache.prefetch(keys);
+		}
+	}
+
+	@Override
+	public void fetch() {
+		RequestCache requestCache = getRequestCache();
+		if (requestCache.isActive()) {
+			fetch(requestCache);
+		}
+	}
+
+	@Override
+	public void flush() {
+		Map writes = getRequestCache().takeWrites();
+		if (writes.isEmpty()) {
+			return;
+		}
+		try {
+			cache.putAll(writes);
+		}
+		catch (Exception e) {
+			log.error("Batch write failed, writing separately. " 
+					+ e.getMessage());
+			for (Object key : writes.keySet()) {
+				try {
+					cache.put(key, writes.get(key));
+				}
+				catch (Exception e2) {
+					log.error(e2.getMessage());
+				}
+			}
+		}
+	}
+
+	private RequestCache getRequestCache() {
+		return VosaoContext.getInstance().getRequestCache();
+	}
+
 	@Override
 	public CacheEntry getCacheEntry(Object arg0) {
 		log.error("getCacheEntry(Object arg0) not implemented");		
@@ -112,8 +210,7 @@ public class CacheServiceImpl implements CacheService {
 
 	@Override
 	public CacheStatistics getCacheStatistics() {
-		log.error("getCacheStatistics() not implemented");		
-		return null;
+		return localCache;
 	}
 
 	@Override
@@ -127,9 +224,12 @@ public class CacheServiceImpl implements CacheService {
 	}
 
 	@Override
-	public Object peek(Object arg0) {
-		log.error("peek(Object arg0) not implemented");		
-		return null;
+	public Object peek(Object key) {
+		if (getRequestCache().contains(key)) {
+			return getRequestCache().get(key);
+		}
+		LocalCache.Entry entry = localCache.getEntry(key);
+		return entry == null ? null : entry.getValue();
 	}
 
 	@Override
@@ -139,13 +239,22 @@ public class CacheServiceImpl implements CacheService {
 
 	@Override
 	public void clear() {
+		getRequestCache().clear();
 		localCache.clear();
 		cache.clear();
-		put(RESET_DATE_KEY, new Date());
+		Date now = new Date();
+		localCache.put(RESET_DATE_KEY, now);
+		cache.put(RESET_DATE_KEY, now);
+		if (getRequestCache().isActive()) {
+			getRequestCache().remember(RESET_DATE_KEY, now);
+		}
 	}
 
 	@Override
 	public boolean containsKey(Object arg0) {
+		if (getRequestCache().contains(arg0)) {
+			return getRequestCache().get(arg0) != null;
+		}
 		if (localCache.containsKey(arg0)) {
 			return true;
 		}
@@ -164,16 +273,32 @@ public class CacheServiceImpl implements CacheService {
 		return null;
 	}
 
+	/**
+	 * In request scope value is read once per request. Not yet read keys 
+	 * registered with prefetch are read in the same batch call.
+	 */
 	@Override
 	public Object get(Object key) {
+		RequestCache requestCache = getRequestCache();
+		if (!requestCache.isActive()) {
+			return readValue(key);
+		}
+		if (!requestCache.contains(key)) {
+			requestCache.prefetch(Collections.singletonList(key));
+			fetch(requestCache);
+		}
+		return requestCache.get(key);
+	}
+	
+	private Object readValue(Object key) {
 		try {
-			if (localCache.containsKey(key)) {
-				localHits++;
-				return localCache.get(key);
+			LocalCache.Entry entry = localCache.getEntry(key);
+			if (entry != null) {
+				return entry.getValue();
 			}
 			Object value = cache.get(key);
-			localCache.put((String)key, value);
-			cacheHits++;
+			localCache.put(key, value);
+			cacheHits.incrementAndGet();
 			return value;
 		}
 		catch (InvalidValueException e) {
@@ -194,9 +319,16 @@ public class CacheServiceImpl implements CacheService {
 		return null;
 	}
 
+	/**
+	 * In request scope memcache write is deferred till flush().
+	 */
 	@Override
 	public Object put(Object key, Object value) {
-		localCache.put((String)key, value);
+		localCache.put(key, value);
+		if (getRequestCache().isActive()) {
+			getRequestCache().write(key, value);
+			return null;
+		}
 		try {
 			return cache.put(key, value);
 		}
@@ -209,6 +341,12 @@ public class CacheServiceImpl implements CacheService {
 	@Override
 	public void putAll(Map map) {
 		localCache.putAll(map);
+		if (getRequestCache().isActive()) {
+			for (Object key : map.keySet()) {
+				getRequestCache().write(key, map.get(key));
+			}
+			return;
+		}
 		try {
 			cache.putAll(map);
 		}
@@ -220,6 +358,7 @@ public class CacheServiceImpl implements CacheService {
 	@Override
 	public Object remove(Object key) {
 		localCache.remove(key);
+		forget(key);
 		try {
 			return cache.remove(key);
 		}
@@ -229,10 +368,61 @@ public class CacheServiceImpl implements CacheService {
 		}
 	}
 
+	/**
+	 * Keys known to be absent are forgotten in local cache. Added values are 
+	 * remembered till request end only if key was not read or written in 
+	 * request.
+	 */
+	@Override
+	public void addAll(Map map) {
+		try {
+			MemcacheServiceFactory.getMemcacheService().putAll(map, null, 
+					SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+		}
+		catch (Exception e) {
+			log.error(e.getMessage());
+			return;
+		}
+		RequestCache requestCache = getRequestCache();
+		for (Object key : map.keySet()) {
+			LocalCache.Entry entry = localCache.getEntry(key);
+			if (entry != null && entry.getValue() == null) {
+				localCache.remove(key);
+			}
+			if (requestCache.isActive() && requestCache.get(key) == null) {
+				requestCache.remember(key, map.get(key));
+			}
+		}
+	}
+
+	@Override
+	public void removeAll(Collection keys) {
+		for (Object key : keys) {
+			localCache.remove(key);
+			forget(key);
+		}
+		try {
+			MemcacheServiceFactory.getMemcacheService().deleteAll(keys);
+		}
+		catch (Exception e) {
+			log.error(e.getMessage());
+		}
+	}
+
+	/**
+	 * Removed key is known to be absent till request end.
+	 */
+	private void forget(Object key) {
+		RequestCache requestCache = getRequestCache();
+		if (requestCache.isActive()) {
+			requestCache.forget(key);
+			requestCache.remember(key, null);
+		}
+	}
+
 	@Override
 	public int size() {
-		log.error("size() not implemented");		
-		return 0;
+		return localCache.size();
 	}
 
 	@Override
@@ -243,11 +433,11 @@ public class CacheServiceImpl implements CacheService {
 
 	@Override
 	public int getLocalHits() {
-		return localHits;
+		return localCache.getCacheHits();
 	}
 
 	public int getCacheHits() {
-		return cacheHits;
+		return cacheHits.get();
 	}
 
 	@Override
@@ -259,15 +449,15 @@ public class CacheServiceImpl implements CacheService {
 	public byte[] getBlob(String key) {
 		String chunkList = (String)get(key);
 		if (chunkList != null) {
+			List<String> chunkKeys = StrUtil.fromCSV(chunkList);
+			Map chunks = getAll(chunkKeys);
 			List<byte[]> data = new ArrayList<byte[]>();
-			int size = 0;
-			for (String chunkKey : StrUtil.fromCSV(chunkList)) {
-				byte[] chunk = (byte[])get(chunkKey);
+			for (String chunkKey : chunkKeys) {
+				byte[] chunk = (byte[])chunks.get(chunkKey);
 				if (chunk == null) {
 					return null;
 				}
 				data.add(chunk);
-				size += chunk.length;
 			}
 			return ArrayUtil.packChunks(data);
 		}
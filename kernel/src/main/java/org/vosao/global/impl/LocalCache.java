@@ -0,0 +1,234 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.global.impl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.cache.CacheStatistics;
+
+import org.vosao.dao.cache.impl.CacheItem;
+import org.vosao.global.PageCacheItem;
+
+/**
+ * Instance local near cache in front of memcache. Entries live at most ttl 
+ * milliseconds, the cache is bounded by entries count and by approximate 
+ * size in bytes and evicts least recently used entries first. 
+ * All methods are thread safe.
+ * 
+ * Null values are cached too so memcache misses are not repeated during 
+ * entry ttl.
+ */
+public class LocalCache implements CacheStatistics {
+
+	private static final int DEFAULT_ITEM_SIZE = 256;
+	
+	public static class Entry {
+		
+		private Object value;
+		private int size;
+		private long expireTime;
+		
+		private Entry(Object value, int size, long expireTime) {
+			this.value = value;
+			this.size = size;
+			this.expireTime = expireTime;
+		}
+
+		public Object getValue() {
+			return value;
+		}
+	}
+	
+	private final LinkedHashMap<Object, Entry> map;
+	private final int maxEntries;
+	private final long maxBytes;
+	private final long ttl;
+	private long bytes;
+	private long purgeTime;
+	private int hits;
+	private int misses;
+	private int evictions;
+	
+	public LocalCache(int maxEntries, long maxBytes, long ttl) {
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+		this.ttl = ttl;
+		map = new LinkedHashMap<Object, Entry>(16, 0.75f, true);
+		purgeTime = System.currentTimeMillis();
+	}
+
+	/**
+	 * Find not expired entry.
+	 * @param key
+	 * @return null if there is no entry for the key.
+	 */
+	public synchronized Entry getEntry(Object key) {
+		Entry entry = map.get(key);
+		if (entry != null && entry.expireTime < System.currentTimeMillis()) {
+			removeEntry(key);
+			entry = null;
+		}
+		if (entry == null) {
+			misses++;
+		}
+		else {
+			hits++;
+		}
+		return entry;
+	}
+
+	public synchronized boolean containsKey(Object key) {
+		Entry entry = map.get(key);
+		return entry != null && entry.expireTime >= System.currentTimeMillis();
+	}
+	
+	public synchronized void put(Object key, Object value) {
+		int size = estimateSize(value);
+		if (size > maxBytes) {
+			removeEntry(key);
+			return;
+		}
+		removeEntry(key);
+		map.put(key, new Entry(value, size, 
+				System.currentTimeMillis() + ttl));
+		bytes += size;
+		Iterator<Map.Entry<Object, Entry>> i = map.entrySet().iterator();
+		while ((map.size() > maxEntries || bytes > maxBytes) && i.hasNext()) {
+			bytes -= i.next().getValue().size;
+			i.remove();
+			evictions++;
+		}
+	}
+
+	public synchronized void putAll(Map values) {
+		for (Object key : values.keySet()) {
+			put(key, values.get(key));
+		}
+	}
+
+	public synchronized void remove(Object key) {
+		removeEntry(key);
+	}
+	
+	private void removeEntry(Object key) {
+		Entry entry = map.remove(key);
+		if (entry != null) {
+			bytes -= entry.size;
+		}
+	}
+
+	public synchronized void clear() {
+		map.clear();
+		bytes = 0;
+	}
+
+	/**
+	 * Remove all expired entries. 
+	 */
+	public synchronized void evictExpired() {
+		long now = System.currentTimeMillis();
+		Iterator<Entry> i = map.values().iterator();
+		while (i.hasNext()) {
+			Entry entry = i.next();
+			if (entry.expireTime < now) {
+				bytes -= entry.size;
+				i.remove();
+				evictions++;
+			}
+		}
+		purgeTime = now;
+	}
+
+	/**
+	 * Remove expired entries not more often than once per ttl period.
+	 */
+	public void purge() {
+		synchronized (this) {
+			if (System.currentTimeMillis() - purgeTime <= ttl) {
+				return;
+			}
+		}
+		evictExpired();
+	}
+	
+	public synchronized int size() {
+		return map.size();
+	}
+	
+	public synchronized long getBytes() {
+		return bytes;
+	}
+
+	public synchronized int getEvictions() {
+		return evictions;
+	}
+	
+	@Override
+	public synchronized int getCacheHits() {
+		return hits;
+	}
+
+	@Override
+	public synchronized int getCacheMisses() {
+		return misses;
+	}
+
+	@Override
+	public int getObjectCount() {
+		return size();
+	}
+
+	@Override
+	public int getStatisticsAccuracy() {
+		return STATISTICS_ACCURACY_GUARANTEED;
+	}
+
+	@Override
+	public synchronized void clearStatistics() {
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+
+	/**
+	 * Approximate value size in bytes.
+	 */
+	private static int estimateSize(Object value) {
+		if (value instanceof byte[]) {
+			return ((byte[])value).length;
+		}
+		if (value instanceof String) {
+			return ((String)value).length() * 2;
+		}
+		if (value instanceof PageCacheItem) {
+			return ((PageCacheItem)value).getSize();
+		}
+		if (value instanceof CacheItem) {
+			return ((CacheItem)value).getSize();
+		}
+		return DEFAULT_ITEM_SIZE;
+	}
+	
+}
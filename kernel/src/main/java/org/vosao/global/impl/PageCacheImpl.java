@@ -23,7 +23,13 @@
 package org.vosao.global.impl;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -34,6 +40,10 @@ import org.vosao.global.CacheService;
 import org.vosao.global.PageCache;
 import org.vosao.global.PageCacheItem;
 
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService.SetPolicy;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
 /**
  * 
  * @author Alexander Oleynik
@@ -43,10 +53,32 @@ public class PageCacheImpl implements PageCache {
 
 	private static final Log logger = LogFactory.getLog(PageCacheImpl.class);
 
+	/**
+	 * Refresh lock expires if background rendering fails.
+	 */
+	private static final int REFRESH_LOCK_SECONDS = 60;
+
 	private String getPageKey(String url, String language) {
 		return "page:" + url + ":" + language;
 	}
 	
+	private String getPageKey(String url, String language, 
+			String permissionClass) {
+		return getPageKey(url, language) + ":" + permissionClass;
+	}
+	
+	/**
+	 * Pages of permission classes can't be enumerated so they are removed 
+	 * by url reset date. Pages are valid only while reset date is present.
+	 */
+	private String getResetKey(String url) {
+		return "pageReset:" + url;
+	}
+	
+	private String getRefreshKey(String url, String language) {
+		return "pageRefresh:" + url + ":" + language;
+	}
+	
 	private CacheService getCache() {
 		return VosaoContext.getInstance().getBusiness().getSystemService()
 				.getCache();
@@ -75,6 +107,29 @@ public class PageCacheImpl implements PageCache {
 		return null;
 	}
 
+	@Override
+	public PageCacheItem get(String url, String language, 
+			String permissionClass) {
+		try {
+			PageCacheItem item = (PageCacheItem)getCache().get(getPageKey(url,
+					language, permissionClass));
+			if (item != null) {
+				Date resetDate = (Date)getCache().get(getResetKey(url));
+				if ((getCache().getResetDate() == null 
+						|| item.getTimestamp().after(getCache()
+								.getResetDate()))
+					&& resetDate != null 
+					&& item.getTimestamp().after(resetDate)) {
+					return item;
+				}
+			}
+		}
+		catch (Exception e) {
+			logger.error(e.getMessage());
+		}
+		return null;
+	}
+
 	@Override
 	public void put(String url, String language, String content,
 			String contentType) {
@@ -82,10 +137,100 @@ public class PageCacheImpl implements PageCache {
 				new PageCacheItem(content, contentType));
 	}
 
+	@Override
+	public void put(String url, String language, String permissionClass,
+			String content, String contentType) {
+		PageCacheItem item = new PageCacheItem(content, contentType);
+		Map<String, Object> seed = new HashMap<String, Object>();
+		seed.put(getResetKey(url), 
+				new Date(item.getTimestamp().getTime() - 1));
+		getCache().addAll(seed);
+		getCache().put(getPageKey(url, language, permissionClass), item);
+	}
+
 	@Override
 	public void remove(String url) {
+		remove(Collections.singletonList(url));
+	}
+
+	@Override
+	public void remove(Collection<String> urls) {
+		getCache().removeAll(getPageKeys(urls));
+		getCache().putAll(getResetDates(urls));
+	}
+
+	@Override
+	public void markStale(String url) {
+		markStale(Collections.singletonList(url));
+	}
+
+	@Override
+	public void markStale(Collection<String> urls) {
+		List<String> keys = getPageKeys(urls);
+		Map<String, Object> changed = new HashMap<String, Object>();
+		try {
+			Map cached = getCache().getAll(keys);
+			for (Object key : cached.keySet()) {
+				Object item = cached.get(key);
+				if (item instanceof PageCacheItem) {
+					changed.put((String)key, ((PageCacheItem)item).toStale());
+				}
+			}
+		}
+		catch (Exception e) {
+			logger.error(e.getMessage());
+			getCache().removeAll(keys);
+		}
+		changed.putAll(getResetDates(urls));
+		getCache().putAll(changed);
+	}
+
+	private List<String> getPageKeys(Collection<String> urls) {
+		List<String> keys = new ArrayList<String>();
 		for (LanguageEntity lang : getDao().getLanguageDao().select()) {
-			getCache().remove(getPageKey(url, lang.getCode()));		
+			for (String url : urls) {
+				keys.add(getPageKey(url, lang.getCode()));
+			}
+		}
+		return keys;
+	}
+
+	private Map<String, Object> getResetDates(Collection<String> urls) {
+		Map<String, Object> result = new HashMap<String, Object>();
+		Date now = new Date();
+		for (String url : urls) {
+			result.put(getResetKey(url), now);
+		}
+		return result;
+	}
+
+	@Override
+	public void evict(String url, String language) {
+		getCache().remove(getPageKey(url, language));
+	}
+
+	@Override
+	public boolean lockRefresh(String url, String language) {
+		try {
+			return MemcacheServiceFactory.getMemcacheService().put(
+					getRefreshKey(url, language), Boolean.TRUE, 
+					Expiration.byDeltaSeconds(REFRESH_LOCK_SECONDS), 
+					SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+		}
+		catch (Exception e) {
+			logger.error(e.getMessage());
+			return false;
+		}
+	}
+
+	@Override
+	public void unlockRefresh(String url, String language) {
+		try {
+			MemcacheServiceFactory.getMemcacheService().delete(
+					getRefreshKey(url, language));
+		}
+		catch (Exception e) {
+			logger.error(e.getMessage());
 		}
 	}
 
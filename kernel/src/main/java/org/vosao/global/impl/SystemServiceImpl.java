@@ -24,7 +24,9 @@ package org.vosao.global.impl;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -33,11 +35,15 @@ import javax.xml.transform.TransformerFactory;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
 import org.apache.velocity.app.VelocityEngine;
 import org.apache.velocity.exception.MethodInvocationException;
 import org.apache.velocity.exception.ParseErrorException;
 import org.apache.velocity.exception.ResourceNotFoundException;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.parser.ParseException;
+import org.apache.velocity.runtime.parser.node.SimpleNode;
 import org.vosao.bliki.VosaoWikiModel;
 import org.vosao.common.VosaoContext;
 import org.vosao.entity.PageEntity;
@@ -57,22 +63,36 @@ public class SystemServiceImpl implements SystemService, Serializable {
 
 	private static final Log log = LogFactory.getLog(SystemServiceImpl.class);
 
-	private CacheService cache;
-	private VelocityEngine velocityEngine;
+	private static final String VELOCITY_PROPERTIES = 
+			"WEB-INF/velocity.properties";
+	private static final String TEMPLATE_NAME = "vm";
+	private static final int TEMPLATE_CACHE_MAX_ENTRIES = 500;
+	private static final long TEMPLATE_CACHE_MAX_CHARS = 4000000;
+	
+	private volatile CacheService cache;
+	private volatile VelocityEngine velocityEngine;
+	private volatile RuntimeInstance velocityRuntime;
+	private VelocityTemplateCache templateCache;
 	private TransformerFactory xsltFactory;
 	private Map<String, Transformer> transformers;
-	private DatastoreService datastore;
-	private FileCache fileCache;	
-	private PageCache pageCache;
+	private volatile DatastoreService datastore;
+	private volatile FileCache fileCache;	
+	private volatile PageCache pageCache;
 	
 	public SystemServiceImpl() {
 		transformers = new HashMap<String, Transformer>();
+		templateCache = new VelocityTemplateCache(TEMPLATE_CACHE_MAX_ENTRIES,
+				TEMPLATE_CACHE_MAX_CHARS);
 	}
 	
 	@Override
 	public CacheService getCache() {
 		if (cache == null) {
-			cache = new CacheServiceImpl();
+			synchronized (this) {
+				if (cache == null) {
+					cache = new CacheServiceImpl();
+				}
+			}
 		}
 		return cache;
 	}
@@ -80,22 +100,52 @@ public class SystemServiceImpl implements SystemService, Serializable {
 	@Override
 	public VelocityEngine getVelocityEngine() {
 		if (velocityEngine == null) {
-	        try {
-	            velocityEngine = new VelocityEngine("WEB-INF/velocity.properties");
-				velocityEngine.init();
-			} catch (Exception e) {
-	            log.error("Can't init velocity engine. " + e.getMessage());
+			synchronized (this) {
+				if (velocityEngine == null) {
+			        try {
+			        	VelocityEngine engine = new VelocityEngine(
+			        			VELOCITY_PROPERTIES);
+			        	engine.init();
+			        	velocityEngine = engine;
+					} catch (Exception e) {
+			            log.error("Can't init velocity engine. " 
+			            		+ e.getMessage());
+					}
+				}
 			}
 		}
 		return velocityEngine;
 	}
 
+	private RuntimeInstance getVelocityRuntime() {
+		if (velocityRuntime == null) {
+			synchronized (this) {
+				if (velocityRuntime == null) {
+					try {
+						RuntimeInstance runtime = new RuntimeInstance();
+						runtime.init(VELOCITY_PROPERTIES);
+						velocityRuntime = runtime;
+					} catch (Exception e) {
+			            log.error("Can't init velocity runtime. " 
+			            		+ e.getMessage());
+					}
+				}
+			}
+		}
+		return velocityRuntime;
+	}
+
 	@Override
 	public String render(String template, VelocityContext context) {
+		return render(null, template, context);
+	}
+
+	@Override
+	public String render(String key, String template, 
+			VelocityContext context) {
 		StringWriter wr = new StringWriter();
-		String log = "vm";
 		try {
-			getVelocityEngine().evaluate(context, wr, log, template);
+			getTemplate(key, template).merge(context, wr);
 			return wr.toString();
 		} catch (ParseErrorException e) {
 			return e.toString();
@@ -103,11 +153,63 @@ public class SystemServiceImpl implements SystemService, Serializable {
 			return e.toString();
 		} catch (ResourceNotFoundException e) {
 			return e.toString();
-		} catch (IOException e) {
+		} catch (Exception e) {
 			return e.toString();
 		}
 	}
 
+	@Override
+	public void render(String key, String template, VelocityContext context,
+			Writer out) throws IOException {
+		try {
+			getTemplate(key, template).merge(context, out);
+		} catch (IOException e) {
+			throw e;
+		} catch (Exception e) {
+			out.write(e.toString());
+		}
+	}
+
+	/**
+	 * Get parsed template from cache or parse it. Templates with inline 
+	 * macro definitions are parsed on every call because parsing registers 
+	 * macros globally.
+	 */
+	private Template getTemplate(String key, String source) 
+			throws Exception {
+		String cacheKey = key == null ? "vm:" + source.hashCode() : key;
+		Template template = templateCache.get(cacheKey, source);
+		if (template == null) {
+			template = parseTemplate(source);
+			if (source.indexOf("#macro") == -1) {
+				templateCache.put(cacheKey, source, template);
+			}
+		}
+		return template;
+	}
+	
+	private Template parseTemplate(String source) throws Exception {
+		SimpleNode node;
+		try {
+			node = getVelocityRuntime().parse(new StringReader(source), 
+					TEMPLATE_NAME);
+		}
+		catch (ParseException e) {
+			throw new ParseErrorException(e);
+		}
+		Template template = new Template();
+		template.setRuntimeServices(getVelocityRuntime());
+		template.setName(TEMPLATE_NAME);
+		template.setData(node);
+		template.initDocument();
+		return template;
+	}
+
+	@Override
+	public void removeTemplate(String key) {
+		templateCache.remove(key);
+	}
+
 	@Override
 	public Transformer getTransformer(String template) {
 		/*String key = String.valueOf(template.hashCode());
@@ -0,0 +1,108 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.global.impl;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+import org.apache.velocity.Template;
+
+/**
+ * Instance local cache of parsed velocity templates. Templates are bounded 
+ * by count and by total source length and evicted in LRU order. Every 
+ * cached template keeps its source so changed template text is never 
+ * rendered from stale parsed tree. All methods are thread safe.
+ */
+public class VelocityTemplateCache {
+
+	private static class CompiledTemplate {
+		
+		private String source;
+		private Template template;
+		
+		public CompiledTemplate(String source, Template template) {
+			this.source = source;
+			this.template = template;
+		}
+	}
+	
+	private final LinkedHashMap<String, CompiledTemplate> map;
+	private final int maxEntries;
+	private final long maxChars;
+	private long chars;
+	
+	public VelocityTemplateCache(int maxEntries, long maxChars) {
+		this.maxEntries = maxEntries;
+		this.maxChars = maxChars;
+		map = new LinkedHashMap<String, CompiledTemplate>(16, 0.75f, true);
+	}
+	
+	/**
+	 * Find parsed template. 
+	 * @param key - template cache key.
+	 * @param source - current template text.
+	 * @return null if template is not cached or was parsed from other text.
+	 */
+	public synchronized Template get(String key, String source) {
+		CompiledTemplate compiled = map.get(key);
+		if (compiled == null) {
+			return null;
+		}
+		if (compiled.source != source && !compiled.source.equals(source)) {
+			remove(key);
+			return null;
+		}
+		return compiled.template;
+	}
+	
+	public synchronized void put(String key, String source, 
+			Template template) {
+		if (source.length() > maxChars) {
+			return;
+		}
+		remove(key);
+		map.put(key, new CompiledTemplate(source, template));
+		chars += source.length();
+		Iterator<CompiledTemplate> i = map.values().iterator();
+		while ((map.size() > maxEntries || chars > maxChars) && i.hasNext()) {
+			chars -= i.next().source.length();
+			i.remove();
+		}
+	}
+	
+	public synchronized void remove(String key) {
+		CompiledTemplate compiled = map.remove(key);
+		if (compiled != null) {
+			chars -= compiled.source.length();
+		}
+	}
+	
+	public synchronized void clear() {
+		map.clear();
+		chars = 0;
+	}
+
+	public synchronized int size() {
+		return map.size();
+	}
+}
@@ -0,0 +1,721 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.search.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * Immutable compact search index segment. Terms are kept sorted in one array 
+ * and every term has sorted array of page ids with term frequencies, so 
+ * lookup is a binary search and nothing is boxed. For every indexed page 
+ * segment keeps page length in words, page url used to filter results 
+ * without loading pages and beginning of page text used for search result 
+ * snippets.
+ * 
+ * Index consists of base segment and delta segments applied in order. Delta 
+ * segment has tombstones - ids of pages which postings in all older segments 
+ * are superseded by this segment.
+ * 
+ * Binary format (version 4):
+ * <pre>
+ * "VSIX" version termsCount 
+ *     { sharedPrefixLength suffixLength suffixUTF8 
+ *       postingsCount { idDelta frequency } ... } 
+ *     pagesCount { idDelta length urlLength urlUTF8 textLength textUTF8 } ...
+ *     tombstonesCount firstId delta delta ...
+ * </pre>
+ * All numbers except version byte are unsigned varints. Term is front coded 
+ * against previous term, page ids are delta coded. Version 1 has only terms 
+ * without frequencies, version 2 adds tombstones, version 3 adds pages 
+ * without urls.
+ */
+public class IndexSegment {
+
+	private static final byte[] MAGIC = {'V', 'S', 'I', 'X'};
+	private static final int VERSION = 4;
+	
+	/**
+	 * Stored page text size in chars.
+	 */
+	public static final int TEXT_SIZE = 512;
+	
+	/**
+	 * BM25 parameters.
+	 */
+	private static final double K1 = 1.2;
+	private static final double B = 0.75;
+	
+	private static final long[] NO_PAGES = new long[0];
+	private static final int[] NO_FREQS = new int[0];
+	
+	public static final IndexSegment EMPTY = new IndexSegment(new String[0], 
+			new long[0][], new int[0][], NO_PAGES, NO_FREQS, new String[0], 
+			new String[0], NO_PAGES);
+
+	private final String[] terms;
+	private final long[][] postings;
+	private final int[][] freqs;
+	private final long[] pageIds;
+	private final int[] pageLengths;
+	private final String[] pageUrls;
+	private final String[] pageTexts;
+	private final long[] deleted;
+	private final long totalLength;
+	
+	private IndexSegment(String[] terms, long[][] postings, int[][] freqs,
+			long[] pageIds, int[] pageLengths, String[] pageUrls, 
+			String[] pageTexts, long[] deleted) {
+		this.terms = terms;
+		this.postings = postings;
+		this.freqs = freqs;
+		this.pageIds = pageIds;
+		this.pageLengths = pageLengths;
+		this.pageUrls = pageUrls;
+		this.pageTexts = pageTexts;
+		this.deleted = deleted;
+		long length = 0;
+		for (int pageLength : pageLengths) {
+			length += pageLength;
+		}
+		totalLength = length;
+	}
+
+	/**
+	 * Sorted page ids for term. Returned array must not be modified.
+	 */
+	public long[] getPages(String term) {
+		int i = Arrays.binarySearch(terms, term);
+		return i < 0 ? NO_PAGES : postings[i];
+	}
+	
+	/**
+	 * Term frequencies in pages returned by getPages(term). Returned array 
+	 * must not be modified.
+	 */
+	public int[] getFrequencies(String term) {
+		int i = Arrays.binarySearch(terms, term);
+		return i < 0 ? NO_FREQS : freqs[i];
+	}
+	
+	public boolean containsTerm(String term) {
+		return Arrays.binarySearch(terms, term) >= 0;
+	}
+	
+	public int getTermsCount() {
+		return terms.length;
+	}
+	
+	/**
+	 * Number of pages with stored length and text.
+	 */
+	public int getPagesCount() {
+		return pageIds.length;
+	}
+	
+	public long getTotalLength() {
+		return totalLength;
+	}
+	
+	/**
+	 * Page length in words or -1 if page length is not stored.
+	 */
+	public int getPageLength(long pageId) {
+		int i = Arrays.binarySearch(pageIds, pageId);
+		return i < 0 ? -1 : pageLengths[i];
+	}
+
+	/**
+	 * Stored page url or null if page url is not stored.
+	 */
+	public String getPageUrl(long pageId) {
+		int i = Arrays.binarySearch(pageIds, pageId);
+		return i < 0 || pageUrls[i].length() == 0 ? null : pageUrls[i];
+	}
+
+	/**
+	 * Stored beginning of page text or null if page text is not stored.
+	 */
+	public String getPageText(long pageId) {
+		int i = Arrays.binarySearch(pageIds, pageId);
+		return i < 0 ? null : pageTexts[i];
+	}
+	
+	/**
+	 * Sorted tombstone page ids. Returned array must not be modified.
+	 */
+	public long[] getDeleted() {
+		return deleted;
+	}
+	
+	public boolean isEmpty() {
+		return terms.length == 0 && pageIds.length == 0 
+				&& deleted.length == 0;
+	}
+
+	/**
+	 * Find pages containing all terms and score them with BM25. Pages without 
+	 * stored length are scored as pages of average length.
+	 */
+	public List<ScoredPage> score(Collection<String> queryTerms) {
+		List<ScoredPage> result = new ArrayList<ScoredPage>();
+		if (queryTerms.isEmpty()) {
+			return result;
+		}
+		int[] indexes = new int[queryTerms.size()];
+		long[] candidates = null;
+		int n = 0;
+		for (String term : queryTerms) {
+			int i = Arrays.binarySearch(terms, term);
+			if (i < 0) {
+				return result;
+			}
+			indexes[n++] = i;
+			candidates = candidates == null ? postings[i] 
+					: intersect(candidates, postings[i]);
+		}
+		double averageLength = pageIds.length == 0 ? 1 
+				: Math.max(1.0, (double) totalLength / pageIds.length);
+		double[] idf = new double[indexes.length];
+		for (int t = 0; t < indexes.length; t++) {
+			int df = postings[indexes[t]].length;
+			double count = Math.max(pageIds.length, df);
+			idf[t] = Math.log(1 + (count - df + 0.5) / (df + 0.5));
+		}
+		for (long pageId : candidates) {
+			int length = getPageLength(pageId);
+			double norm = K1 * (1 - B + B * (length < 0 ? averageLength 
+					: length) / averageLength);
+			double score = 0;
+			for (int t = 0; t < indexes.length; t++) {
+				int i = indexes[t];
+				double tf = freqs[i][Arrays.binarySearch(postings[i], pageId)];
+				score += idf[t] * tf * (K1 + 1) / (tf + norm);
+			}
+			result.add(new ScoredPage(pageId, score));
+		}
+		return result;
+	}
+	
+	/**
+	 * Create new segment without given pages.
+	 * @param ids - sorted page ids to remove.
+	 */
+	public IndexSegment remove(long[] ids) {
+		if (ids.length == 0) {
+			return this;
+		}
+		return merge(EMPTY, ids, deleted);
+	}
+	
+	/**
+	 * Create new segment without given pages which also supersedes these 
+	 * pages in all older segments.
+	 * @param ids - sorted page ids to delete.
+	 */
+	public IndexSegment delete(long[] ids) {
+		return merge(EMPTY, ids, union(deleted, ids));
+	}
+	
+	/**
+	 * Create new segment with page replaced by given page terms.
+	 * @param termFreqs - page terms with frequencies.
+	 * @param length - page length in words.
+	 * @param url - page friendly url.
+	 * @param text - beginning of page text, truncated to TEXT_SIZE.
+	 */
+	public IndexSegment add(long pageId, Map<String, Integer> termFreqs, 
+			int length, String url, String text) {
+		Map<String, Integer> sorted = new TreeMap<String, Integer>(termFreqs);
+		String[] pageTerms = sorted.keySet().toArray(new String[sorted.size()]);
+		long[][] pagePostings = new long[pageTerms.length][];
+		int[][] pageFreqs = new int[pageTerms.length][];
+		for (int i = 0; i < pageTerms.length; i++) {
+			pagePostings[i] = new long[] {pageId};
+			pageFreqs[i] = new int[] {sorted.get(pageTerms[i])};
+		}
+		IndexSegment page = new IndexSegment(pageTerms, pagePostings, 
+				pageFreqs, new long[] {pageId}, new int[] {length}, 
+				new String[] {url == null ? "" : url}, 
+				new String[] {truncate(text)}, NO_PAGES);
+		return merge(page, new long[] {pageId}, deleted);
+	}
+	
+	/**
+	 * Merge newer segment into this one. Result is equivalent to applying 
+	 * this segment and then newer one.
+	 */
+	public IndexSegment merge(IndexSegment newer) {
+		return merge(newer, newer.deleted, union(deleted, newer.deleted));
+	}
+	
+	/**
+	 * Remove pages from this segment and then add all pages of newer 
+	 * segment.
+	 */
+	private IndexSegment merge(IndexSegment newer, long[] removed, 
+			long[] newDeleted) {
+		List<String> newTerms = new ArrayList<String>(terms.length 
+				+ newer.terms.length);
+		List<long[]> newPostings = new ArrayList<long[]>(terms.length 
+				+ newer.terms.length);
+		List<int[]> newFreqs = new ArrayList<int[]>(terms.length 
+				+ newer.terms.length);
+		PostingsBuffer buffer = new PostingsBuffer();
+		int i = 0, j = 0;
+		while (i < terms.length || j < newer.terms.length) {
+			int cmp = i >= terms.length ? 1 : j >= newer.terms.length ? -1 
+					: terms[i].compareTo(newer.terms[j]);
+			String term = cmp <= 0 ? terms[i] : newer.terms[j];
+			long[] pages1 = cmp <= 0 ? postings[i] : NO_PAGES;
+			int[] freqs1 = cmp <= 0 ? freqs[i++] : NO_FREQS;
+			long[] pages2 = cmp >= 0 ? newer.postings[j] : NO_PAGES;
+			int[] freqs2 = cmp >= 0 ? newer.freqs[j++] : NO_FREQS;
+			buffer.merge(pages1, freqs1, removed, pages2, freqs2);
+			if (buffer.size > 0) {
+				newTerms.add(term);
+				newPostings.add(Arrays.copyOf(buffer.pages, buffer.size));
+				newFreqs.add(Arrays.copyOf(buffer.freqs, buffer.size));
+			}
+		}
+		
+		int size = pageIds.length + newer.pageIds.length;
+		long[] ids = new long[size];
+		int[] lengths = new int[size];
+		String[] urls = new String[size];
+		String[] texts = new String[size];
+		int n = 0, k = 0;
+		i = 0; 
+		j = 0;
+		while (i < pageIds.length || j < newer.pageIds.length) {
+			if (j >= newer.pageIds.length || (i < pageIds.length 
+					&& pageIds[i] < newer.pageIds[j])) {
+				while (k < removed.length && removed[k] < pageIds[i]) {
+					k++;
+				}
+				if (k >= removed.length || removed[k] != pageIds[i]) {
+					ids[n] = pageIds[i];
+					lengths[n] = pageLengths[i];
+					urls[n] = pageUrls[i];
+					texts[n++] = pageTexts[i];
+				}
+				i++;
+			}
+			else {
+				if (i < pageIds.length && pageIds[i] == newer.pageIds[j]) {
+					i++;
+				}
+				ids[n] = newer.pageIds[j];
+				lengths[n] = newer.pageLengths[j];
+				urls[n] = newer.pageUrls[j];
+				texts[n++] = newer.pageTexts[j++];
+			}
+		}
+		return new IndexSegment(newTerms.toArray(new String[newTerms.size()]),
+				newPostings.toArray(new long[newPostings.size()][]),
+				newFreqs.toArray(new int[newFreqs.size()][]),
+				Arrays.copyOf(ids, n), Arrays.copyOf(lengths, n), 
+				Arrays.copyOf(urls, n), Arrays.copyOf(texts, n), newDeleted);
+	}
+	
+	/**
+	 * Same segment without tombstones. Used for base segment which has no 
+	 * older segments.
+	 */
+	public IndexSegment withoutDeleted() {
+		return deleted.length == 0 ? this : new IndexSegment(terms, postings, 
+				freqs, pageIds, pageLengths, pageUrls, pageTexts, NO_PAGES);
+	}
+	
+	public byte[] toBytes() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(
+				64 + terms.length * 16 + pageIds.length * TEXT_SIZE / 2);
+		out.write(MAGIC, 0, MAGIC.length);
+		out.write(VERSION);
+		writeVarint(out, terms.length);
+		byte[] prev = new byte[0];
+		for (int i = 0; i < terms.length; i++) {
+			byte[] term = utf8(terms[i]);
+			int shared = 0;
+			int max = Math.min(prev.length, term.length);
+			while (shared < max && prev[shared] == term[shared]) {
+				shared++;
+			}
+			writeVarint(out, shared);
+			writeVarint(out, term.length - shared);
+			out.write(term, shared, term.length - shared);
+			writeVarint(out, postings[i].length);
+			long last = 0;
+			for (int j = 0; j < postings[i].length; j++) {
+				writeVarint(out, postings[i][j] - last);
+				writeVarint(out, freqs[i][j]);
+				last = postings[i][j];
+			}
+			prev = term;
+		}
+		writeVarint(out, pageIds.length);
+		long last = 0;
+		for (int i = 0; i < pageIds.length; i++) {
+			writeVarint(out, pageIds[i] - last);
+			writeVarint(out, pageLengths[i]);
+			byte[] url = utf8(pageUrls[i]);
+			writeVarint(out, url.length);
+			out.write(url, 0, url.length);
+			byte[] text = utf8(pageTexts[i]);
+			writeVarint(out, text.length);
+			out.write(text, 0, text.length);
+			last = pageIds[i];
+		}
+		writePages(out, deleted);
+		return out.toByteArray();
+	}
+	
+	/**
+	 * Check if data starts with segment format signature.
+	 */
+	public static boolean isSegment(byte[] data) {
+		if (data == null || data.length < MAGIC.length + 1) {
+			return false;
+		}
+		for (int i = 0; i < MAGIC.length; i++) {
+			if (data[i] != MAGIC[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	public static IndexSegment fromBytes(byte[] data) throws IOException {
+		if (!isSegment(data)) {
+			throw new IOException("Not a search index segment.");
+		}
+		int version = data[MAGIC.length];
+		if (version < 1 || version > VERSION) {
+			throw new IOException("Unsupported search index version " 
+					+ version);
+		}
+		Reader in = new Reader(data, MAGIC.length + 1);
+		int count = in.readInt();
+		String[] terms = new String[count];
+		long[][] postings = new long[count][];
+		int[][] freqs = new int[count][];
+		byte[] term = new byte[64];
+		for (int i = 0; i < count; i++) {
+			int shared = in.readInt();
+			int suffix = in.readInt();
+			if (shared + suffix > term.length) {
+				term = Arrays.copyOf(term, Math.max(shared + suffix, 
+						term.length * 2));
+			}
+			in.readBytes(term, shared, suffix);
+			terms[i] = new String(term, 0, shared + suffix, "UTF-8");
+			if (version < 3) {
+				postings[i] = in.readPages();
+				freqs[i] = new int[postings[i].length];
+				Arrays.fill(freqs[i], 1);
+				continue;
+			}
+			postings[i] = new long[in.readInt()];
+			freqs[i] = new int[postings[i].length];
+			long last = 0;
+			for (int j = 0; j < postings[i].length; j++) {
+				last += in.readLong();
+				postings[i][j] = last;
+				freqs[i][j] = in.readInt();
+			}
+		}
+		long[] pageIds = NO_PAGES;
+		int[] pageLengths = NO_FREQS;
+		String[] pageUrls = new String[0];
+		String[] pageTexts = new String[0];
+		if (version >= 3) {
+			pageIds = new long[in.readInt()];
+			pageLengths = new int[pageIds.length];
+			pageUrls = new String[pageIds.length];
+			pageTexts = new String[pageIds.length];
+			long last = 0;
+			byte[] text = new byte[TEXT_SIZE];
+			for (int i = 0; i < pageIds.length; i++) {
+				last += in.readLong();
+				pageIds[i] = last;
+				pageLengths[i] = in.readInt();
+				pageUrls[i] = version >= 4 ? in.readString() : "";
+				int length = in.readInt();
+				if (length > text.length) {
+					text = new byte[length];
+				}
+				in.readBytes(text, 0, length);
+				pageTexts[i] = new String(text, 0, length, "UTF-8");
+			}
+		}
+		long[] deleted = version > 1 ? in.readPages() : NO_PAGES;
+		return new IndexSegment(terms, postings, freqs, pageIds, pageLengths,
+				pageUrls, pageTexts, deleted);
+	}
+	
+	/**
+	 * Build segment from word=id,id:word=id,... string used by previous 
+	 * index file format.
+	 */
+	public static IndexSegment fromLegacyString(String data) {
+		if (StringUtils.isEmpty(data)) {
+			return EMPTY;
+		}
+		Map<String, long[]> map = new TreeMap<String, long[]>();
+		for (String wordBuf : data.split("\\:")) {
+			String[] wordStruc = wordBuf.split("\\=");
+			if (wordStruc.length != 2 ) {
+				continue;
+			}
+			String[] keys = wordStruc[1].split(",");
+			long[] pages = new long[keys.length];
+			for (int i = 0; i < keys.length; i++) {
+				pages[i] = Long.parseLong(keys[i]);
+			}
+			Arrays.sort(pages);
+			long[] old = map.get(wordStruc[0]);
+			map.put(wordStruc[0], old == null ? unique(pages) 
+					: union(old, pages));
+		}
+		int[][] freqs = new int[map.size()][];
+		int i = 0;
+		for (long[] pages : map.values()) {
+			freqs[i] = new int[pages.length];
+			Arrays.fill(freqs[i++], 1);
+		}
+		return new IndexSegment(map.keySet().toArray(new String[map.size()]),
+				map.values().toArray(new long[map.size()][]), freqs, 
+				NO_PAGES, NO_FREQS, new String[0], new String[0], NO_PAGES);
+	}
+	
+	/**
+	 * Intersection of two sorted arrays.
+	 */
+	public static long[] intersect(long[] a, long[] b) {
+		long[] result = new long[Math.min(a.length, b.length)];
+		int i = 0, j = 0, n = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j]) {
+				i++;
+			}
+			else if (a[i] > b[j]) {
+				j++;
+			}
+			else {
+				result[n++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return n == result.length ? result : Arrays.copyOf(result, n);
+	}
+
+	/**
+	 * Union of two sorted arrays.
+	 */
+	public static long[] union(long[] a, long[] b) {
+		if (b.length == 0) {
+			return a;
+		}
+		if (a.length == 0) {
+			return b;
+		}
+		long[] result = new long[a.length + b.length];
+		int i = 0, j = 0, n = 0;
+		while (i < a.length || j < b.length) {
+			long v;
+			if (j >= b.length || (i < a.length && a[i] < b[j])) {
+				v = a[i++];
+			}
+			else if (i >= a.length || b[j] < a[i]) {
+				v = b[j++];
+			}
+			else {
+				v = a[i++];
+				j++;
+			}
+			result[n++] = v;
+		}
+		return n == result.length ? result : Arrays.copyOf(result, n);
+	}
+
+	private static long[] unique(long[] sorted) {
+		long[] result = new long[sorted.length];
+		int n = 0;
+		for (long v : sorted) {
+			if (n == 0 || result[n - 1] != v) {
+				result[n++] = v;
+			}
+		}
+		return n == result.length ? result : Arrays.copyOf(result, n);
+	}
+	
+	private static String truncate(String text) {
+		if (text == null) {
+			return "";
+		}
+		return text.length() > TEXT_SIZE ? text.substring(0, TEXT_SIZE) 
+				: text;
+	}
+	
+	private static byte[] utf8(String s) {
+		try {
+			return s.getBytes("UTF-8");
+		}
+		catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static void writePages(ByteArrayOutputStream out, long[] pages) {
+		writeVarint(out, pages.length);
+		long last = 0;
+		for (long id : pages) {
+			writeVarint(out, id - last);
+			last = id;
+		}
+	}
+	
+	private static void writeVarint(ByteArrayOutputStream out, long value) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	private static class PostingsBuffer {
+		
+		private long[] pages = new long[16];
+		private int[] freqs = new int[16];
+		private int size;
+		
+		/**
+		 * Merge postings into buffer. Pages from removed are skipped in first 
+		 * postings, pages present in both postings take frequency from 
+		 * second one.
+		 */
+		public void merge(long[] pages1, int[] freqs1, long[] removed, 
+				long[] pages2, int[] freqs2) {
+			int capacity = pages1.length + pages2.length;
+			if (pages.length < capacity) {
+				pages = new long[Math.max(capacity, pages.length * 2)];
+				freqs = new int[pages.length];
+			}
+			int i = 0, j = 0, k = 0;
+			size = 0;
+			while (i < pages1.length || j < pages2.length) {
+				if (j >= pages2.length || (i < pages1.length 
+						&& pages1[i] < pages2[j])) {
+					while (k < removed.length && removed[k] < pages1[i]) {
+						k++;
+					}
+					if (k >= removed.length || removed[k] != pages1[i]) {
+						pages[size] = pages1[i];
+						freqs[size++] = freqs1[i];
+					}
+					i++;
+				}
+				else {
+					if (i < pages1.length && pages1[i] == pages2[j]) {
+						i++;
+					}
+					pages[size] = pages2[j];
+					freqs[size++] = freqs2[j++];
+				}
+			}
+		}
+	}
+	
+	private static class Reader {
+		
+		private final byte[] data;
+		private int pos;
+		
+		public Reader(byte[] data, int pos) {
+			this.data = data;
+			this.pos = pos;
+		}
+		
+		public long readLong() throws IOException {
+			long result = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				if (pos >= data.length) {
+					throw new IOException("Truncated search index segment.");
+				}
+				byte b = data[pos++];
+				result |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return result;
+				}
+			}
+			throw new IOException("Malformed search index segment.");
+		}
+		
+		public int readInt() throws IOException {
+			long value = readLong();
+			if (value < 0 || value > Integer.MAX_VALUE) {
+				throw new IOException("Malformed search index segment.");
+			}
+			return (int) value;
+		}
+		
+		public long[] readPages() throws IOException {
+			long[] pages = new long[readInt()];
+			long last = 0;
+			for (int j = 0; j < pages.length; j++) {
+				last += readLong();
+				pages[j] = last;
+			}
+			return pages;
+		}
+		
+		public String readString() throws IOException {
+			int length = readInt();
+			if (pos + length > data.length) {
+				throw new IOException("Truncated search index segment.");
+			}
+			String result = new String(data, pos, length, "UTF-8");
+			pos += length;
+			return result;
+		}
+		
+		public void readBytes(byte[] dest, int offset, int length) 
+				throws IOException {
+			if (pos + length > data.length) {
+				throw new IOException("Truncated search index segment.");
+			}
+			System.arraycopy(data, pos, dest, offset, length);
+			pos += length;
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.search.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+import org.vosao.entity.PageEntity;
+
+/**
+ * Search result page id with relevance score. Page entity is set when it was 
+ * loaded during search.
+ */
+public class ScoredPage {
+
+	/**
+	 * Most relevant pages first.
+	 */
+	public static final Comparator<ScoredPage> RELEVANCE = 
+		new Comparator<ScoredPage>() {
+			@Override
+			public int compare(ScoredPage o1, ScoredPage o2) {
+				if (o1.score != o2.score) {
+					return o1.score > o2.score ? -1 : 1;
+				}
+				return o1.pageId < o2.pageId ? -1 
+						: o1.pageId == o2.pageId ? 0 : 1;
+			}
+		};
+
+	private static final Comparator<ScoredPage> REVERSE_RELEVANCE = 
+		Collections.reverseOrder(RELEVANCE);
+	
+	private final long pageId;
+	private final double score;
+	private PageEntity page;
+	
+	public ScoredPage(long pageId, double score) {
+		this.pageId = pageId;
+		this.score = score;
+	}
+
+	public long getPageId() {
+		return pageId;
+	}
+
+	public double getScore() {
+		return score;
+	}
+
+	public PageEntity getPage() {
+		return page;
+	}
+
+	public void setPage(PageEntity page) {
+		this.page = page;
+	}
+	
+	/**
+	 * Select count most relevant pages with bounded heap.
+	 * @return selected pages sorted by relevance.
+	 */
+	public static List<ScoredPage> top(List<ScoredPage> pages, int count) {
+		if (count <= 0) {
+			return new ArrayList<ScoredPage>();
+		}
+		if (count >= pages.size()) {
+			List<ScoredPage> result = new ArrayList<ScoredPage>(pages);
+			Collections.sort(result, RELEVANCE);
+			return result;
+		}
+		PriorityQueue<ScoredPage> heap = new PriorityQueue<ScoredPage>(
+				count + 1, REVERSE_RELEVANCE);
+		for (ScoredPage page : pages) {
+			if (heap.size() < count) {
+				heap.add(page);
+			}
+			else if (RELEVANCE.compare(page, heap.peek()) < 0) {
+				heap.poll();
+				heap.add(page);
+			}
+		}
+		List<ScoredPage> result = new ArrayList<ScoredPage>(heap);
+		Collections.sort(result, RELEVANCE);
+		return result;
+	}
+	
+}
@@ -37,7 +37,6 @@ import org.vosao.dao.Dao;
 import org.vosao.entity.LanguageEntity;
 import org.vosao.entity.PageEntity;
 import org.vosao.entity.helper.PageHelper;
-import org.vosao.search.Hit;
 import org.vosao.search.SearchEngine;
 import org.vosao.search.SearchIndex;
 import org.vosao.search.SearchResult;
@@ -58,7 +57,7 @@ public class SearchEngineImpl implements SearchEngine {
 
 	private Map<String, SearchIndex> indexes;
 
-	private SearchIndex getSearchIndex(String language) {
+	private synchronized SearchIndex getSearchIndex(String language) {
 		if (indexes == null) {
 			indexes = new HashMap<String, SearchIndex>();
 		}
@@ -88,34 +87,26 @@ public class SearchEngineImpl implements SearchEngine {
 		
 		logger.info("into engine.search : language = " + language);
 		
-		List<Hit> hits = getSearchIndex(language).search(filter, query, textSize);
+		SearchResult result = getSearchIndex(language).search(filter, query, 
+				start, count, textSize);
 		
-		// Search in all other languages for all results
+		// Search in all other languages, their hits follow language hits
 		for (LanguageEntity lang : getDao().getLanguageDao().select()) {
 			if (!lang.getCode().equals(language)) {
 				
 				logger.info("Searching in " + lang.getCode());
 				
-				hits.addAll(getSearchIndex(lang.getCode()).search(filter, query, 
-						textSize));
+				int langStart = Math.max(start - result.getCount(), 0);
+				int langCount = count == -1 ? -1 
+						: count - result.getHits().size();
+				SearchResult langResult = getSearchIndex(lang.getCode())
+						.search(filter, query, langStart, langCount, textSize);
+				result.setCount(result.getCount() + langResult.getCount());
+				result.getHits().addAll(langResult.getHits());
 			}
 		}
-		// paginate result and return
-		SearchResult result = new SearchResult();
-		
-		logger.info("Number of hits = " + hits.size());
-		result.setCount(hits.size());
-		
-		int startIndex = start < hits.size() ? start : hits.size();
-		int endIndex = startIndex + count;
-		if (count == -1) {
-			endIndex = hits.size();
-		}
-		if (endIndex > hits.size()) {
-			endIndex = hits.size();
-		}
-		result.setHits(ListUtil.slice(hits, startIndex, count));
 		
+		logger.info("Number of hits = " + result.getCount());
 		logger.info("out of engine.search");
 		return result;
 	}
@@ -179,6 +170,11 @@ public class SearchEngineImpl implements SearchEngine {
 		}
 	}
 	
+	@Override
+	public void compactIndex(String language) throws IOException {
+		getSearchIndex(language).compact();
+	}
+	
 	private Business getBusiness() {
 		return VosaoContext.getInstance().getBusiness();
 	}
@@ -22,34 +22,44 @@
 
 package org.vosao.search.impl;
 
-import java.text.Collator;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
 import java.io.IOException;
 
-import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.vosao.business.Business;
+import org.vosao.business.mq.QueueSpeed;
+import org.vosao.business.mq.Topic;
+import org.vosao.business.mq.message.SimpleMessage;
 import org.vosao.common.VosaoContext;
 import org.vosao.dao.Dao;
 import org.vosao.entity.ContentEntity;
 import org.vosao.entity.FileEntity;
+import org.vosao.entity.FolderEntity;
 import org.vosao.entity.PageEntity;
 import org.vosao.search.Hit;
 import org.vosao.search.SearchIndex;
+import org.vosao.search.SearchResult;
 import org.vosao.search.SearchResultFilter;
+import org.vosao.search.UrlSearchResultFilter;
 import org.vosao.utils.StrUtil;
 import org.vosao.utils.StreamUtil;
 
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheService.SetPolicy;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
 public class SearchIndexImpl implements SearchIndex {
 
 	private static final Log logger = LogFactory.getLog(
@@ -57,9 +67,62 @@ public class SearchIndexImpl implements SearchIndex {
 
 	private static final String INDEX_MOD_DATE = "IndexModDate";
 
+	private static final String COMPACT_LOCK = "IndexCompactLock";
+	
+	private static final String COMPACT_PENDING = "IndexCompactPending";
+	
+	/**
+	 * Compaction lock and pending flag expire if compaction task fails.
+	 */
+	private static final int COMPACT_LOCK_SECONDS = 600;
+
+	private static final String INDEX_FOLDER = "/tmp";
+	
+	/**
+	 * Delta segments count which triggers background compaction.
+	 */
+	private static final int MAX_SEGMENTS = 8;
+
+	private static final Comparator<FileEntity> FILENAME_ORDER = 
+		new Comparator<FileEntity>() {
+			@Override
+			public int compare(FileEntity o1, FileEntity o2) {
+				return o1.getFilename().compareTo(o2.getFilename());
+			}
+		};
+	
 	private String language;
-	private Map<String, Set<Long>> index;
 	private Date indexModDate;
+	
+	/**
+	 * Compacted index segment and its file modification date.
+	 */
+	private IndexSegment base;
+	private Date baseModDate;
+	
+	/**
+	 * Saved delta segments in order of creation with their file names.
+	 */
+	private List<IndexSegment> deltas = new ArrayList<IndexSegment>();
+	private List<String> deltaNames = new ArrayList<String>();
+	
+	/**
+	 * Not saved yet changes.
+	 */
+	private IndexSegment pending = IndexSegment.EMPTY;
+	private boolean cleared;
+	
+	/**
+	 * Delta segments saved before clear(). Segments saved later by other 
+	 * instances are kept on top of new base.
+	 */
+	private List<String> clearedNames = new ArrayList<String>();
+	
+	/**
+	 * All segments merged for searching. Created on first search after 
+	 * index change.
+	 */
+	private IndexSegment view;
 
 	public SearchIndexImpl(String aLanguage) {
 		
@@ -74,7 +137,7 @@ public class SearchIndexImpl implements SearchIndex {
 	}
 	
 	@Override
-	public void updateIndex(Long pageId) throws IOException {
+	public synchronized void updateIndex(Long pageId) throws IOException {
 		PageEntity page = getDao().getPageDao().getById(pageId);
 		if (page == null) {
 			return;
@@ -82,9 +145,13 @@ public class SearchIndexImpl implements SearchIndex {
 		refreshIndex();
 		List<PageEntity> versions = getDao().getPageDao().selectByUrl(
 				page.getFriendlyURL());
-		for (PageEntity version : versions) {
-			removeFromIndex(version.getId());
+		long[] versionIds = new long[versions.size()];
+		for (int i = 0; i < versionIds.length; i++) {
+			versionIds[i] = versions.get(i).getId();
 		}
+		Arrays.sort(versionIds);
+		pending = pending.delete(versionIds);
+		view = null;
 		page = getDao().getPageDao().getByUrl(page.getFriendlyURL());
 		if (page == null) {
 			return;
@@ -97,100 +164,273 @@ public class SearchIndexImpl implements SearchIndex {
 		if (content == null) {
 			return;
 		}
-		String data = StrUtil.extractSearchTextFromHTML(content.toLowerCase());
-		String[] words = StrUtil.splitByWord(data);
+		String text = StrUtil.extractSearchTextFromHTML(content);
+		String[] words = StrUtil.splitByWord(text.toLowerCase());
 		//logger.info(Arrays.asList(words));
+		Map<String, Integer> termFreqs = new HashMap<String, Integer>();
+		int length = 0;
 		for (String word : words) {
 			if (word.length() < 3) {
 				continue;
 			}
-			
 			word = StrUtil.removeAccents(word);
-			
-			if (!getIndex().containsKey(word)) {
-				getIndex().put(word, new HashSet<Long>());
-			}
-			if (!getIndex().get(word).contains(page.getId())) {
-				getIndex().get(word).add(page.getId());
-			}
+			Integer freq = termFreqs.get(word);
+			termFreqs.put(word, freq == null ? 1 : freq + 1);
+			length++;
+		}
+		if (text.length() > IndexSegment.TEXT_SIZE) {
+			text = text.substring(0, IndexSegment.TEXT_SIZE);
 		}
+		pending = pending.add(page.getId(), termFreqs, length, 
+				page.getFriendlyURL(), text);
 	}
 	
 	@Override
-	public void removeFromIndex(Long pageId) {
-		for (Set<Long> pages : getIndex().values()) {
-			pages.remove(pageId);
-		}
+	public synchronized void removeFromIndex(Long pageId) {
+		pending = pending.delete(new long[] {pageId});
+		view = null;
 	}
 	
+	/**
+	 * Save not saved changes as new delta segment. After clear() index is 
+	 * saved as new base segment and delta segments saved before clear() are 
+	 * removed.
+	 */
 	@Override
-	public void saveIndex() throws IOException {
-		
-		byte[] indexContent = StrUtil.zipStringToBytes(indexToString());
-		FileEntity file = getBusiness().getFileBusiness()
-				.saveFile(getIndexFilename(), indexContent);
-		indexModDate = file.getLastModifiedTime();
-		getBusiness().getSystemService().getCache().getMemcache().put(
-				getIndexKey(), indexModDate);
-		
+	public synchronized void saveIndex() throws IOException {
+		if (cleared) {
+			boolean locked = lockCompact();
+			try {
+				writeBase(pending.withoutDeleted(), clearedNames);
+			}
+			finally {
+				if (locked) {
+					unlockCompact();
+				}
+			}
+			pending = IndexSegment.EMPTY;
+			cleared = false;
+			clearedNames = new ArrayList<String>();
+			return;
+		}
+		if (pending.isEmpty()) {
+			return;
+		}
+		FileEntity file = getBusiness().getFileBusiness().saveFile(
+				getSegmentFilename(), pending.toBytes());
+		deltas.add(pending);
+		deltaNames.add(file.getFilename());
+		pending = IndexSegment.EMPTY;
+		setIndexModDate(file.getLastModifiedTime());
+		if (deltas.size() >= MAX_SEGMENTS || base == null 
+				|| base.isEmpty()) {
+			requestCompact();
+		}
 	}
 
-	private String indexToString() {
-		StringBuffer buf = new StringBuffer();
-		int i = 0;
-		for (String word : getIndex().keySet()) {
-			if (getIndex().get(word).isEmpty()) {
-				continue;
+	/**
+	 * Publish compaction task unless one is already pending.
+	 */
+	private void requestCompact() {
+		try {
+			if (!getMemcache().put(getPendingKey(), Boolean.TRUE, 
+					Expiration.byDeltaSeconds(COMPACT_LOCK_SECONDS), 
+					SetPolicy.ADD_ONLY_IF_NOT_PRESENT)) {
+				return;
+			}
+		}
+		catch (Exception e) {
+			logger.error(e.getMessage());
+		}
+		getBusiness().getMessageQueue().publish(new SimpleMessage(
+				Topic.INDEX_COMPACT, getLanguage(), QueueSpeed.LOW));
+	}
+
+	/**
+	 * Merge all saved delta segments into base segment. Only one instance 
+	 * compacts index at a time, base is reloaded after lock is taken so 
+	 * result of previous compaction is never overwritten.
+	 */
+	@Override
+	public synchronized void compact() throws IOException {
+		if (!lockCompact()) {
+			logger.info("Index compaction is running in " + getLanguage());
+			clearCompactPending();
+			return;
+		}
+		try {
+			clearCompactPending();
+			loadIndex();
+			if (deltas.isEmpty()) {
+				return;
 			}
-			buf.append(i++ == 0 ? "" : ":").append(word).append("=");
-			int j = 0;
-			for (Long id : getIndex().get(word)) {
-				buf.append(j++ == 0 ? "" : ",").append(id);
+			logger.info("Compacting " + deltas.size() 
+					+ " index segments in " + getLanguage());
+			IndexSegment merged = base;
+			for (IndexSegment delta : deltas) {
+				merged = merged.merge(delta);
 			}
+			if (!isBaseChanged()) {
+				writeBase(merged.withoutDeleted(), 
+						new ArrayList<String>(deltaNames));
+			}
+		}
+		finally {
+			unlockCompact();
+		}
+	}
+	
+	/**
+	 * Base could be rewritten by clear() on other instance while lock was 
+	 * expired.
+	 */
+	private boolean isBaseChanged() {
+		FileEntity file = getBusiness().getFileBusiness().findFile(
+				getIndexFilename());
+		Date modDate = file == null ? null : file.getLastModifiedTime();
+		if (modDate == null ? baseModDate == null 
+				: modDate.equals(baseModDate)) {
+			return false;
+		}
+		logger.info("Index base was changed during compaction in " 
+				+ getLanguage());
+		return true;
+	}
+	
+	private MemcacheService getMemcache() {
+		return MemcacheServiceFactory.getMemcacheService();
+	}
+	
+	private String getLockKey() {
+		return COMPACT_LOCK + getLanguage();
+	}
+	
+	private String getPendingKey() {
+		return COMPACT_PENDING + getLanguage();
+	}
+	
+	/**
+	 * @return true if compaction lock was acquired.
+	 */
+	private boolean lockCompact() {
+		try {
+			return getMemcache().put(getLockKey(), Boolean.TRUE, 
+					Expiration.byDeltaSeconds(COMPACT_LOCK_SECONDS), 
+					SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+		}
+		catch (Exception e) {
+			logger.error(e.getMessage());
+			return false;
+		}
+	}
+	
+	/**
+	 * Deltas saved from now on request new compaction.
+	 */
+	private void clearCompactPending() {
+		try {
+			getMemcache().delete(getPendingKey());
+		}
+		catch (Exception e) {
+			logger.error(e.getMessage());
+		}
+	}
+	
+	private void unlockCompact() {
+		try {
+			getMemcache().delete(getLockKey());
+		}
+		catch (Exception e) {
+			logger.error(e.getMessage());
 		}
-		return buf.toString();
+	}
+	
+	/**
+	 * Save base segment and remove merged delta segments. Segments are removed 
+	 * oldest first so other instances always see correct suffix of deltas.
+	 */
+	private void writeBase(IndexSegment segment, List<String> mergedNames) 
+			throws IOException {
+		FileEntity file = getBusiness().getFileBusiness().saveFile(
+				getIndexFilename(), segment.toBytes());
+		for (String name : mergedNames) {
+			getBusiness().getFileBusiness().remove(INDEX_FOLDER + "/" + name);
+		}
+		base = segment;
+		baseModDate = file.getLastModifiedTime();
+		int merged = 0;
+		while (merged < deltaNames.size() 
+				&& mergedNames.contains(deltaNames.get(merged))) {
+			merged++;
+		}
+		deltas.subList(0, merged).clear();
+		deltaNames.subList(0, merged).clear();
+		setIndexModDate(baseModDate);
 	}
 
+	private void setIndexModDate(Date date) {
+		indexModDate = date;
+		getBusiness().getSystemService().getCache().getMemcache().put(
+				getIndexKey(), indexModDate);
+	}
+	
+	/**
+	 * Find pages containing all query words ranked by BM25 relevance. Only 
+	 * pages in requested window are loaded to create hits, snippets are taken 
+	 * from stored page text.
+	 * @param count - -1 for all results.
+	 */
 	@Override
-	public List<Hit> search(SearchResultFilter filter, String query, 
-			int textSize) {
+	public SearchResult search(SearchResultFilter filter, String query, 
+			int start, int count, int textSize) {
 		
 		logger.info("into index.search in " + language);
-		List<Hit> result = new ArrayList<Hit>();
+		SearchResult result = new SearchResult();
 				
 		try {
-			refreshIndex();
-			
-			List<Long> pages = new ArrayList<Long>(getPageIds(query));
+			IndexSegment segment = getSearchView();
+			List<ScoredPage> pages = find(segment, filter, query);
 			
 			logger.info("Number of pages found = " + pages.size());
+			int skipped = 0;
+			int end = count == -1 ? pages.size() : Math.min(start + count, 
+					pages.size());
+			List<ScoredPage> top = ScoredPage.top(pages, end);
+			List<ScoredPage> window = top.subList(Math.min(start, 
+					top.size()), top.size());
+			loadPages(window);
 			
-			for (Long pageId : pages) {
-				PageEntity page = getDao().getPageDao().getById(pageId);
-				if (page != null) {
-					if (filter != null && !filter.check(page)) {
-						logger.info("page skipped by filter");
-						continue;
-					}
+			for (ScoredPage scoredPage : window) {
+				PageEntity page = scoredPage.getPage();
+				if (page == null) {
+					logger.error("Page not found " + scoredPage.getPageId() 
+							+ ". Rebuild index.");
+					skipped++;
+					continue;
+				}
+				if (filter != null && !filter.check(page)) {
+					skipped++;
+					continue;
+				}
+				String text = segment.getPageText(page.getId());
+				if (text == null) {
 					ContentEntity content = getBusiness().getPageBusiness()
 							.getPageContent(page, language);
-					if (content != null) {
-						logger.info("Content found for pageId = " + pageId + " in " + language);
-						String text = StrUtil.extractSearchTextFromHTML(
-								content.getContent());						
-						if (text.length() > textSize) {
-							text = text.substring(0, textSize);
-						}
-						result.add(new Hit(page, text, language));
-					}
-					else {
-						logger.error("Content not found for pageId = " + pageId);
+					if (content == null) {
+						logger.error("Content not found for pageId = " 
+								+ page.getId());
+						skipped++;
+						continue;
 					}
+					text = StrUtil.extractSearchTextFromHTML(
+							content.getContent());
 				}
-				else {
-					logger.error("Page not found " + pageId + ". Rebuild index.");
+				if (text.length() > textSize) {
+					text = text.substring(0, textSize);
 				}
+				result.getHits().add(new Hit(page, text, language));
 			}	
+			result.setCount(pages.size() - skipped);
 			
 		} catch (IOException e) {
 			
@@ -208,31 +448,21 @@ public class SearchIndexImpl implements SearchIndex {
 		List<PageEntity> result = new ArrayList<PageEntity>();
 				
 		try {
-			refreshIndex();
-			
-			List<Long> pages = new ArrayList<Long>(getPageIds(query));
+			List<ScoredPage> pages = ScoredPage.top(find(getSearchView(), 
+					filter, query), Integer.MAX_VALUE);
 			
 			logger.info("Number of pages found = " + pages.size());
+			loadPages(pages);
 			
-			for (Long pageId : pages) {
-				PageEntity page = getDao().getPageDao().getById(pageId);
-				if (page != null && page.isStructured()) {
-					if (filter != null && !filter.check(page)) {
-						logger.info("page skipped by filter");
-						continue;
-					}
-					ContentEntity content = getBusiness().getPageBusiness()
-							.getPageContent(page, language);
-					if (content != null) {
-						
-						result.add(page);
-					}
-					else {
-						logger.error("Content not found for pageId = " + pageId);
-					}
+			for (ScoredPage scoredPage : pages) {
+				PageEntity page = scoredPage.getPage();
+				if (page != null && page.isStructured() 
+						&& (filter == null || filter.check(page))) {
+					result.add(page);
 				}
-				else {
-					logger.error("Page not found " + pageId + ". Rebuild index.");
+				else if (page == null) {
+					logger.error("Page not found " + scoredPage.getPageId() 
+							+ ". Rebuild index.");
 				}
 			}	
 			
@@ -245,75 +475,80 @@ public class SearchIndexImpl implements SearchIndex {
 		
 	}
 
+	/**
+	 * Get actual merged segment. Segments are immutable so search runs 
+	 * without lock.
+	 */
+	private synchronized IndexSegment getSearchView() throws IOException {
+		refreshIndex();
+		return getView();
+	}
 	
-	private Set<Long> getPageIds(String query) {
-		String[] tmpWords = StrUtil.splitByWord(query);
-		if (tmpWords.length == 0) {
-			return Collections.EMPTY_SET;
-		}
-		
-		int nbWords = 0;
+	/**
+	 * Score pages containing all query words. If filter is set pages are 
+	 * checked by url stored in index when filter needs only url, other pages 
+	 * are loaded with one batch get and checked by filter. Pages checked by 
+	 * url are checked again when loaded for result window.
+	 */
+	private List<ScoredPage> find(IndexSegment segment, 
+			SearchResultFilter filter, String query) {
 		
 		/* 
 		 * query doesn't take account 
 		 * words with length < 3 
 		 */
-		for (String tmpWord : tmpWords) {
-			if (tmpWord.length() >= 3) 
-				nbWords++;
+		Set<String> words = new LinkedHashSet<String>();
+		for (String word : StrUtil.splitByWord(query)) {
+			if (word.length() >= 3) {
+				words.add(StrUtil.removeAccents(word));
+			}
 		}
-		
-		String[] words = new String[nbWords];
-		
-		int i = 0;
-		for (String tmpWord : tmpWords) {
-			if (tmpWord.length() >= 3) { 
-				words[i] = tmpWord;
-				i++;
+		List<ScoredPage> pages = segment.score(words);
+		if (filter == null) {
+			return pages;
+		}
+		List<ScoredPage> result = new ArrayList<ScoredPage>();
+		List<ScoredPage> toLoad = new ArrayList<ScoredPage>();
+		for (ScoredPage page : pages) {
+			String url = filter instanceof UrlSearchResultFilter 
+					? segment.getPageUrl(page.getPageId()) : null;
+			if (url == null) {
+				toLoad.add(page);
 			}
-		}			
-		
-		Set<Long> keys = null;
-		i = 0;
-		
-		for (String word : words) {	
-			if (i == 0) {
-				keys = getPageKeys(StrUtil.removeAccents(word));
-				i++;
+			else if (((UrlSearchResultFilter)filter).check(url)) {
+				result.add(page);
 			}
-			
-			else {
-				keys = keysLogicalAnd(keys, getPageKeys(StrUtil.removeAccents(word)));
-			}			
 		}
-		
-		return keys;		
-	}	
-		
-	private Set<Long> keysLogicalAnd(Set<Long> l1, Set<Long> l2) {
-		Set<Long> result = new HashSet<Long>();
-		for (Long i : l1) {
-			if (l2.contains(i) && !result.contains(i)) {
-				result.add(i);
+		loadPages(toLoad);
+		for (ScoredPage page : toLoad) {
+			if (page.getPage() != null && filter.check(page.getPage())) {
+				result.add(page);
 			}
 		}
 		return result;
 	}	
 	
-	private Set<Long> getPageKeys(String word) {
-		logger.info("into index.getPageKeys");
-		if (getIndex().containsKey(word)) {
-			logger.info("word " + word + " found");
-			logger.info("out of index.getPageKeys");
-			return getIndex().get(word);
+	private void loadPages(List<ScoredPage> pages) {
+		List<Long> ids = new ArrayList<Long>();
+		for (ScoredPage page : pages) {
+			if (page.getPage() == null) {
+				ids.add(page.getPageId());
+			}
 		}
-		else {
-			logger.info("word + " + word + " NOT found");
+		if (ids.isEmpty()) {
+			return;
+		}
+		Map<Long, PageEntity> loaded = new HashMap<Long, PageEntity>();
+		for (PageEntity page : getDao().getPageDao().getById(ids)) {
+			loaded.put(page.getId(), page);
+		}
+		for (ScoredPage page : pages) {
+			if (page.getPage() == null) {
+				page.setPage(loaded.get(page.getPageId()));
+			}
 		}
-		logger.info("out of index.getPageKeys without found pageIds");
-		return Collections.EMPTY_SET;
 	}
-
+		
 	private String getIndexKey() {
 		return INDEX_MOD_DATE + getLanguage();
 	}
@@ -321,33 +556,90 @@ public class SearchIndexImpl implements SearchIndex {
 	private void refreshIndex() throws IOException {
 		Date date = (Date) getBusiness().getSystemService().getCache()
 				.getMemcache().get(getIndexKey());
-		if (index == null || date == null || !date.equals(indexModDate)) {
+		if (base == null || date == null || !date.equals(indexModDate)) {
 			loadIndex();
 		}
 	}
 
 	private String getIndexFilename() {
-		return "/tmp/index_" + getLanguage() + ".bin";
+		return INDEX_FOLDER + "/index_" + getLanguage() + ".bin";
+	}
+	
+	private String getSegmentPrefix() {
+		return "index_" + getLanguage() + "_";
+	}
+	
+	/**
+	 * Delta segment names are ordered by creation time.
+	 */
+	private String getSegmentFilename() {
+		return INDEX_FOLDER + "/" + getSegmentPrefix() 
+				+ String.format("%013d_%04d", System.currentTimeMillis(), 
+						(int)(Math.random() * 10000)) + ".bin";
+	}
+	
+	private List<FileEntity> getSegmentFiles() {
+		List<FileEntity> result = new ArrayList<FileEntity>();
+		FolderEntity folder = getBusiness().getFolderBusiness().getByPath(
+				INDEX_FOLDER);
+		if (folder == null) {
+			return result;
+		}
+		for (FileEntity file : getDao().getFileDao().getByFolder(
+				folder.getId())) {
+			if (file.getFilename().startsWith(getSegmentPrefix())) {
+				result.add(file);
+			}
+		}
+		Collections.sort(result, FILENAME_ORDER);
+		return result;
 	}
 	
+	/**
+	 * Load changed base segment and not yet loaded delta segments.
+	 */
 	private void loadIndex() throws IOException {					
 		
 		logger.info("into loadIndex");
 		
-		index = new HashMap<String, Set<Long>>();
-		indexModDate = null;
 		FileEntity file = getBusiness().getFileBusiness()
 				.findFile(getIndexFilename());
 		if (file == null) {
 			logger.error("Index File not found. " + getIndexFilename());
-			logger.info("out of loadIndex");
-			return;
 		}
-		byte[] data = getDao().getFileDao().getFileContent(file);
-		if (data != null) {
-			String strIndex = StrUtil.unzipStringFromBytes(data);
-			indexFromString(strIndex);
-			indexModDate = file.getLastModifiedTime();
+		Date modDate = file == null ? null : file.getLastModifiedTime();
+		if (base == null || modDate == null || !modDate.equals(baseModDate)) {
+			base = file == null ? IndexSegment.EMPTY : readSegment(file);
+			baseModDate = modDate;
+			deltas.clear();
+			deltaNames.clear();
+			view = null;
+		}
+		List<FileEntity> files = getSegmentFiles();
+		List<String> names = new ArrayList<String>();
+		for (FileEntity segmentFile : files) {
+			names.add(segmentFile.getFilename());
+		}
+		if (names.size() < deltaNames.size() 
+				|| !names.subList(0, deltaNames.size()).equals(deltaNames)) {
+			deltas.clear();
+			deltaNames.clear();
+			view = null;
+		}
+		indexModDate = baseModDate;
+		for (FileEntity segmentFile : files) {
+			if (indexModDate == null || indexModDate.before(
+					segmentFile.getLastModifiedTime())) {
+				indexModDate = segmentFile.getLastModifiedTime();
+			}
+		}
+		for (FileEntity segmentFile : files.subList(deltaNames.size(), 
+				files.size())) {
+			deltas.add(readSegment(segmentFile));
+			deltaNames.add(segmentFile.getFilename());
+			view = null;
+		}
+		if (indexModDate != null) {
 			Date dt = (Date)getBusiness().getSystemService().getCache()
 					.getMemcache().get(getIndexKey());
 			if (dt == null || dt.before(indexModDate)) {
@@ -355,29 +647,21 @@ public class SearchIndexImpl implements SearchIndex {
 						.put(getIndexKey(), indexModDate);
 			}
 		}
-		else {
-			logger.error("Search index is empty. " + getIndexFilename());
-		}
 		logger.info("out of loadIndex");
 			
 	}
 
-	private void indexFromString(String data) {
-		if (StringUtils.isEmpty(data)) {
-			return;
+	private IndexSegment readSegment(FileEntity file) throws IOException {
+		byte[] data = getDao().getFileDao().getFileContent(file);
+		if (data == null) {
+			logger.error("Search index is empty. " + file.getFilename());
+			return IndexSegment.EMPTY;
 		}
-		for (String wordBuf : data.split("\\:")) {
-			//logger.info(wordBuf);
-			String[] wordStruc = wordBuf.split("\\=");
-			if (wordStruc.length != 2 ) {
-				logger.error("Problem with index " + wordBuf);
-				continue;
-			}
-			index.put(wordStruc[0], new HashSet<Long>());
-			for (String key : wordStruc[1].split(",")) {
-				index.get(wordStruc[0]).add(Long.valueOf(key));
-			}
+		if (IndexSegment.isSegment(data)) {
+			return IndexSegment.fromBytes(data);
 		}
+		return IndexSegment.fromLegacyString(
+				StrUtil.unzipStringFromBytes(data));
 	}
 
 	private Business getBusiness() {
@@ -393,17 +677,29 @@ public class SearchIndexImpl implements SearchIndex {
 		return language;
 	}
 
-	private Map<String, Set<Long>> getIndex() {
-		if (index == null) {
-			logger.info("index null");
-			index = new HashMap<String, Set<Long>>();
+	private IndexSegment getView() {
+		if (view == null) {
+			IndexSegment merged = base == null ? IndexSegment.EMPTY : base;
+			for (IndexSegment delta : deltas) {
+				merged = merged.merge(delta);
+			}
+			view = merged.merge(pending);
 		}
-		return index;
+		return view;
 	}
 
 	@Override
-	public void clear() {
-		getIndex().clear();
+	public synchronized void clear() {
+		clearedNames = new ArrayList<String>();
+		for (FileEntity file : getSegmentFiles()) {
+			clearedNames.add(file.getFilename());
+		}
+		base = IndexSegment.EMPTY;
+		deltas.clear();
+		deltaNames.clear();
+		pending = IndexSegment.EMPTY;
+		view = null;
+		cleared = true;
 	}
 	
 }
@@ -23,13 +23,16 @@
 package org.vosao.service.back.impl;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang.StringUtils;
 import org.vosao.common.VosaoContext;
 import org.vosao.entity.ContentPermissionEntity;
 import org.vosao.entity.GroupEntity;
+import org.vosao.entity.PageEntity;
 import org.vosao.entity.helper.GroupHelper;
 import org.vosao.enums.ContentPermissionType;
 import org.vosao.i18n.Messages;
@@ -54,7 +57,16 @@ public class ContentPermissionServiceImpl extends AbstractServiceImpl
 		for (String id : ids) {
 			idList.add(Long.valueOf(id));
 		}
+		Set<String> urls = new HashSet<String>();
+		for (Long id : idList) {
+			ContentPermissionEntity perm = getDao().getContentPermissionDao()
+					.getById(id);
+			if (perm != null) {
+				addPageTree(urls, perm.getUrl());
+			}
+		}
 		getDao().getContentPermissionDao().remove(idList);
+		removePageCache(urls);
 		return ServiceResponse.createSuccessResponse(
 				Messages.get("content_permissions_success_delete"));
 	}
@@ -79,6 +91,9 @@ public class ContentPermissionServiceImpl extends AbstractServiceImpl
 				vo.get("languages"); 
 			getBusiness().getContentPermissionBusiness().setPermission(
 					url, group, perm, languages);
+			Set<String> urls = new HashSet<String>();
+			addPageTree(urls, url);
+			removePageCache(urls);
 			return ServiceResponse.createSuccessResponse(
 					Messages.get("content_permissions_success_save"));
 		}
@@ -88,6 +103,24 @@ public class ContentPermissionServiceImpl extends AbstractServiceImpl
 		}
 	}
 
+	/**
+	 * Permissions are inherited so cached child pages are removed too.
+	 */
+	private void addPageTree(Set<String> urls, String url) {
+		if (urls.add(url)) {
+			for (PageEntity child : getDao().getPageDao().selectAllChildren(
+					url)) {
+				addPageTree(urls, child.getFriendlyURL());
+			}
+		}
+	}
+
+	private void removePageCache(Set<String> urls) {
+		if (!urls.isEmpty()) {
+			getBusiness().getSystemService().getPageCache().remove(urls);
+		}
+	}
+
 	@Override
 	public List<ContentPermissionVO> selectByUrl(String pageUrl) {
 		List<ContentPermissionEntity> direct = getDao()
@@ -27,15 +27,14 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang.StringUtils;
 import org.vosao.business.PageBusiness;
 import org.vosao.business.decorators.TreeItemDecorator;
+import org.vosao.business.impl.PageTree;
 import org.vosao.business.impl.SetupBeanImpl;
 import org.vosao.common.VosaoContext;
 import org.vosao.entity.ContentEntity;
@@ -59,6 +58,7 @@ import org.vosao.service.back.LanguageService;
 import org.vosao.service.back.PageService;
 import org.vosao.service.back.TemplateService;
 import org.vosao.service.impl.AbstractServiceImpl;
+import org.vosao.service.vo.PageChildrenVO;
 import org.vosao.service.vo.PageRequestVO;
 import org.vosao.service.vo.PageVO;
 import org.vosao.servlet.FileUploadServlet;
@@ -75,83 +75,61 @@ public class PageServiceImpl extends AbstractServiceImpl
 
 	@Override
 	public TreeItemDecorator<PageVO> getTree() {
-		List<PageVO> pages = selectLastVersionPages(getPageBusiness().select());
-		Map<String, TreeItemDecorator<PageVO>> buf = new HashMap<String, TreeItemDecorator<PageVO>>();
-		for (PageVO page : pages) {
-			buf.put(page.getFriendlyURL(), new TreeItemDecorator<PageVO>(page,
-					null));
-		}
-		TreeItemDecorator<PageVO> root = null;
-		for (String id : buf.keySet()) {
-			TreeItemDecorator<PageVO> page = buf.get(id);
-			if (StringUtils.isEmpty(page.getEntity().getParentUrl())) {
-				root = page;
-			} else {
-				TreeItemDecorator<PageVO> parent = buf.get(page.getEntity()
-						.getParentUrl());
-				if (parent != null) {
-					parent.getChildren().add(page);
-					page.setParent(parent);
-				}
-			}
+		PageTree tree = PageTree.getInstance(getDao());
+		String rootUrl = tree.getRootUrl();
+		if (rootUrl == null || !canReadPage(rootUrl)) {
+			return null;
 		}
-		sortTree(root);
-		return root;
-	}
-
-	private void sortTree(TreeItemDecorator<PageVO> page) {
-		if (page.isHasChildren()) {
-			Collections.sort(page.getChildren(),
-					new Comparator<TreeItemDecorator<PageVO>>() {
-						@Override
-						public int compare(TreeItemDecorator<PageVO> o1,
-								TreeItemDecorator<PageVO> o2) {
-							if (o1.getEntity().getSortIndex() > o2.getEntity()
-									.getSortIndex()) {
-								return 1;
-							}
-							if (o1.getEntity().getSortIndex().equals(
-									o2.getEntity().getSortIndex())) {
-								return 0;
-							}
-							return -1;
-						}
-					});
-			for (TreeItemDecorator<PageVO> child : page.getChildren()) {
-				sortTree(child);
+		return createTreeItem(tree, tree.getPage(rootUrl), null);
+	}
+
+	private TreeItemDecorator<PageVO> createTreeItem(PageTree tree, 
+			PageEntity page, TreeItemDecorator<PageVO> parent) {
+		TreeItemDecorator<PageVO> result = new TreeItemDecorator<PageVO>(
+				createTreeVO(tree, page), parent);
+		for (PageEntity child : tree.getChildren(page.getFriendlyURL())) {
+			if (canReadPage(child.getFriendlyURL())) {
+				result.getChildren().add(createTreeItem(tree, child, result));
 			}
 		}
+		return result;
+	}
+	
+	private PageVO createTreeVO(PageTree tree, PageEntity page) {
+		PageVO result = new PageVO(page);
+		result.setHasPublishedVersion(tree.isPublished(page.getFriendlyURL()));
+		result.setHasChildren(tree.hasChildren(page.getFriendlyURL()));
+		return result;
+	}
+
+	private boolean canReadPage(String url) {
+		return !getBusiness().getContentPermissionBusiness().getPermission(url,
+				VosaoContext.getInstance().getUser()).isDenied();
 	}
 
-	private List<PageVO> selectLastVersionPages(List<PageEntity> pages) {
-		Map<String, PageEntity> pageMap = new HashMap<String, PageEntity>();
-		Map<String, Boolean> published = new HashMap<String, Boolean>();
-		for (PageEntity page : pages) {
-			if (page.isForInternalUse()) {
-				continue;
+	@Override
+	public PageChildrenVO getTreeChildren(String url, String cursor, 
+			int count) {
+		PageTree tree = PageTree.getInstance(getDao());
+		List<PageEntity> children = tree.getChildren(url);
+		int index = 0;
+		if (cursor != null) {
+			try {
+				index = Math.max(0, Integer.parseInt(cursor));
 			}
-			if (pageMap.containsKey(page.getFriendlyURL())) {
-				if (pageMap.get(page.getFriendlyURL()).getVersion() < page
-						.getVersion()) {
-					pageMap.put(page.getFriendlyURL(), page);
-				}
-				if (page.isApproved()) {
-					published.put(page.getFriendlyURL(), true);
-				}
-			} else {
-				pageMap.put(page.getFriendlyURL(), page);
-				published.put(page.getFriendlyURL(), page.isApproved());
+			catch (NumberFormatException e) {
+				logger.error("Wrong cursor " + cursor);
 			}
 		}
-		List<PageVO> result = PageVO.create(pageMap.values());
-		for (PageVO page : result) {
-			boolean isPublished = false;
-			if (published.containsKey(page.getFriendlyURL())) {
-				isPublished = published.get(page.getFriendlyURL());
+		List<PageVO> result = new ArrayList<PageVO>();
+		for (; index < children.size() && result.size() < count; index++) {
+			PageEntity child = children.get(index);
+			if (canReadPage(child.getFriendlyURL())) {
+				result.add(createTreeVO(tree, child));
 			}
-			page.setHasPublishedVersion(isPublished);
 		}
-		return result;
+		return new PageChildrenVO(result, index < children.size() ? 
+				String.valueOf(index) : null);
 	}
 
 	@Override
@@ -201,6 +179,9 @@ public class PageServiceImpl extends AbstractServiceImpl
 		if (vo.get("cached") != null) {
 			page.setCached(Boolean.valueOf(vo.get("cached")));
 		}
+		if (vo.get("userCached") != null) {
+			page.setUserCached(Boolean.valueOf(vo.get("userCached")));
+		}
 		String languageCode = vo.get("languageCode");
 		ContentPermissionEntity perm = getBusiness()
 				.getContentPermissionBusiness().getPermission(
@@ -387,6 +368,33 @@ public class PageServiceImpl extends AbstractServiceImpl
 				.createSuccessResponse(Messages.get("page.success_approve"));
 	}
 
+	/**
+	 * Register cache keys of independent page editor lookups. Cached query 
+	 * results are read with one memcache call and then all their entities 
+	 * with another one.
+	 */
+	private void prefetchPageRequest(PageEntity page) {
+		String url = page.getFriendlyURL();
+		for (int i = 0; i < 2; i++) {
+			getDao().getPageDao().prefetchByUrl(url);
+			getDao().getPageDao().prefetchAllChildren(url);
+			getDao().getCommentDao().prefetchByPage(url);
+			getDao().getContentDao().prefetch(PageEntity.class.getName(), 
+					page.getId());
+			getDao().getContentPermissionDao().prefetchByUrl(url);
+			getDao().getPageTagDao().prefetchByURL(url);
+			getDao().getPageDependencyDao().prefetchByPage(url);
+			if (page.isStructured()) {
+				getDao().getStructureDao().prefetchById(page.getStructureId());
+			}
+			getDao().getTemplateDao().prefetchSelect();
+			getDao().getLanguageDao().prefetchSelect();
+			getDao().getGroupDao().prefetchSelect();
+			getDao().getStructureDao().prefetchSelect();
+			getBusiness().getSystemService().getCache().fetch();
+		}
+	}
+
 	@Override
 	public PageRequestVO getPageRequest(final Long id, final String parentUrl) {
 		try {
@@ -396,6 +404,7 @@ public class PageServiceImpl extends AbstractServiceImpl
 			result.setConfig(VosaoContext.getInstance().getConfig());
 			String permUrl = parentUrl;
 			if (page != null) {
+				prefetchPageRequest(page);
 				String url = page.getFriendlyURL();
 				result.setVersions(getPageVersions(url));
 				result.setChildren(getChildren(url));
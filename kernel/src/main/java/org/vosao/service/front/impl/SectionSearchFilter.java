@@ -26,12 +26,12 @@ import java.util.Collections;
 import java.util.List;
 
 import org.vosao.entity.PageEntity;
-import org.vosao.search.SearchResultFilter;
+import org.vosao.search.UrlSearchResultFilter;
 
 /**
  * @author Alexander Oleynik
  */
-public class SectionSearchFilter implements SearchResultFilter {
+public class SectionSearchFilter implements UrlSearchResultFilter {
 
 	private List<String> sections;
 	
@@ -44,8 +44,13 @@ public class SectionSearchFilter implements SearchResultFilter {
 		if (page == null) {
 			return false;
 		}
+		return check(page.getFriendlyURL());
+	}
+
+	@Override
+	public boolean check(String friendlyURL) {
 		for (String url : sections) {
-			if (page.getFriendlyURL().startsWith(url)) {
+			if (friendlyURL.startsWith(url)) {
 				return true;
 			}
 		}
@@ -80,27 +80,27 @@ public class BackServiceImpl implements BackService, Serializable {
 
 	private static final Log log = LogFactory.getLog(BackServiceImpl.class);
 
-	private FileService fileService;
-	private FolderService folderService;
-	private CommentService commentService;
-	private PageService pageService;
-	private TemplateService templateService;
-	private FormService formService;
-	private FieldService fieldService;
-	private ConfigService configService;
-	private SeoUrlService seoUrlService;
-	private UserService userService;
-	private LanguageService languageService;
-	private MessageService messageService;
-	private GroupService groupService;
-	private ContentPermissionService contentPermissionService;
-	private FolderPermissionService folderPermissionService;
-	private StructureService structureService;
-	private StructureTemplateService structureTemplateService;
-	private PluginService pluginService;
-	private TagService tagService;
-	private PicasaService picasaService;
-	private PageAttributeService pageAttributeService;
+	private volatile FileService fileService;
+	private volatile FolderService folderService;
+	private volatile CommentService commentService;
+	private volatile PageService pageService;
+	private volatile TemplateService templateService;
+	private volatile FormService formService;
+	private volatile FieldService fieldService;
+	private volatile ConfigService configService;
+	private volatile SeoUrlService seoUrlService;
+	private volatile UserService userService;
+	private volatile LanguageService languageService;
+	private volatile MessageService messageService;
+	private volatile GroupService groupService;
+	private volatile ContentPermissionService contentPermissionService;
+	private volatile FolderPermissionService folderPermissionService;
+	private volatile StructureService structureService;
+	private volatile StructureTemplateService structureTemplateService;
+	private volatile PluginService pluginService;
+	private volatile TagService tagService;
+	private volatile PicasaService picasaService;
+	private volatile PageAttributeService pageAttributeService;
 	
 	@Override
 	public void register(JSONRPCBridge bridge) {
@@ -48,11 +48,11 @@ public class FrontServiceImpl implements FrontService, Serializable {
 
 	private static final Log log = LogFactory.getLog(FrontServiceImpl.class);
 
-	private LoginService loginService;
-	private FormService formService;
-	private CommentService commentService;
-	private SearchService searchService;
-	private ChannelApiService channelApiService;
+	private volatile LoginService loginService;
+	private volatile FormService formService;
+	private volatile CommentService commentService;
+	private volatile SearchService searchService;
+	private volatile ChannelApiService channelApiService;
 	
 	@Override
 	public void register(JSONRPCBridge bridge) {
@@ -0,0 +1,106 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.servlet;
+
+/**
+ * Single byte range of HTTP Range request header.
+ */
+public class ByteRange {
+
+	private static final String BYTES_UNIT = "bytes=";
+
+	/**
+	 * Parse Range header value for content of given size.
+	 * @return null if header is absent, malformed or has several ranges - 
+	 * in all these cases full content should be sent.
+	 */
+	public static ByteRange parse(String header, long size) {
+		if (header == null || !header.startsWith(BYTES_UNIT)) {
+			return null;
+		}
+		String spec = header.substring(BYTES_UNIT.length()).trim();
+		int dash = spec.indexOf('-');
+		if (dash == -1 || spec.indexOf(',') != -1) {
+			return null;
+		}
+		try {
+			String first = spec.substring(0, dash).trim();
+			String last = spec.substring(dash + 1).trim();
+			if (first.length() == 0) {
+				long suffix = Long.parseLong(last);
+				if (suffix <= 0 || size == 0) {
+					return new ByteRange(0, -1);
+				}
+				return new ByteRange(Math.max(size - suffix, 0), size - 1);
+			}
+			long start = Long.parseLong(first);
+			long end = last.length() == 0 ? size - 1 : Long.parseLong(last);
+			if (start < 0 || (last.length() > 0 && end < start)) {
+				return null;
+			}
+			if (start >= size) {
+				return new ByteRange(0, -1);
+			}
+			return new ByteRange(start, Math.min(end, size - 1));
+		}
+		catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private long start;
+	private long end;
+
+	public ByteRange(long start, long end) {
+		this.start = start;
+		this.end = end;
+	}
+
+	public long getStart() {
+		return start;
+	}
+
+	public long getEnd() {
+		return end;
+	}
+
+	public long getLength() {
+		return end - start + 1;
+	}
+
+	/**
+	 * Range which can't be served for content. Server should respond with 
+	 * 416 Requested Range Not Satisfiable.
+	 */
+	public boolean isSatisfiable() {
+		return end >= start;
+	}
+
+	public String getContentRange(long size) {
+		if (!isSatisfiable()) {
+			return "bytes */" + size;
+		}
+		return "bytes " + start + "-" + end + "/" + size;
+	}
+
+}
@@ -23,11 +23,14 @@
 package org.vosao.servlet;
 
 import java.io.IOException;
+import java.util.List;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.vosao.business.impl.PageCacheWarmer;
+
 /**
  * 
  * @author Alexander Oleynik
@@ -37,7 +40,9 @@ public class CacheResetServlet extends AbstractServlet {
 
 	public void doGet(HttpServletRequest request, HttpServletResponse response)
 			throws ServletException, IOException {
+		List<String> hotPages = PageCacheWarmer.getHotPages();
 		getBusiness().getSystemService().getCache().clear();
+		PageCacheWarmer.warmPages(hotPages);
 		response.setHeader("Content-type", "text/html"); 
 		response.getWriter().write("Done.");
 	}
@@ -22,8 +22,8 @@
 
 package org.vosao.servlet;
 
-import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -94,9 +94,9 @@ public class FileDownloadServlet extends AbstractServlet {
 				folder.getId(), filename);
 		if (file != null) {
 			logger.info("not in cache " + request.getPathInfo());
-			byte[] content = getDao().getFileDao().getFileContent(file);
+			byte[] content = null;
 			if (file.getSize() < CacheService.MEMCACHE_LIMIT) {				
-	
+				content = getDao().getFileDao().getFileContent(file);
 				getSystemService().getFileCache().put(request.getPathInfo(), 
 						new FileCacheItem(file, content, 
 								VosaoContext.getInstance().getUser() == null));
@@ -143,25 +143,89 @@ public class FileDownloadServlet extends AbstractServlet {
 		return false;
 	}
 
+	/**
+	 * Send whole file or requested byte range. If content is null it is 
+	 * streamed from datastore chunk by chunk.
+	 */
 	private void sendFile(final FileEntity file, byte[] content, 
 			HttpServletRequest request,	HttpServletResponse response) 
 			throws IOException {
-		if(DateUtil.toHeaderString(file.getLastModifiedTime()).equals(
-				request.getHeader("If-Modified-Since"))){
+		String etag = getETag(file);
+		String lastModified = DateUtil.toHeaderString(
+				file.getLastModifiedTime());
+		if (isNotModified(file, etag, request)) {
+			if (etag != null) {
+				response.setHeader("ETag", etag);
+			}
 			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
 			return;
 		}
+		response.setHeader("Content-type", file.getMimeType());
+		response.setHeader("Last-Modified", lastModified);
+		response.setHeader("Accept-Ranges", "bytes");
+		if (etag != null) {
+			response.setHeader("ETag", etag);
+		}
+		long size = file.getSize();
+		ByteRange range = null;
+		String ifRange = request.getHeader("If-Range");
+		if (ifRange == null || ifRange.equals(etag) 
+				|| ifRange.equals(lastModified)) {
+			range = ByteRange.parse(request.getHeader("Range"), size);
+		}
+		if (range == null) {
+			range = new ByteRange(0, size - 1);
+		}
+		else if (!range.isSatisfiable()) {
+			response.setHeader("Content-Range", range.getContentRange(size));
+			response.sendError(
+					HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+			return;
+		}
 		else {
-			response.setHeader("Content-type", file.getMimeType());
-			
-			response.setHeader("Content-Length", String.valueOf(file.getSize()));
-			response.setHeader("Last-Modified", 
-					DateUtil.toHeaderString(file.getLastModifiedTime()));
-			BufferedOutputStream output = new BufferedOutputStream(
-					response.getOutputStream());
-			output.write(content);
-			output.flush();
-			output.close();
+			response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+			response.setHeader("Content-Range", range.getContentRange(size));
+		}
+		response.setHeader("Content-Length", String.valueOf(
+				range.getLength()));
+		OutputStream output = response.getOutputStream();
+		if (content != null) {
+			output.write(content, (int)range.getStart(), 
+					(int)range.getLength());
+		}
+		else {
+			getDao().getFileDao().writeFileContent(file, output, 
+					range.getStart(), range.getLength());
+		}
+		output.flush();
+		output.close();
+	}
+
+	private String getETag(FileEntity file) {
+		if (file.getHash() == null) {
+			return null;
+		}
+		return "\"" + file.getHash() + "\"";
+	}
+	
+	private boolean isNotModified(FileEntity file, String etag,
+			HttpServletRequest request) {
+		String ifNoneMatch = request.getHeader("If-None-Match");
+		if (ifNoneMatch != null) {
+			return etag != null && (ifNoneMatch.trim().equals("*") 
+					|| ifNoneMatch.contains(etag));
+		}
+		if (file.getLastModifiedTime() == null) {
+			return false;
+		}
+		try {
+			long since = request.getDateHeader("If-Modified-Since");
+			return since != -1 
+					&& file.getLastModifiedTime().getTime() / 1000 
+					<= since / 1000;
+		}
+		catch (IllegalArgumentException e) {
+			return false;
 		}
 	}
 
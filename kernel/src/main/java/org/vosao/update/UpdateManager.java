@@ -52,6 +52,8 @@ public class UpdateManager {
 		tasks.add(new UpdateTask07(business));
 		tasks.add(new UpdateTask08(business));
 		tasks.add(new UpdateTask09(business));
+		tasks.add(new UpdateTask10());
+		tasks.add(new UpdateTask101(business));
 	}
 	
 	public String update() throws UpdateException {
@@ -0,0 +1,45 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.update;
+
+/**
+ * Version 1.0 has no data changes.
+ */
+public class UpdateTask10 implements UpdateTask {
+
+	@Override
+	public String getFromVersion() {
+		return "0.9";
+	}
+
+	@Override
+	public String getToVersion() {
+		return "1.0";
+	}
+
+	@Override
+	public String update() throws UpdateException {
+		return "Successfully updated to 1.0 version.";
+	}
+
+}
@@ -0,0 +1,75 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.update;
+
+import org.vosao.business.Business;
+
+import com.google.appengine.api.datastore.DatastoreService;
+import com.google.appengine.api.datastore.Entity;
+import com.google.appengine.api.datastore.FetchOptions;
+import com.google.appengine.api.datastore.Query;
+
+/**
+ * File chunk index property became indexed. Resave chunks so they can be 
+ * found by index.
+ */
+public class UpdateTask101 implements UpdateTask {
+
+	private Business business;
+	
+	public UpdateTask101(Business aBusiness) {
+		business = aBusiness;
+	}
+	
+	private Business getBusiness() {
+		return business;
+	}
+
+	@Override
+	public String getFromVersion() {
+		return "1.0";
+	}
+
+	@Override
+	public String getToVersion() {
+		return "1.0.1";
+	}
+
+	@Override
+	public String update() throws UpdateException {
+		updateFileChunks();
+		return "Successfully updated to 1.0.1 version.";
+	}
+
+	private void updateFileChunks() {
+		DatastoreService datastore = getBusiness().getSystemService()
+				.getDatastore();
+		Query query = new Query("FileChunkEntity");
+		for (Entity e : datastore.prepare(query).asIterable(
+				FetchOptions.Builder.withChunkSize(1))) {
+			e.setProperty("index", e.getProperty("index"));
+			datastore.put(e);
+		}
+	}
+
+}
@@ -62,8 +62,8 @@ import org.vosao.velocity.VelocityService;
 public class VelocityServiceImpl extends AbstractServiceBeanImpl 
 		implements VelocityService {
 
-	private TagVelocityService tagVelocityService;
-	private PicasaVelocityService picasaVelocityService;
+	private volatile TagVelocityService tagVelocityService;
+	private volatile PicasaVelocityService picasaVelocityService;
 	
 	public VelocityServiceImpl(Business business) {
 		super(business);
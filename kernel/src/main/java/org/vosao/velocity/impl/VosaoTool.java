@@ -65,11 +65,22 @@ public class VosaoTool {
 		return list;
 	}
 	
+	/**
+	 * Rendered page depends on current user or request and must not be 
+	 * shared between users.
+	 */
+	private void setUserSpecific() {
+		VosaoContext.getInstance().getPageRenderingContext()
+				.setUserSpecific(true);
+	}
+	
 	public boolean isLoggedIn() {
+		setUserSpecific();
 		return VosaoContext.getInstance().getUser() != null;
 	}
 	
 	public UserEntity getUser() {
+		setUserSpecific();
 		return VosaoContext.getInstance().getUser();
 	}
 	
@@ -78,6 +89,7 @@ public class VosaoTool {
 	}
 	
 	public void setSessionAttribute(String name, Object value) {
+		setUserSpecific();
 		VosaoContext.getInstance().getRequest().getSession().setAttribute(
 				name, value);
 	}
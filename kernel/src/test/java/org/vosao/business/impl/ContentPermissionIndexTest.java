@@ -0,0 +1,84 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import static org.vosao.enums.ContentPermissionType.DENIED;
+import static org.vosao.enums.ContentPermissionType.PUBLISH;
+import static org.vosao.enums.ContentPermissionType.READ;
+import static org.vosao.enums.ContentPermissionType.WRITE;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import junit.framework.TestCase;
+
+import org.vosao.entity.ContentPermissionEntity;
+
+public class ContentPermissionIndexTest extends TestCase {
+
+	private static final Long GUESTS = 1L;
+	private static final Long EDITORS = 2L;
+	
+	private ContentPermissionIndex createIndex() {
+		ContentPermissionEntity editorsNews = new ContentPermissionEntity(
+				"/news", WRITE, EDITORS);
+		editorsNews.setAllLanguages(false);
+		editorsNews.setLanguages("en");
+		return new ContentPermissionIndex(Arrays.asList(
+				new ContentPermissionEntity("/", READ, GUESTS),
+				new ContentPermissionEntity("/private", DENIED, GUESTS),
+				editorsNews,
+				new ContentPermissionEntity("/news/hot", PUBLISH, EDITORS)), 
+				1);
+	}
+	
+	public void testGroupPermission() {
+		ContentPermissionIndex index = createIndex();
+		assertEquals(READ, index.getGroupPermission("/", GUESTS)
+				.getPermission());
+		assertEquals(READ, index.getGroupPermission("/news/today", GUESTS)
+				.getPermission());
+		assertEquals(DENIED, index.getGroupPermission("/private/page", 
+				GUESTS).getPermission());
+		assertEquals(WRITE, index.getGroupPermission("/news/today", EDITORS)
+				.getPermission());
+		assertNull(index.getGroupPermission("/about", EDITORS));
+	}
+
+	public void testPermission() {
+		ContentPermissionIndex index = createIndex();
+		ContentPermissionEntity perm = index.getPermission("/news/today", 
+				Arrays.asList(EDITORS, GUESTS));
+		assertEquals(WRITE, perm.getPermission());
+		assertFalse(perm.isAllLanguages());
+		assertEquals("en", perm.getLanguages());
+		perm.setUrl("/news/today");
+		assertEquals(PUBLISH, index.getPermission("/news/hot/1", 
+				Arrays.asList(GUESTS, EDITORS)).getPermission());
+		assertEquals(DENIED, index.getPermission("/private", 
+				Collections.singletonList(GUESTS)).getPermission());
+		assertNull(index.getPermission("/news/today", 
+				Arrays.asList(GUESTS, EDITORS)).getUrl());
+	}
+	
+}
@@ -0,0 +1,89 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import static org.vosao.enums.FolderPermissionType.DENIED;
+import static org.vosao.enums.FolderPermissionType.READ;
+import static org.vosao.enums.FolderPermissionType.WRITE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.vosao.entity.FolderEntity;
+import org.vosao.entity.FolderPermissionEntity;
+import org.vosao.test.AbstractVosaoContextTest;
+
+public class FolderTreeTest extends AbstractVosaoContextTest {
+
+	private static final Long GUESTS = 1L;
+	private static final Long EDITORS = 2L;
+	
+	private FolderEntity addFolder(List<FolderEntity> list, String name, 
+			Long parent, long id) {
+		FolderEntity folder = new FolderEntity(name, parent);
+		folder.setId(id);
+		list.add(folder);
+		return folder;
+	}
+	
+	private FolderTree createTree() {
+		List<FolderEntity> folders = new ArrayList<FolderEntity>();
+		addFolder(folders, "/", null, 1);
+		addFolder(folders, "theme", 1L, 2);
+		addFolder(folders, "default", 2L, 3);
+		addFolder(folders, "private", 1L, 4);
+		addFolder(folders, "docs", 4L, 5);
+		return new FolderTree(folders, Arrays.asList(
+				new FolderPermissionEntity(1L, READ, GUESTS),
+				new FolderPermissionEntity(2L, WRITE, EDITORS),
+				new FolderPermissionEntity(4L, DENIED, GUESTS)), 1, 1);
+	}
+	
+	public void testGetByPath() {
+		FolderTree tree = createTree();
+		assertEquals(Long.valueOf(1), tree.getByPath("/").getId());
+		assertEquals(Long.valueOf(3), tree.getByPath("/theme/default")
+				.getId());
+		assertEquals(Long.valueOf(3), tree.getByPath("theme//default/")
+				.getId());
+		assertNull(tree.getByPath("/theme/other"));
+		assertEquals("/private/docs", tree.getFolderPath(5L));
+		assertEquals(2, tree.getChildren(1L).size());
+		assertEquals(5, tree.getFolders().size());
+		assertTrue(tree.isActual(1, 1));
+		assertFalse(tree.isActual(1, 2));
+	}
+
+	public void testGroupPermission() {
+		FolderTree tree = createTree();
+		assertEquals(READ, tree.getGroupPermission(3L, GUESTS)
+				.getPermission());
+		assertEquals(WRITE, tree.getGroupPermission(3L, EDITORS)
+				.getPermission());
+		assertEquals(DENIED, tree.getGroupPermission(5L, GUESTS)
+				.getPermission());
+		assertNull(tree.getGroupPermission(5L, EDITORS));
+	}
+	
+}
@@ -0,0 +1,53 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.Arrays;
+import java.util.Set;
+
+import junit.framework.TestCase;
+
+import org.vosao.entity.PageDependencyEntity;
+
+public class PageDependencyGraphTest extends TestCase {
+
+	public void testDependentPages() {
+		PageDependencyGraph graph = new PageDependencyGraph(Arrays.asList(
+				new PageDependencyEntity("/blog", "/"),
+				new PageDependencyEntity("/blog", "/news"),
+				new PageDependencyEntity("/news", "/sitemap"),
+				new PageDependencyEntity("/sitemap", "/news"),
+				new PageDependencyEntity("/about", "/contacts")));
+		Set<String> pages = graph.getDependentPages(Arrays.asList(
+				"/blog/post1"));
+		assertEquals(3, pages.size());
+		assertTrue(pages.contains("/"));
+		assertTrue(pages.contains("/news"));
+		assertTrue(pages.contains("/sitemap"));
+		assertTrue(graph.getDependentPages(Arrays.asList("/contacts"))
+				.isEmpty());
+		assertEquals(1, graph.getDependentPages(Arrays.asList("/about/team"))
+				.size());
+	}
+	
+}
@@ -0,0 +1,95 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+public class PageHitSketchTest extends TestCase {
+
+	public void testEstimate() {
+		PageHitSketch sketch = new PageHitSketch(256, 10, 1000000);
+		for (int i = 0; i < 50; i++) {
+			sketch.add("en:/hot");
+		}
+		for (int i = 0; i < 500; i++) {
+			sketch.add("en:/page" + i);
+		}
+		assertTrue(sketch.estimate("en:/hot") >= 50);
+		assertTrue(sketch.estimate("en:/page1") >= 1);
+		assertEquals(0, new PageHitSketch(256, 10, 1000000).estimate("en:/"));
+	}
+
+	public void testTop() {
+		PageHitSketch sketch = new PageHitSketch(1024, 5, 1000000);
+		for (int round = 0; round < 20; round++) {
+			for (int i = 0; i < 3; i++) {
+				for (int j = 0; j <= i; j++) {
+					sketch.add("en:/hot" + i);
+				}
+			}
+			for (int i = 0; i < 50; i++) {
+				sketch.add("en:/cold" + (round * 50 + i));
+			}
+		}
+		List<String> top = sketch.getTop(3);
+		assertEquals(3, top.size());
+		assertEquals("en:/hot2", top.get(0));
+		assertEquals("en:/hot1", top.get(1));
+		assertEquals("en:/hot0", top.get(2));
+		assertEquals(5, sketch.getTop(100).size());
+	}
+
+	public void testDecay() {
+		PageHitSketch sketch = new PageHitSketch(256, 10, 100);
+		for (int i = 0; i < 100; i++) {
+			sketch.add("en:/");
+		}
+		assertEquals(50, sketch.estimate("en:/"));
+		assertEquals("en:/", sketch.getTop(1).get(0));
+	}
+
+	public void testMerge() {
+		Map<String, Integer> local = new HashMap<String, Integer>();
+		local.put("en:/a", 10);
+		local.put("en:/b", 4);
+		Map<String, Integer> shared = new HashMap<String, Integer>();
+		shared.put("en:/b", 20);
+		shared.put("en:/c", 16);
+		shared.put("en:/d", 2);
+		Map<String, Integer> merged = PageHitSketch.merge(local, shared, 3);
+		List<String> keys = new ArrayList<String>(merged.keySet());
+		assertEquals(3, keys.size());
+		assertEquals("en:/b", keys.get(0));
+		assertEquals("en:/a", keys.get(1));
+		assertEquals("en:/c", keys.get(2));
+		assertEquals(Integer.valueOf(14), merged.get("en:/b"));
+		assertEquals(Integer.valueOf(8), merged.get("en:/c"));
+		assertEquals(2, PageHitSketch.merge(local, null, 3).size());
+	}
+	
+}
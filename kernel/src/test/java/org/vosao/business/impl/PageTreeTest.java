@@ -0,0 +1,102 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.vosao.entity.PageEntity;
+import org.vosao.enums.PageState;
+import org.vosao.test.AbstractVosaoContextTest;
+
+public class PageTreeTest extends AbstractVosaoContextTest {
+
+	private PageEntity createPage(String url, int version, int sortIndex, 
+			boolean approved, long id) {
+		PageEntity page = new PageEntity(url, url);
+		page.setVersion(version);
+		page.setSortIndex(sortIndex);
+		page.setState(approved ? PageState.APPROVED : PageState.EDIT);
+		page.setId(id);
+		return page;
+	}
+	
+	private PageTree createTree() {
+		List<PageEntity> pages = new ArrayList<PageEntity>();
+		pages.add(createPage("/", 1, 0, true, 1));
+		pages.add(createPage("/news", 1, 2, true, 2));
+		pages.add(createPage("/news", 2, 2, false, 3));
+		pages.add(createPage("/about", 1, 1, false, 4));
+		pages.add(createPage("/news/first", 1, 0, true, 5));
+		pages.add(createPage("/news/_default", 1, 0, true, 6));
+		return new PageTree(pages, 1, 1, new Date());
+	}
+	
+	private List<String> getChildUrls(PageTree tree, String url) {
+		List<String> result = new ArrayList<String>();
+		for (PageEntity page : tree.getChildren(url)) {
+			result.add(page.getFriendlyURL());
+		}
+		return result;
+	}
+	
+	public void testTree() {
+		PageTree tree = createTree();
+		assertEquals("/", tree.getRootUrl());
+		assertEquals(Arrays.asList("/about", "/news"), 
+				getChildUrls(tree, "/"));
+		assertEquals(Arrays.asList("/news/first"), 
+				getChildUrls(tree, "/news"));
+		assertEquals(Integer.valueOf(2), tree.getPage("/news").getVersion());
+		assertTrue(tree.isPublished("/news"));
+		assertFalse(tree.isPublished("/about"));
+		assertTrue(tree.hasChildren("/news"));
+		assertFalse(tree.hasChildren("/about"));
+		assertNull(tree.getPage("/news/_default"));
+	}
+
+	public void testUpdate() {
+		PageTree tree = createTree();
+		PageEntity moved = createPage("/about/first", 1, 0, true, 5);
+		PageEntity added = createPage("/contacts", 1, 0, false, 7);
+		PageEntity approved = createPage("/about", 1, 1, true, 4);
+		PageTree updated = new PageTree(tree, Arrays.asList(moved, added, 
+				approved), 2, new Date());
+		assertEquals(Arrays.asList("/contacts", "/about", "/news"), 
+				getChildUrls(updated, "/"));
+		assertEquals(Arrays.asList("/about/first"), 
+				getChildUrls(updated, "/about"));
+		assertFalse(updated.hasChildren("/news"));
+		assertTrue(updated.isPublished("/about"));
+		assertNull(updated.getPage("/news/first"));
+		
+		assertEquals(Arrays.asList("/about", "/news"), 
+				getChildUrls(tree, "/"));
+		assertEquals(Arrays.asList("/news/first"), 
+				getChildUrls(tree, "/news"));
+		assertFalse(tree.isPublished("/about"));
+	}
+	
+}
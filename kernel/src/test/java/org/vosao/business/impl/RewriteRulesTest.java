@@ -0,0 +1,57 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+public class RewriteRulesTest extends TestCase {
+
+	public void testLiteralPrefix() {
+		assertEquals("/blog/", RewriteRules.getLiteralPrefix("/blog/(.*)"));
+		assertEquals("/blog/", RewriteRules.getLiteralPrefix("^/blog/.*"));
+		assertEquals("/a.html", RewriteRules.getLiteralPrefix("/a\\.html"));
+		assertEquals("/blog", RewriteRules.getLiteralPrefix("/blogs?/.*"));
+		assertEquals("", RewriteRules.getLiteralPrefix("/a|/b"));
+		assertEquals("/", RewriteRules.getLiteralPrefix("/(a|b)"));
+		assertEquals("", RewriteRules.getLiteralPrefix("(?i)/blog"));
+		assertEquals("/", RewriteRules.getLiteralPrefix("/\\d+"));
+	}
+
+	public void testRewrite() {
+		Map<String, String> map = new LinkedHashMap<String, String>();
+		map.put("/blog/(.*)", "/news/$1");
+		map.put("/blog/old", "/archive");
+		map.put(".*\\.htm", "/html");
+		map.put("/wrong(", "/never");
+		RewriteRules rules = new RewriteRules(map);
+		assertEquals("/news/today", rules.rewrite("/blog/today"));
+		assertEquals("/archive", rules.rewrite("/blog/old"));
+		assertEquals("/html", rules.rewrite("/blog/a.htm"));
+		assertEquals("/about", rules.rewrite("/about"));
+		assertEquals("/news/today", rules.rewrite("/blog/today"));
+	}
+	
+}
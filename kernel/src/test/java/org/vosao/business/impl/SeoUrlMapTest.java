@@ -0,0 +1,57 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.vosao.entity.SeoUrlEntity;
+
+public class SeoUrlMapTest extends TestCase {
+
+	public void testGetToLink() {
+		List<SeoUrlEntity> list = new ArrayList<SeoUrlEntity>();
+		for (int i = 0; i < 20000; i++) {
+			list.add(new SeoUrlEntity("/old/" + i, "/new/" + i));
+		}
+		list.add(new SeoUrlEntity(null, "/null"));
+		SeoUrlMap map = new SeoUrlMap(list, 1);
+		assertEquals(20000, map.size());
+		for (int i = 0; i < 20000; i++) {
+			assertEquals("/new/" + i, map.getToLink("/old/" + i));
+		}
+		for (int i = 0; i < 20000; i++) {
+			assertNull(map.getToLink("/page/" + i));
+		}
+		assertNull(map.getToLink(null));
+	}
+
+	public void testEmpty() {
+		SeoUrlMap map = new SeoUrlMap(new ArrayList<SeoUrlEntity>(), 1);
+		assertEquals(0, map.size());
+		assertNull(map.getToLink("/"));
+	}
+	
+}
@@ -0,0 +1,101 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.business.impl.pagefilter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.vosao.entity.PageEntity;
+
+public class PageFilterWriterTest extends TestCase {
+
+	private static final String PAGE = "<html><HEAD><title>a</title>"
+		+ "<script>if (a<b && c>d) f();</script></head>\n"
+		+ "<body class=\"main\">a < b<p>text</p></body></html>";
+	
+	private static class TagFilter implements PageFilter {
+
+		@Override
+		public String apply(String name, String tag, PageEntity page) {
+			if (name.equals("head")) {
+				return tag + "[head]";
+			}
+			if (name.equals("/body")) {
+				return "[body]" + tag;
+			}
+			return tag;
+		}
+	}
+	
+	private String filter(String content, List<PageFilter> filters, 
+			PageEntity page, int chunk) throws IOException {
+		StringWriter result = new StringWriter();
+		PageFilterWriter out = new PageFilterWriter(result, filters, page);
+		for (int i = 0; i < content.length(); i += chunk) {
+			out.write(content.substring(i, Math.min(content.length(), 
+					i + chunk)));
+		}
+		out.close();
+		return result.toString();
+	}
+	
+	public void testTagFilter() throws IOException {
+		List<PageFilter> filters = new ArrayList<PageFilter>();
+		filters.add(new TagFilter());
+		String expected = "<html><HEAD>[head]<title>a</title>"
+			+ "<script>if (a<b && c>d) f();</script></head>\n"
+			+ "<body class=\"main\">a < b<p>text</p>[body]</body></html>";
+		assertEquals(expected, filter(PAGE, filters, new PageEntity(), 1000));
+		assertEquals(expected, filter(PAGE, filters, new PageEntity(), 1));
+		assertEquals(expected, filter(PAGE, filters, new PageEntity(), 7));
+	}
+
+	public void testNoFilters() throws IOException {
+		assertEquals(PAGE, filter(PAGE, new ArrayList<PageFilter>(), 
+				new PageEntity(), 5));
+		assertEquals("text <b", filter("text <b", new ArrayList<PageFilter>(), 
+				new PageEntity(), 5));
+	}
+	
+	public void testMetaFilter() throws IOException {
+		PageEntity page = new PageEntity();
+		page.setDescription("new");
+		page.setKeywords("one");
+		List<PageFilter> filters = new ArrayList<PageFilter>();
+		filters.add(new MetaPageFilter());
+		assertEquals("<head><meta name=\"description\" content=\"new\" />"
+				+ "\n<meta name=\"keywords\" content=\"one\" />\n</head>", 
+				filter("<head></head>", filters, page, 3));
+		filters.clear();
+		filters.add(new MetaPageFilter());
+		assertEquals("<head><meta name=\"description\" content=\"new\" />"
+				+ "<meta name=\"keywords\" content=\"one\" />\n</head>", 
+				filter("<head><meta name=\"description\" content=\"old\" />"
+						+ "</head>", filters, page, 4));
+	}
+	
+}
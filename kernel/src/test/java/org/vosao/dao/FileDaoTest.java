@@ -23,6 +23,8 @@
 package org.vosao.dao;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,6 +36,7 @@ import org.vosao.dao.tool.FolderTool;
 import org.vosao.entity.FileChunkEntity;
 import org.vosao.entity.FileEntity;
 import org.vosao.entity.FolderEntity;
+import org.vosao.utils.HashUtil;
 import org.vosao.utils.StreamUtil;
 
 import com.google.appengine.api.datastore.Blob;
@@ -183,6 +186,27 @@ public class FileDaoTest extends AbstractDaoTest {
 		assertEquals(content.length, cont.length);	
 	}
 
+	public void testWriteFileContent() throws IOException {
+		FolderEntity folder = folderTool.addFolder("test");
+		byte[] content = new byte[2500000];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte)i;
+		}
+		FileEntity file = fileTool.addFile("title1", "test.bat1", "text/plain", 
+				content, folder);
+		assertEquals(HashUtil.getMD5(content), file.getHash());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		getDao().getFileDao().writeFileContent(file, out, 999990, 1000020);
+		byte[] part = out.toByteArray();
+		assertEquals(1000020, part.length);
+		for (int i = 0; i < part.length; i++) {
+			assertEquals(content[999990 + i], part[i]);
+		}
+		out = new ByteArrayOutputStream();
+		getDao().getFileDao().writeFileContent(file, out, 0, content.length);
+		assertTrue(Arrays.equals(content, out.toByteArray()));
+	}
+
 	public void testRemove() {
 		FolderEntity folder = folderTool.addFolder("test");
 		FileEntity t1 = fileTool.addFile("title1", "test.bat1", "text/plain", 
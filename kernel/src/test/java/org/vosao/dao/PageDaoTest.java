@@ -104,6 +104,16 @@ public class PageDaoTest extends AbstractDaoTest {
 		assertEquals(2, pages.size());
 	}	
 	
+	public void testPrefetchByUrl() {
+		pageTool.addPage("title1", "/url1");
+		assertEquals(1, getDao().getPageDao().selectByUrl("/url1").size());
+		getDao().getPageDao().prefetchByUrl("/url1");
+		getDao().getPageDao().prefetchByUrl("/url1");
+		List<PageEntity> pages = getDao().getPageDao().selectByUrl("/url1");
+		assertEquals(1, pages.size());
+		assertEquals("title1", pages.get(0).getTitle());
+	}	
+
 	public void testGetByUrl() {
 		PageEntity root = pageTool.addPage("root", "/");
 		pageTool.addPage("title1", "/url1");
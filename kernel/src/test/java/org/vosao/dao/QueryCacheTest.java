@@ -0,0 +1,117 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.dao;
+
+import java.util.Arrays;
+
+import org.vosao.dao.tool.CommentTool;
+import org.vosao.dao.tool.PageTool;
+import org.vosao.entity.CommentEntity;
+import org.vosao.entity.PageEntity;
+
+public class QueryCacheTest extends AbstractDaoTest {
+
+	private PageTool pageTool;
+	private CommentTool commentTool;
+	private PageEntity page;
+	private PageEntity page2;
+	private PageEntity page3;
+	private CommentEntity comment;
+	
+	@Override
+    public void setUp() throws Exception {
+        super.setUp();
+        pageTool = new PageTool(getDao());
+        commentTool = new CommentTool(getDao());
+        page = pageTool.addPage("test");
+        page2 = pageTool.addPage("test2");
+        page3 = pageTool.addPage("test3");
+        comment = commentTool.addComment("alex", "content1", page);
+        commentTool.addComment("yuri", "content2", page3);
+        nextMillisecond();
+        getByPage(page, page2, page3);
+        nextMillisecond();
+	}    
+
+	/**
+	 * Reset dates have millisecond precision.
+	 */
+	private void nextMillisecond() throws InterruptedException {
+		Thread.sleep(5);
+	}
+	
+	private void getByPage(PageEntity... pages) {
+		for (PageEntity p : pages) {
+			getDao().getCommentDao().getByPage(p.getFriendlyURL());
+		}
+	}
+	
+	private long getHits() {
+		return getDao().getDaoStat().getQueryCacheHits();
+	}
+	
+	public void testCached() {
+		long hits = getHits();
+		getByPage(page, page2, page3);
+		assertEquals(hits + 3, getHits());
+	}
+	
+	public void testSaveOldAndNewValue() throws InterruptedException {
+		comment.setPageUrl(page2.getFriendlyURL());
+		getDao().getCommentDao().save(comment);
+		nextMillisecond();
+		long hits = getHits();
+		assertEquals(0, getDao().getCommentDao().getByPage(
+				page.getFriendlyURL()).size());
+		assertEquals(1, getDao().getCommentDao().getByPage(
+				page2.getFriendlyURL()).size());
+		assertEquals(hits, getHits());
+		assertEquals(1, getDao().getCommentDao().getByPage(
+				page3.getFriendlyURL()).size());
+		assertEquals(hits + 1, getHits());
+	}
+
+	public void testSaveNotQueryProperty() throws InterruptedException {
+		comment.setName("roma");
+		getDao().getCommentDao().save(comment);
+		nextMillisecond();
+		long hits = getHits();
+		assertEquals("roma", getDao().getCommentDao().getByPage(
+				page.getFriendlyURL()).get(0).getName());
+		assertEquals(hits, getHits());
+		getByPage(page2, page3);
+		assertEquals(hits + 2, getHits());
+	}
+	
+	public void testMissingDependency() {
+		getSystemService().getCache().removeAll(Arrays.asList(
+				"queryDependency:" + CommentEntity.class.getName() 
+				+ ":pageUrl=" + page3.getFriendlyURL()));
+		long hits = getHits();
+		getByPage(page3);
+		assertEquals(hits, getHits());
+		getByPage(page2, page3);
+		assertEquals(hits + 2, getHits());
+	}
+	
+}
@@ -68,5 +68,16 @@ public class PageEntityTest extends TestCase {
 		assertEquals("/test/more/than", page.getAncestorsURL().get(2));
 		assertEquals("/test/more/than/this", page.getAncestorsURL().get(3));
 	}
+
+	public void testTitles() {
+		PageEntity page = new PageEntity();
+		page.setTitleValue("{\"en\":\"Hello\",\"fr\":\"Salut\"}");
+		assertEquals("Hello", page.getTitles().get("en"));
+		page.getTitles().put("en", "Changed");
+		assertEquals("Hello", page.getTitles().get("en"));
+		page.setTitleValue("{\"en\":\"Bye\"}");
+		assertEquals(1, page.getTitles().size());
+		assertEquals("Bye", page.getTitles().get("en"));
+	}
 	
 }
@@ -0,0 +1,71 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.global;
+
+import java.io.IOException;
+
+import junit.framework.TestCase;
+
+import org.vosao.utils.HashUtil;
+import org.vosao.utils.StrUtil;
+
+public class PageCacheItemTest extends TestCase {
+
+	public void testSmallPage() {
+		PageCacheItem item = new PageCacheItem("<p>\u043f\u0440\u0438\u0432\u0435\u0442</p>", 
+				"text/html");
+		assertEquals("<p>\u043f\u0440\u0438\u0432\u0435\u0442</p>", item.getContent());
+		assertEquals(19, item.getBytes().length);
+		assertNull(item.getGzipBytes());
+		assertEquals(HashUtil.getMD5(item.getBytes()), item.getHash());
+	}
+
+	public void testGzip() throws IOException {
+		StringBuffer page = new StringBuffer();
+		for (int i = 0; i < 100; i++) {
+			page.append("<p>paragraph ").append(i).append("</p>");
+		}
+		PageCacheItem item = new PageCacheItem(page.toString(), "text/html");
+		assertNotNull(item.getGzipBytes());
+		assertTrue(item.getGzipBytes().length < item.getBytes().length);
+		assertEquals(page.toString(), StrUtil.unzipStringFromBytes(
+				item.getGzipBytes()));
+		assertEquals(item.getHash(), new PageCacheItem(page.toString(), 
+				"text/html").getHash());
+	}
+
+	public void testStale() {
+		PageCacheItem item = new PageCacheItem("<p>page</p>", "text/html");
+		assertFalse(item.isStale());
+		assertFalse(item.isRefreshNeeded());
+		PageCacheItem stale = item.toStale();
+		assertTrue(stale.isStale());
+		assertTrue(stale.isRefreshNeeded());
+		assertFalse(item.isStale());
+		assertSame(stale, stale.toStale());
+		assertSame(item.getBytes(), stale.getBytes());
+		assertEquals(item.getHash(), stale.getHash());
+		assertEquals(item.getTimestamp(), stale.getTimestamp());
+	}
+	
+}
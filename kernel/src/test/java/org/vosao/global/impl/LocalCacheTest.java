@@ -0,0 +1,106 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.global.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.vosao.dao.cache.impl.CacheItem;
+import org.vosao.global.PageCacheItem;
+
+public class LocalCacheTest extends TestCase {
+
+	public void testGetPut() {
+		LocalCache cache = new LocalCache(10, 10000, 10000);
+		assertNull(cache.getEntry("one"));
+		cache.put("one", "1");
+		cache.put("none", null);
+		assertEquals("1", cache.getEntry("one").getValue());
+		assertNotNull(cache.getEntry("none"));
+		assertNull(cache.getEntry("none").getValue());
+		assertEquals(3, cache.getCacheHits());
+		assertEquals(1, cache.getCacheMisses());
+		cache.remove("one");
+		assertNull(cache.getEntry("one"));
+		assertEquals(1, cache.size());
+	}
+	
+	public void testEntriesLimit() {
+		LocalCache cache = new LocalCache(3, 10000, 10000);
+		cache.put("1", "1");
+		cache.put("2", "2");
+		cache.put("3", "3");
+		cache.getEntry("1");
+		cache.put("4", "4");
+		assertEquals(3, cache.size());
+		assertNull(cache.getEntry("2"));
+		assertNotNull(cache.getEntry("1"));
+		assertEquals(1, cache.getEvictions());
+	}
+
+	public void testBytesLimit() {
+		LocalCache cache = new LocalCache(100, 1000, 10000);
+		cache.put("1", new byte[400]);
+		cache.put("2", new byte[400]);
+		cache.put("3", new byte[400]);
+		assertEquals(2, cache.size());
+		assertEquals(800, cache.getBytes());
+		assertNull(cache.getEntry("1"));
+		cache.put("4", new byte[2000]);
+		assertNull(cache.getEntry("4"));
+		assertEquals(800, cache.getBytes());
+	}
+	
+	public void testItemSize() {
+		LocalCache cache = new LocalCache(100, 100000, 10000);
+		StringBuffer content = new StringBuffer();
+		for (int i = 0; i < 5000; i++) {
+			content.append((char)('a' + i * 7 % 26));
+		}
+		cache.put("page", new PageCacheItem(content.toString(), "text/html"));
+		assertTrue(cache.getBytes() > 5000);
+		cache.remove("page");
+		cache.put("entity", new CacheItem(new byte[3000]));
+		assertTrue(cache.getBytes() > 3000);
+		cache.remove("entity");
+		List<Long> ids = new ArrayList<Long>();
+		for (long i = 0; i < 1000; i++) {
+			ids.add(i);
+		}
+		cache.put("query", new CacheItem(ids));
+		assertTrue(cache.getBytes() > 10000);
+	}
+	
+	public void testExpire() throws InterruptedException {
+		LocalCache cache = new LocalCache(100, 1000, 10);
+		cache.put("1", "1");
+		Thread.sleep(20);
+		assertFalse(cache.containsKey("1"));
+		cache.evictExpired();
+		assertEquals(0, cache.size());
+		assertEquals(0, cache.getBytes());
+	}
+	
+}
@@ -0,0 +1,71 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.i18n;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+public class MessageBundleTest extends TestCase {
+
+	public void testGet() {
+		Map<String, String> messages = new HashMap<String, String>();
+		messages.put("title", "Title");
+		messages.put("about", "About");
+		messages.put("empty", null);
+		MessageBundle bundle = new MessageBundle(messages);
+		assertEquals(2, bundle.size());
+		assertEquals("Title", bundle.get("title"));
+		assertEquals("About", bundle.get("about"));
+		assertNull(bundle.get("empty"));
+		assertNull(bundle.get("other"));
+		assertNull(bundle.get(1));
+		assertTrue(bundle.containsKey("about"));
+		assertFalse(bundle.containsKey("empty"));
+		messages.remove("empty");
+		assertEquals(messages, bundle);
+		assertEquals("about", bundle.keySet().iterator().next());
+	}
+
+	public void testImmutable() {
+		Map<String, String> messages = new HashMap<String, String>();
+		messages.put("title", "Title");
+		MessageBundle bundle = new MessageBundle(messages);
+		try {
+			bundle.put("title", "Other");
+			fail();
+		}
+		catch (UnsupportedOperationException e) {
+		}
+		try {
+			bundle.entrySet().iterator().next().setValue("Other");
+			fail();
+		}
+		catch (UnsupportedOperationException e) {
+		}
+		messages.put("title", "Other");
+		assertEquals("Title", bundle.get("title"));
+	}
+	
+}
@@ -0,0 +1,167 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.search.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+public class IndexSegmentTest extends TestCase {
+
+	private static void assertPages(long[] expected, long[] actual) {
+		assertTrue(Arrays.toString(actual), Arrays.equals(expected, actual));
+	}
+	
+	private static IndexSegment add(IndexSegment segment, long pageId, 
+			String... words) {
+		Map<String, Integer> freqs = new HashMap<String, Integer>();
+		for (String word : words) {
+			Integer freq = freqs.get(word);
+			freqs.put(word, freq == null ? 1 : freq + 1);
+		}
+		return segment.add(pageId, freqs, words.length, "/page" + pageId,
+				Arrays.toString(words));
+	}
+	
+	public void testAddRemove() {
+		IndexSegment segment = add(IndexSegment.EMPTY, 5L, "vosao", "cms", 
+				"page");
+		segment = add(segment, 3L, "cms", "engine");
+		segment = add(segment, 5L, "cms", "cms", "vosao");
+		assertEquals(3, segment.getTermsCount());
+		assertEquals(2, segment.getPagesCount());
+		assertEquals(5, segment.getTotalLength());
+		assertPages(new long[] {3L, 5L}, segment.getPages("cms"));
+		assertTrue(Arrays.equals(new int[] {1, 2}, 
+				segment.getFrequencies("cms")));
+		assertPages(new long[] {5L}, segment.getPages("vosao"));
+		assertPages(new long[0], segment.getPages("missing"));
+		assertEquals(3, segment.getPageLength(5L));
+		assertEquals("[cms, engine]", segment.getPageText(3L));
+		assertEquals("/page3", segment.getPageUrl(3L));
+		segment = segment.remove(new long[] {5L});
+		assertEquals(2, segment.getTermsCount());
+		assertPages(new long[] {3L}, segment.getPages("cms"));
+		assertFalse(segment.containsTerm("vosao"));
+		assertNull(segment.getPageText(5L));
+		assertNull(segment.getPageUrl(5L));
+		assertEquals(-1, segment.getPageLength(5L));
+	}
+	
+	public void testBytes() throws Exception {
+		IndexSegment segment = add(IndexSegment.EMPTY, 1L, "search", 
+				"searching", "\u00e9t\u00e9", "search");
+		segment = add(segment, 300000000000L, "search", "\u00e9t\u00e9s");
+		segment = add(segment, 2L, "searched").delete(new long[] {7L});
+		byte[] data = segment.toBytes();
+		assertTrue(IndexSegment.isSegment(data));
+		IndexSegment loaded = IndexSegment.fromBytes(data);
+		assertEquals(segment.getTermsCount(), loaded.getTermsCount());
+		assertPages(new long[] {1L, 300000000000L}, loaded.getPages("search"));
+		assertTrue(Arrays.equals(new int[] {2, 1}, 
+				loaded.getFrequencies("search")));
+		assertPages(new long[] {2L}, loaded.getPages("searched"));
+		assertPages(new long[] {1L}, loaded.getPages("searching"));
+		assertPages(new long[] {1L}, loaded.getPages("\u00e9t\u00e9"));
+		assertPages(new long[] {300000000000L}, 
+				loaded.getPages("\u00e9t\u00e9s"));
+		assertPages(new long[] {7L}, loaded.getDeleted());
+		assertEquals(4, loaded.getPageLength(1L));
+		assertEquals("[search, \u00e9t\u00e9s]", 
+				loaded.getPageText(300000000000L));
+		assertEquals("/page2", loaded.getPageUrl(2L));
+		assertTrue(IndexSegment.fromBytes(IndexSegment.EMPTY.toBytes())
+				.isEmpty());
+	}
+	
+	public void testLegacyString() {
+		IndexSegment segment = IndexSegment.fromLegacyString(
+				"cms=7,3,5:page=5:broken");
+		assertEquals(2, segment.getTermsCount());
+		assertPages(new long[] {3L, 5L, 7L}, segment.getPages("cms"));
+		assertTrue(Arrays.equals(new int[] {1, 1, 1}, 
+				segment.getFrequencies("cms")));
+		assertPages(new long[] {5L}, segment.getPages("page"));
+		assertTrue(IndexSegment.fromLegacyString("").isEmpty());
+	}
+	
+	public void testMerge() throws Exception {
+		IndexSegment base = add(IndexSegment.EMPTY, 1L, "cms", "page");
+		base = add(base, 2L, "cms", "engine");
+		IndexSegment delta1 = add(IndexSegment.EMPTY.delete(new long[] {1L}),
+				1L, "cms", "site");
+		IndexSegment delta2 = IndexSegment.fromBytes(IndexSegment.EMPTY
+				.delete(new long[] {2L}).toBytes());
+		assertPages(new long[] {2L}, delta2.getDeleted());
+		
+		IndexSegment merged = base.merge(delta1.merge(delta2));
+		assertPages(new long[] {1L, 2L}, merged.getDeleted());
+		merged = merged.withoutDeleted();
+		assertEquals(2, merged.getTermsCount());
+		assertEquals(1, merged.getPagesCount());
+		assertPages(new long[] {1L}, merged.getPages("cms"));
+		assertPages(new long[] {1L}, merged.getPages("site"));
+		assertEquals("[cms, site]", merged.getPageText(1L));
+		assertPages(merged.getPages("cms"), 
+				base.merge(delta1).merge(delta2).getPages("cms"));
+	}
+	
+	public void testScore() {
+		IndexSegment segment = add(IndexSegment.EMPTY, 1L, "cms", "java", 
+				"page", "page");
+		segment = add(segment, 2L, "cms", "java", "java", "java");
+		segment = add(segment, 3L, "cms", "python");
+		assertTrue(segment.score(Arrays.asList("missing")).isEmpty());
+		assertEquals(3, segment.score(Arrays.asList("cms")).size());
+		List<ScoredPage> pages = ScoredPage.top(
+				segment.score(Arrays.asList("java", "cms")), 10);
+		assertEquals(2, pages.size());
+		assertEquals(2L, pages.get(0).getPageId());
+		assertEquals(1L, pages.get(1).getPageId());
+		assertTrue(pages.get(0).getScore() > pages.get(1).getScore());
+	}
+	
+	public void testTop() {
+		List<ScoredPage> pages = Arrays.asList(new ScoredPage(1L, 0.5),
+				new ScoredPage(2L, 2.0), new ScoredPage(3L, 1.0),
+				new ScoredPage(4L, 3.0), new ScoredPage(5L, 1.0));
+		List<ScoredPage> top = ScoredPage.top(pages, 3);
+		assertEquals(3, top.size());
+		assertEquals(4L, top.get(0).getPageId());
+		assertEquals(2L, top.get(1).getPageId());
+		assertEquals(3L, top.get(2).getPageId());
+		assertEquals(5, ScoredPage.top(pages, 10).size());
+		assertTrue(ScoredPage.top(pages, 0).isEmpty());
+	}
+	
+	public void testSetOperations() {
+		long[] a = {1L, 3L, 5L, 7L};
+		long[] b = {3L, 4L, 7L};
+		assertPages(new long[] {3L, 7L}, IndexSegment.intersect(a, b));
+		assertPages(new long[] {1L, 3L, 4L, 5L, 7L}, IndexSegment.union(a, b));
+	}
+	
+}
@@ -0,0 +1,62 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.servlet;
+
+import junit.framework.TestCase;
+
+public class ByteRangeTest extends TestCase {
+
+	public void testParse() {
+		ByteRange range = ByteRange.parse("bytes=0-499", 1000);
+		assertEquals(0, range.getStart());
+		assertEquals(499, range.getEnd());
+		assertEquals(500, range.getLength());
+		assertEquals("bytes 0-499/1000", range.getContentRange(1000));
+		range = ByteRange.parse("bytes=500-", 1000);
+		assertEquals(500, range.getStart());
+		assertEquals(999, range.getEnd());
+		range = ByteRange.parse("bytes=-100", 1000);
+		assertEquals(900, range.getStart());
+		assertEquals(999, range.getEnd());
+		range = ByteRange.parse("bytes=900-2000", 1000);
+		assertEquals(999, range.getEnd());
+		range = ByteRange.parse("bytes=-2000", 1000);
+		assertEquals(0, range.getStart());
+	}
+
+	public void testIgnored() {
+		assertNull(ByteRange.parse(null, 1000));
+		assertNull(ByteRange.parse("items=0-10", 1000));
+		assertNull(ByteRange.parse("bytes=0-10,20-30", 1000));
+		assertNull(ByteRange.parse("bytes=10-5", 1000));
+		assertNull(ByteRange.parse("bytes=a-b", 1000));
+	}
+
+	public void testNotSatisfiable() {
+		ByteRange range = ByteRange.parse("bytes=1000-", 1000);
+		assertFalse(range.isSatisfiable());
+		assertEquals("bytes */1000", range.getContentRange(1000));
+		assertFalse(ByteRange.parse("bytes=-0", 1000).isSatisfiable());
+	}
+
+}
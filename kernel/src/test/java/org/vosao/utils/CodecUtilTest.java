@@ -0,0 +1,57 @@
+/**
+ * Vosao CMS. Simple CMS for Google App Engine.
+ * 
+ * Copyright (C) 2009-2010 Vosao development team.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301  USA
+ *
+ * email: vosao.dev@gmail.com
+ */
+
+package org.vosao.utils;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+public class CodecUtilTest extends TestCase {
+
+	public void testMap() {
+		Map<String, Object> map = new HashMap<String, Object>();
+		map.put("title", "Caf\u00e9 \u0444\u0430\u0439\u043b");
+		map.put("long", -1234567890123L);
+		map.put("int", 42);
+		map.put("bool", true);
+		map.put("double", 3.25);
+		map.put("date", new Date(1300000000000L));
+		map.put("empty", null);
+		byte[] data = CodecUtil.encodeMap(map);
+		assertTrue(CodecUtil.isEncoded(data));
+		Map<String, Object> result = CodecUtil.decodeMap(data);
+		assertEquals(map, result);
+	}
+
+	public void testNotSupported() {
+		Map<String, Object> map = new HashMap<String, Object>();
+		map.put("list", new ArrayList());
+		assertNull(CodecUtil.encodeMap(map));
+		assertNull(CodecUtil.decodeMap(StreamUtil.toBytes(
+				new HashMap<String, String>())));
+	}
+
+}
@@ -165,6 +165,9 @@ function(indexHtml, ctx, version, breadcrumbs) {
 		$('#cached').each(function() {
 			this.checked = ctx.page.cached;
 		});
+		$('#userCached').each(function() {
+			this.checked = ctx.page.userCached;
+		});
 		$('#restful').each(function() {
 			this.checked = ctx.page.restful;
 		});
@@ -234,6 +237,7 @@ function(indexHtml, ctx, version, breadcrumbs) {
 			enableCkeditor : String($('#enableCkeditor:checked').size() > 0),
 			skipPostProcessing : String($('#skipPostProcessing:checked').size() > 0),
 			cached : String($('#cached:checked').size() > 0),
+			userCached : String($('#userCached:checked').size() > 0),
 			restful : String($('#restful:checked').size() > 0),
 			template : $('#templates option:selected').val(),
 			approve : String($('#approveOnPageSave:checked, #approveOnContentSave:checked').size() > 0),